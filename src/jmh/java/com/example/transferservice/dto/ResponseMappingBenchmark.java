@@ -0,0 +1,86 @@
+package com.example.transferservice.dto;
+
+import com.example.transferservice.dto.response.account.AccountResponse;
+import com.example.transferservice.dto.response.common.ResponseData;
+import com.example.transferservice.dto.response.transaction.TransactionResponse;
+import com.example.transferservice.entity.Account;
+import com.example.transferservice.entity.Account.AccountStatus;
+import com.example.transferservice.entity.Transaction;
+import com.example.transferservice.entity.Transaction.TransactionType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 엔티티 → 응답 DTO 변환, 거래 목록 응답 JSON 직렬화
+ */
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    @Param({"50"})
+    private int pageSize;
+
+    private Account account;
+    private Transaction transaction;
+    private ResponseData<List<TransactionResponse>> page;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        account = Account.builder()
+                .id(1L)
+                .phoneNumber("01011112222")
+                .accountNumber("123-456-7890")
+                .ownerName("홍길동")
+                .balance(1_000_000L)
+                .balanceSlotCount(0)
+                .status(AccountStatus.ACTIVE)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        Account receiver = Account.builder().id(2L).build();
+        transaction = Transaction.builder()
+                .id(100L)
+                .senderAccount(account)
+                .receiverAccount(receiver)
+                .amount(10_000L)
+                .fee(100L)
+                .type(TransactionType.TRANSFER)
+                .createdAt(now)
+                .build();
+
+        List<TransactionResponse> rows = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            rows.add(TransactionResponse.fromEntity(transaction));
+        }
+        page = new ResponseData<>(rows, "MjAyNi0xMC0xN1QxMjowMDowMHwxMDA");
+
+        // Spring Boot 기본 ObjectMapper 와 같은 빌더 설정 (JavaTimeModule, 날짜 문자열 출력)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public TransactionResponse transactionResponseFromEntity() {
+        return TransactionResponse.fromEntity(transaction);
+    }
+
+    @Benchmark
+    public AccountResponse accountResponseFromEntity() {
+        return AccountResponse.fromEntity(account);
+    }
+
+    @Benchmark
+    public byte[] serializeTransactionPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.example.transferservice.exception;
+
+import com.example.transferservice.metrics.TransferMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+/**
+ * 예외 → 에러 응답 본문 생성 (GlobalExceptionHandler.buildResponse, 예외 카운터 포함)
+ */
+@State(Scope.Benchmark)
+public class ErrorResponseBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private InsufficientBalanceException exception;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler(new TransferMetrics(new SimpleMeterRegistry()));
+        exception = new InsufficientBalanceException("잔액이 부족합니다.");
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> buildResponse() {
+        return handler.buildResponse(exception, HttpStatus.BAD_REQUEST, exception.getMessage());
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> handleInsufficientBalance() {
+        return handler.handleInsufficientBalance(exception);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.example.transferservice.repository;
+
+import com.example.transferservice.dto.response.transaction.TransactionResponse;
+import com.example.transferservice.entity.Account;
+import com.example.transferservice.entity.Account.AccountStatus;
+import com.example.transferservice.entity.Transaction;
+import com.example.transferservice.entity.Transaction.TransactionType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.jpa.HibernatePersistenceProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래 내역 한 페이지 조회 : DTO 생성자 프로젝션 vs 엔티티 조회 후 변환
+ * - 내장 H2 에 실제 Hibernate 로 조회 (영속성 컨텍스트 등록, dirty checking 스냅샷, 계좌 프록시 생성 비용 포함)
+ * - 연산당 할당량은 gc 프로파일러의 gc.alloc.rate.norm 으로 비교 (build.gradle jmh.profilers)
+ */
+@State(Scope.Benchmark)
+public class TransactionProjectionBenchmark {
+
+    private static final String ENTITY_QUERY = "SELECT t FROM Transaction t " +
+            "WHERE t.senderAccountId = :accountId AND t.createdAt >= :since " +
+            "ORDER BY t.createdAt DESC, t.id DESC";
+
+    private static final String PROJECTION_QUERY = TransactionRepository.PROJECTION +
+            "WHERE t.senderAccountId = :accountId AND t.createdAt >= :since " +
+            "ORDER BY t.createdAt DESC, t.id DESC";
+
+    @Param({"50", "500"})
+    private int pageSize;
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManagerFactory entityManagerFactory;
+    private Long senderId;
+    private LocalDateTime since;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:projection-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.example.transferservice.entity");
+        factoryBean.setPersistenceProviderClass(HibernatePersistenceProvider.class);
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.jdbc.batch_size", "100"));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        since = LocalDateTime.now().minusDays(1);
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        factoryBean.destroy();
+    }
+
+    @Benchmark
+    public List<TransactionResponse> projection() {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            return em.createQuery(PROJECTION_QUERY, TransactionResponse.class)
+                    .setParameter("accountId", senderId)
+                    .setParameter("since", since)
+                    .setMaxResults(pageSize)
+                    .getResultList();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public List<TransactionResponse> entityHydration() {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            return em.createQuery(ENTITY_QUERY, Transaction.class)
+                    .setParameter("accountId", senderId)
+                    .setParameter("since", since)
+                    .setMaxResults(pageSize)
+                    .getResultList()
+                    .stream()
+                    .map(TransactionResponse::fromEntity)
+                    .toList();
+        } finally {
+            em.close();
+        }
+    }
+
+    // 송금 계좌 1 개 → 수취 계좌 1 개로 pageSize 건 이체 기록
+    private void seed() {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            Account sender = account("01011112222", "111-111-1111");
+            Account receiver = account("01033334444", "222-222-2222");
+            em.persist(sender);
+            em.persist(receiver);
+            for (int i = 0; i < pageSize; i++) {
+                em.persist(Transaction.builder()
+                        .senderAccount(sender)
+                        .receiverAccount(receiver)
+                        .amount(10_000L)
+                        .fee(100L)
+                        .type(TransactionType.TRANSFER)
+                        .build());
+            }
+            em.getTransaction().commit();
+            senderId = sender.getId();
+        } finally {
+            em.close();
+        }
+    }
+
+    private static Account account(String phoneNumber, String accountNumber) {
+        LocalDateTime now = LocalDateTime.now();
+        return Account.builder()
+                .phoneNumber(phoneNumber)
+                .accountNumber(accountNumber)
+                .ownerName("홍길동")
+                .balance(1_000_000L)
+                .balanceSlotCount(0)
+                .status(AccountStatus.ACTIVE)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.example.transferservice.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 이체 수수료 계산 (TransactionService.calculateFee)
+ */
+@State(Scope.Benchmark)
+public class FeeCalculationBenchmark {
+
+    @Param({"1", "10000", "2999999"})
+    private long amount;
+
+    @Benchmark
+    public long calculateFee() {
+        return TransactionService.calculateFee(amount, 0.01);
+    }
+}
\ No newline at end of file
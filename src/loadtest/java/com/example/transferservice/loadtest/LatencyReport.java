@@ -0,0 +1,68 @@
+package com.example.transferservice.loadtest;
+
+import com.example.transferservice.loadtest.LoadTestConfig.Operation;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업별 지연 히스토그램 + 응답 결과(HTTP 상태 / 예외) 집계
+ * - 지연은 목표 시작 시각부터 측정 (밀린 요청의 대기 시간 포함, coordinated omission 보정)
+ */
+class LatencyReport {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<String, LongAdder>> outcomes = new EnumMap<>(Operation.class);
+
+    LatencyReport() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3));
+            outcomes.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    void record(Operation operation, long latencyNanos, String outcome) {
+        histograms.get(operation).recordValue(Math.min(latencyNanos, MAX_TRACKABLE_NANOS));
+        outcomes.get(operation).computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    void print(long elapsedNanos) {
+        Histogram total = new Histogram(MAX_TRACKABLE_NANOS, 3);
+        System.out.println();
+        System.out.printf("%-10s %10s %10s %10s %10s %10s %10s  %s%n",
+                "operation", "count", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "outcomes");
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            total.add(histogram);
+            printRow(operation.name().toLowerCase(), histogram, elapsedNanos, new TreeMap<>(outcomes.get(operation)).toString());
+        }
+        printRow("total", total, elapsedNanos, "");
+    }
+
+    private void printRow(String label, Histogram histogram, long elapsedNanos, String outcome) {
+        System.out.printf("%-10s %10d %10.1f %10.2f %10.2f %10.2f %10.2f  %s%n",
+                label,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / (elapsedNanos / 1e9),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()),
+                outcome);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.example.transferservice.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (-Ploadtest.* → 시스템 프로퍼티)
+ *
+ * @param baseUrl        대상 서버 주소, 비어 있으면 H2 로 서비스를 직접 기동
+ * @param accounts       생성할 계좌 수
+ * @param hotAccounts    집중 계좌 수 (accounts 앞쪽 N 개)
+ * @param hotRatio       요청 중 집중 계좌로 가는 비율 (0 이면 균등 분포)
+ * @param rate           초당 요청 수 (목표 시작 시각 기준 open-loop)
+ * @param warmup         통계에서 제외하는 초기 구간
+ * @param duration       측정 구간
+ * @param amount         건당 금액
+ * @param initialBalance 계좌별 초기 잔액
+ * @param mix            작업별 가중치
+ */
+record LoadTestConfig(String baseUrl,
+                      int accounts,
+                      int hotAccounts,
+                      double hotRatio,
+                      int rate,
+                      Duration warmup,
+                      Duration duration,
+                      long amount,
+                      long initialBalance,
+                      Map<Operation, Integer> mix) {
+
+    enum Operation {
+        DEPOSIT, WITHDRAW, TRANSFER, HISTORY
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                System.getProperty("loadtest.base-url", ""),
+                Integer.getInteger("loadtest.accounts", 1_000),
+                Integer.getInteger("loadtest.hot-accounts", 10),
+                Double.parseDouble(System.getProperty("loadtest.hot-ratio", "0")),
+                Integer.getInteger("loadtest.rate", 500),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                Long.getLong("loadtest.amount", 100L),
+                Long.getLong("loadtest.initial-balance", 100_000_000L),
+                parseMix(System.getProperty("loadtest.mix", "deposit:30,withdraw:20,transfer:40,history:10")));
+    }
+
+    // "deposit:30,withdraw:20,..." 형식
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식이 올바르지 않습니다: " + entry);
+            }
+            mix.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+
+    boolean embedded() {
+        return baseUrl.isBlank();
+    }
+}
\ No newline at end of file
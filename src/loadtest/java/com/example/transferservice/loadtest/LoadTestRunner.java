@@ -0,0 +1,220 @@
+package com.example.transferservice.loadtest;
+
+import com.example.transferservice.TransferServiceApplication;
+import com.example.transferservice.loadtest.LoadTestConfig.Operation;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * HTTP 부하 생성기 (./gradlew loadTest)
+ * - base-url 이 없으면 loadtest 프로필(H2, MySQL 호환 모드)로 서비스를 같은 JVM 에서 기동
+ * - 계좌 N 개 생성 후 입금/출금/이체/거래 내역 조회를 목표 초당 요청 수로 호출
+ * - 작업별 처리량, 결과(HTTP 상태) 분포, p50/p99/p999 지연 출력
+ */
+public class LoadTestRunner {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Long> accountIds = new ArrayList<>();
+    private final Operation[] weightedOperations;
+
+    private LoadTestRunner(LoadTestConfig config, String baseUrl) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        this.weightedOperations = expandMix(config.mix());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        System.out.println("부하 테스트 설정: " + config);
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = config.baseUrl();
+        if (config.embedded()) {
+            SpringApplication application = new SpringApplication(TransferServiceApplication.class);
+            application.setAdditionalProfiles("loadtest");
+            context = application.run(args);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port;
+        }
+
+        try {
+            LoadTestRunner runner = new LoadTestRunner(config, baseUrl);
+            runner.seedAccounts();
+            runner.run();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    // ==============================
+    // 계좌 준비
+    // ==============================
+
+    private void seedAccounts() throws Exception {
+        long phoneBase = ThreadLocalRandom.current().nextLong(90_000_000L - config.accounts());
+        List<Future<Long>> futures = new ArrayList<>(config.accounts());
+        try (ExecutorService executor = Executors.newFixedThreadPool(32)) {
+            for (int i = 0; i < config.accounts(); i++) {
+                String phoneNumber = String.format("010%08d", phoneBase + i);
+                futures.add(executor.submit(() -> createAccount(phoneNumber)));
+            }
+        }
+        for (Future<Long> future : futures) {
+            accountIds.add(future.get());
+        }
+        System.out.printf("계좌 %,d 개 생성 (집중 계좌 %d 개, 집중 비율 %.0f%%)%n",
+                accountIds.size(), Math.min(config.hotAccounts(), accountIds.size()), config.hotRatio() * 100);
+    }
+
+    private Long createAccount(String phoneNumber) throws IOException, InterruptedException {
+        HttpResponse<String> created = client.send(post("/api/accounts",
+                "{\"ownerName\":\"부하테스트\",\"phoneNumber\":\"" + phoneNumber + "\"}"), HttpResponse.BodyHandlers.ofString());
+        if (created.statusCode() != 200) {
+            throw new IllegalStateException("계좌 생성 실패: " + created.statusCode() + " " + created.body());
+        }
+        JsonNode body = objectMapper.readTree(created.body());
+        long accountId = body.path("data").path("id").asLong();
+        client.send(post("/api/transactions/deposit",
+                "{\"accountId\":" + accountId + ",\"amount\":" + config.initialBalance() + "}"), HttpResponse.BodyHandlers.discarding());
+        return accountId;
+    }
+
+    // ==============================
+    // 부하 실행
+    // ==============================
+
+    private void run() throws InterruptedException {
+        LatencyReport warmupReport = new LatencyReport();
+        LatencyReport report = new LatencyReport();
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, config.rate());
+        long warmupNanos = config.warmup().toNanos();
+        long totalNanos = warmupNanos + config.duration().toNanos();
+
+        System.out.printf("워밍업 %ds + 측정 %ds, 목표 %,d req/s%n",
+                config.warmup().toSeconds(), config.duration().toSeconds(), config.rate());
+
+        long startedAt = System.nanoTime();
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long seq = 0; ; seq++) {
+                long offset = seq * intervalNanos;
+                if (offset >= totalNanos) {
+                    break;
+                }
+                long intendedStart = startedAt + offset;
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                LatencyReport target = offset < warmupNanos ? warmupReport : report;
+                requests.submit(() -> execute(nextOperation(), intendedStart, target));
+            }
+        }
+        report.print(config.duration().toNanos());
+    }
+
+    private void execute(Operation operation, long intendedStart, LatencyReport report) {
+        String outcome;
+        try {
+            int status = client.send(requestFor(operation), HttpResponse.BodyHandlers.discarding()).statusCode();
+            outcome = String.valueOf(status);
+        } catch (Exception e) {
+            outcome = e.getClass().getSimpleName();
+        }
+        report.record(operation, System.nanoTime() - intendedStart, outcome);
+    }
+
+    private HttpRequest requestFor(Operation operation) {
+        long accountId = pickAccount();
+        return switch (operation) {
+            case DEPOSIT -> post("/api/transactions/deposit",
+                    "{\"accountId\":" + accountId + ",\"amount\":" + config.amount() + "}");
+            case WITHDRAW -> post("/api/transactions/withdraw",
+                    "{\"accountId\":" + accountId + ",\"amount\":" + config.amount() + "}");
+            case TRANSFER -> post("/api/transactions/transfer",
+                    "{\"senderId\":" + accountId + ",\"receiverId\":" + pickOtherAccount(accountId)
+                            + ",\"amount\":" + config.amount() + "}");
+            case HISTORY -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/transactions?accountId=" + accountId + "&limit=20"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+        };
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    // hotRatio 확률로 앞쪽 집중 계좌 중 하나, 아니면 전체 중 균등 선택
+    private long pickAccount() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int hot = Math.min(config.hotAccounts(), accountIds.size());
+        if (hot > 0 && random.nextDouble() < config.hotRatio()) {
+            return accountIds.get(random.nextInt(hot));
+        }
+        return accountIds.get(random.nextInt(accountIds.size()));
+    }
+
+    private long pickOtherAccount(long accountId) {
+        long other = pickAccount();
+        while (other == accountId && accountIds.size() > 1) {
+            other = accountIds.get(ThreadLocalRandom.current().nextInt(accountIds.size()));
+        }
+        return other;
+    }
+
+    private Operation nextOperation() {
+        return weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)];
+    }
+
+    private static Operation[] expandMix(Map<Operation, Integer> mix) {
+        List<Operation> expanded = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                expanded.add(operation);
+            }
+        });
+        if (expanded.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix 가중치 합이 0 입니다.");
+        }
+        return expanded.toArray(Operation[]::new);
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(REQUEST_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
\ No newline at end of file
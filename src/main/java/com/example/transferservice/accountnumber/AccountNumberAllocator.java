@@ -0,0 +1,79 @@
+package com.example.transferservice.accountnumber;
+
+import com.example.transferservice.repository.IdAllocationRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 중복 확인 조회 없는 계좌번호 할당
+ * - id_allocations(account_numbers) 카운터를 블록 단위로 예약 (UPDATE 1회, 별도 트랜잭션으로 즉시 커밋)
+ * - 예약한 순번을 FeistelPermutation 으로 섞어 %03d-%03d-%04d 형식으로 변환
+ * - 노드마다 서로 다른 블록을 쓰므로 여러 노드에서도 겹치지 않음, 재기동 시 남은 블록 번호는 버림
+ */
+@Component
+public class AccountNumberAllocator {
+
+    private static final String ALLOCATION_NAME = "account_numbers";
+    private static final String ERR_EXHAUSTED = "발급 가능한 계좌번호를 모두 소진했습니다.";
+
+    private final IdAllocationRepository allocationRepository;
+    private final TransactionTemplate requiresNew;
+    private final FeistelPermutation permutation;
+    private final int blockSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private long next;
+    private long blockEnd;
+
+    public AccountNumberAllocator(AccountNumberProperties properties,
+                                  IdAllocationRepository allocationRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.allocationRepository = allocationRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.permutation = new FeistelPermutation(properties.getPermutationKey());
+        this.blockSize = Math.max(1, properties.getBlockSize());
+    }
+
+    public String nextAccountNumber() {
+        long sequence;
+        lock.lock();
+        try {
+            if (next >= blockEnd) {
+                reserveBlock();
+            }
+            sequence = next++;
+        } finally {
+            lock.unlock();
+        }
+        return format(permutation.permute(sequence));
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    // [end - blockSize, end) 구간 예약
+    private void reserveBlock() {
+        Long end = requiresNew.execute(status -> {
+            allocationRepository.advance(ALLOCATION_NAME, blockSize);
+            return allocationRepository.findNextVal(ALLOCATION_NAME);
+        });
+        if (end == null || end > FeistelPermutation.DOMAIN) {
+            throw new IllegalStateException(ERR_EXHAUSTED);
+        }
+        this.blockEnd = end;
+        this.next = end - blockSize;
+    }
+
+    static String format(long number) {
+        return String.format("%03d-%03d-%04d",
+                number / 10_000_000L,
+                (number / 10_000L) % 1_000L,
+                number % 10_000L);
+    }
+}
\ No newline at end of file
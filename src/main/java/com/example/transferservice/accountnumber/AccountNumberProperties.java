@@ -0,0 +1,17 @@
+package com.example.transferservice.accountnumber;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 계좌번호 할당 설정 (transfer.account-number)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transfer.account-number")
+public class AccountNumberProperties {
+
+    private int blockSize = 1_000;                      // DB 1회 예약당 번호 수
+    private long permutationKey = 0x2545F4914F6CDD1DL;  // 순번 → 계좌번호 치환 키 (운영 중 변경 금지)
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.example.transferservice.accountnumber;
+
+/**
+ * [0, 10^10) 위의 키 기반 전단사 치환
+ * - 10^10 = 10^5 x 10^5 이므로 두 절반(각 10^5)에 대한 모듈러 Feistel 로 정의역 밖으로 나가지 않음 (cycle-walking 불필요)
+ * - 서로 다른 입력은 항상 서로 다른 출력 → 순번만 겹치지 않으면 계좌번호도 유일
+ * - 암호학적 안전성 목적이 아니라 순번이 드러나지 않게 섞는 용도
+ */
+public class FeistelPermutation {
+
+    public static final long DOMAIN = 10_000_000_000L;
+
+    private static final long HALF = 100_000L;
+    private static final int ROUNDS = 8;
+
+    private final long[] roundKeys = new long[ROUNDS];
+
+    public FeistelPermutation(long key) {
+        long state = key;
+        for (int i = 0; i < ROUNDS; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            roundKeys[i] = mix(state);
+        }
+    }
+
+    public long permute(long value) {
+        checkDomain(value);
+        long left = value / HALF;
+        long right = value % HALF;
+        for (int i = 0; i < ROUNDS; i++) {
+            long next = Math.floorMod(left + round(right, i), HALF);
+            left = right;
+            right = next;
+        }
+        return left * HALF + right;
+    }
+
+    public long inverse(long value) {
+        checkDomain(value);
+        long left = value / HALF;
+        long right = value % HALF;
+        for (int i = ROUNDS - 1; i >= 0; i--) {
+            long previous = Math.floorMod(right - round(left, i), HALF);
+            right = left;
+            left = previous;
+        }
+        return left * HALF + right;
+    }
+
+    private long round(long half, int i) {
+        return Math.floorMod(mix(half ^ roundKeys[i]), HALF);
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static void checkDomain(long value) {
+        if (value < 0 || value >= DOMAIN) {
+            throw new IllegalArgumentException("치환 범위를 벗어난 값입니다: " + value);
+        }
+    }
+}
\ No newline at end of file
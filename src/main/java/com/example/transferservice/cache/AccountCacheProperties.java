@@ -0,0 +1,20 @@
+package com.example.transferservice.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 계좌 조회 캐시 설정 (transfer.account-cache)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transfer.account-cache")
+public class AccountCacheProperties {
+
+    private boolean enabled = true;
+    private long maximumSize = 10_000;              // 최대 캐시 계좌 수
+    private Duration ttl = Duration.ofSeconds(3);   // 다른 노드의 변경(무효화 미전파)도 이 시간 안에 갱신
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.example.transferservice.cache;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 계좌 정보(잔액/상태/슬롯 설정)가 바뀌었음을 알리는 이벤트
+ * - 발행한 트랜잭션이 커밋된 뒤 AccountResponseCache 가 해당 계좌를 무효화
+ */
+public record AccountChangedEvent(Collection<Long> accountIds) {
+
+    public static AccountChangedEvent of(Long... accountIds) {
+        return new AccountChangedEvent(List.of(accountIds));
+    }
+}
\ No newline at end of file
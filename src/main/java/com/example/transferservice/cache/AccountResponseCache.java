@@ -0,0 +1,119 @@
+package com.example.transferservice.cache;
+
+import com.example.transferservice.dto.response.account.AccountResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 전화번호 기준 계좌 조회 캐시 (크기/TTL 제한)
+ * - 계좌 변경은 id 로 전달되므로 id → 전화번호 인덱스로 무효화
+ * - 항목마다 로드 시작 시점의 무효화 순번을 기록하고, 조회 시 그 뒤에 같은 계좌가 무효화됐으면 버림
+ *   (조회 도중 커밋된 변경, 인덱스가 먼저 밀려나 지우지 못한 항목 모두 처리)
+ * - 무효화 기록이 밀려나면 그 순번 이전에 읽은 항목은 모두 오래된 것으로 간주 (판단 불가 시 캐시하지 않는 쪽)
+ * - 무효화는 노드 로컬 : 다른 노드의 변경은 TTL(transfer.account-cache.ttl) 안에 반영되므로 TTL 을 짧게 유지
+ * - 캐시 대상은 전화번호 조회뿐 : 계좌 id 로 AccountResponse 를 돌려주는 조회 경로가 없음
+ *   (id 기준 요약/특정 시각 잔액은 기간·시각별 응답이라 캐시하지 않음, id 조회가 생기면 id 키 항목을 같은 순번 방식으로 추가)
+ */
+@Component
+public class AccountResponseCache {
+
+    // 무효화 순번 loadedSeq 이전에 읽은 응답
+    private record Entry(AccountResponse response, long loadedSeq) {
+    }
+
+    private final boolean enabled;
+    private final Cache<String, Entry> byPhone;
+    private final Cache<Long, String> phoneById;          // 무효화용 인덱스
+    private final Cache<Long, Long> invalidatedAt;        // 계좌별 마지막 무효화 순번
+    private final AtomicLong invalidationSeq = new AtomicLong();
+    private final AtomicLong evictedInvalidationSeq = new AtomicLong();  // 밀려난 무효화 기록 중 최대 순번
+
+    public AccountResponseCache(AccountCacheProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.byPhone = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        this.phoneById = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+        // 제거와 같은 원자 연산 안에서 호출되므로 기록이 사라지기 전에 순번이 반영됨
+        this.invalidatedAt = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .<Long, Long>evictionListener((accountId, seq, cause) -> {
+                    if (seq != null) {
+                        evictedInvalidationSeq.accumulateAndGet(seq, Math::max);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 캐시 조회, 없거나 무효화 이후 항목이면 loader 로 읽어서 저장
+     */
+    public AccountResponse get(String phoneNumber, Supplier<AccountResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        long seqBeforeLoad = invalidationSeq.get();
+        AtomicBoolean loaded = new AtomicBoolean();
+        Entry entry = byPhone.get(phoneNumber, key -> {
+            loaded.set(true);
+            return new Entry(loader.get(), seqBeforeLoad);
+        });
+
+        if (isCurrent(entry)) {
+            if (loaded.get()) {
+                phoneById.put(entry.response().getId(), phoneNumber);
+            }
+            return entry.response();
+        }
+
+        // 방금 읽은 값은 응답만 하고, 남아 있던 오래된 항목은 지우고 다시 읽음
+        byPhone.asMap().remove(phoneNumber, entry);
+        return loaded.get() ? entry.response() : get(phoneNumber, loader);
+    }
+
+    /**
+     * 변경 트랜잭션 커밋 후 무효화 (트랜잭션 밖에서 발행된 이벤트는 즉시)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountChanged(AccountChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        for (Long accountId : event.accountIds()) {
+            invalidatedAt.put(accountId, invalidationSeq.incrementAndGet());
+            String phoneNumber = phoneById.getIfPresent(accountId);
+            if (phoneNumber != null) {
+                byPhone.invalidate(phoneNumber);
+            }
+        }
+    }
+
+    public CacheStats stats() {
+        return byPhone.stats();
+    }
+
+    public long size() {
+        return byPhone.estimatedSize();
+    }
+
+    private boolean isCurrent(Entry entry) {
+        Long lastInvalidated = invalidatedAt.getIfPresent(entry.response().getId());
+        long lastKnown = Math.max(lastInvalidated == null ? 0 : lastInvalidated, evictedInvalidationSeq.get());
+        return lastKnown <= entry.loadedSeq();
+    }
+}
\ No newline at end of file
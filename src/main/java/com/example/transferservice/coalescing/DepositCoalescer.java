@@ -0,0 +1,235 @@
+package com.example.transferservice.coalescing;
+
+import com.example.transferservice.entity.Transaction;
+import com.example.transferservice.replica.PrimaryStickiness;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 같은 계좌로 동시에 들어온 입금을 묶어 한 번에 적용 (transfer.deposit-coalescing.enabled=true 일 때 사용)
+ * - 계좌별 첫 요청 스레드가 leader 가 되어 window 동안(또는 maxBatchSize 가 찰 때까지) 뒤이은 요청을 모은 뒤
+ *   batchApplier 로 한 트랜잭션(잔액 UPDATE 1 회 + 거래 INSERT 배치)에 적용하고 각 요청에 자기 거래를 돌려줌
+ * - 같은 계좌에 다른 요청이 없으면 window 를 기다리지 않고 바로 적용 (경합이 있을 때만 모음)
+ * - 묶음 적용이 실패하면 건별로 다시 적용해 요청마다 자기 결과/예외를 받음
+ * - followerTimeout 안에 leader 가 가져가지 않은 요청은 묶음에서 빠져 직접 건별 적용
+ * - follower 의 입금은 leader 스레드에서 커밋되므로, 결과를 받은 요청 스레드가 직접 primary 고정 (read-your-writes)
+ * - 별도 스레드 없이 요청 스레드가 처리하므로 가상 스레드 모드에서도 그대로 동작
+ */
+@Slf4j
+@Component
+public class DepositCoalescer {
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final long followerTimeoutNanos;
+
+    // 계좌 id → 모으는 중인 묶음 (닫히면 제거)
+    private final ConcurrentHashMap<Long, Batch> open = new ConcurrentHashMap<>();
+    // 계좌 id → 결과를 기다리는 요청 수 (경합 판단)
+    private final ConcurrentHashMap<Long, Integer> pending = new ConcurrentHashMap<>();
+
+    private final DistributionSummary batchSize;
+    private final Timer waitTime;
+    private final Timer applyTime;
+    private final Counter fallbacks;
+
+    // read replica 사용 시에만 존재
+    private final ObjectProvider<PrimaryStickiness> stickiness;
+
+    public DepositCoalescer(DepositCoalescingProperties properties, MeterRegistry registry,
+                            ObjectProvider<PrimaryStickiness> stickiness) {
+        this.stickiness = stickiness;
+        this.enabled = properties.isEnabled();
+        this.windowNanos = properties.getWindow().toNanos();
+        this.maxBatchSize = Math.max(1, properties.getMaxBatchSize());
+        this.followerTimeoutNanos = properties.getFollowerTimeout().toNanos();
+
+        this.batchSize = DistributionSummary.builder("transfer.deposit_coalescing.batch_size")
+                .description("한 번에 적용한 입금 건수")
+                .register(registry);
+        this.waitTime = Timer.builder("transfer.deposit_coalescing.wait")
+                .description("요청 도착부터 묶음 적용 시작까지 대기 시간")
+                .register(registry);
+        this.applyTime = Timer.builder("transfer.deposit_coalescing.apply")
+                .description("묶음 1 회 적용 시간")
+                .register(registry);
+        this.fallbacks = Counter.builder("transfer.deposit_coalescing.fallback")
+                .description("leader 대기 시간 초과로 직접 적용한 입금 건수")
+                .register(registry);
+    }
+
+    // ==============================
+    // Public API
+    // ==============================
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 입금 1 건 제출 후 자기 결과까지 대기
+     *
+     * @param batchApplier  같은 계좌 입금 목록 → 같은 순서의 거래 목록 (한 트랜잭션)
+     * @param singleApplier 묶음 실패 시 건별 적용
+     */
+    public Transaction submit(PendingDeposit deposit,
+                              Function<List<PendingDeposit>, List<Transaction>> batchApplier,
+                              Function<PendingDeposit, Transaction> singleApplier) {
+        Waiter waiter = new Waiter(deposit, new CompletableFuture<>(), new AtomicBoolean(), System.nanoTime());
+        Long accountId = deposit.request().getAccountId();
+
+        pending.merge(accountId, 1, Integer::sum);
+        try {
+            return submit(accountId, waiter, batchApplier, singleApplier);
+        } finally {
+            pending.computeIfPresent(accountId, (id, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    private Transaction submit(Long accountId, Waiter waiter,
+                               Function<List<PendingDeposit>, List<Transaction>> batchApplier,
+                               Function<PendingDeposit, Transaction> singleApplier) {
+        Batch[] joined = new Batch[1];
+        open.compute(accountId, (id, batch) -> {
+            if (batch == null) {
+                batch = new Batch(waiter);
+            }
+            batch.waiters.add(waiter);
+            joined[0] = batch;
+            if (batch.waiters.size() >= maxBatchSize) {
+                batch.full.countDown();
+                return null;   // 가득 참 → 닫고 다음 요청은 새 묶음
+            }
+            return batch;
+        });
+
+        Batch batch = joined[0];
+        if (batch.leader == waiter) {
+            awaitFull(accountId, batch);
+            open.remove(accountId, batch);   // 이후 도착한 요청은 새 묶음으로
+            // 시간 초과로 빠져나간 요청은 제외
+            flush(batch.waiters.stream().filter(Waiter::claim).toList(), batchApplier, singleApplier);
+        }
+        Transaction applied = await(waiter, singleApplier);
+        stickiness.ifAvailable(PrimaryStickiness::markWritten);
+        return applied;
+    }
+
+    private static final class Batch {
+
+        private final Waiter leader;
+        private final List<Waiter> waiters = new ArrayList<>();  // open.compute 안에서만 추가
+        private final CountDownLatch full = new CountDownLatch(1);
+
+        private Batch(Waiter leader) {
+            this.leader = leader;
+        }
+    }
+
+    // claimed : leader 가 묶음에 넣었거나 요청 스레드가 직접 적용하기로 함 (먼저 가져간 쪽만 적용)
+    private record Waiter(PendingDeposit deposit, CompletableFuture<Transaction> future,
+                          AtomicBoolean claimed, long enqueuedAt) {
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+    // 같은 계좌에 이 요청 말고 기다리는 요청이 없으면 모으지 않음
+    private void awaitFull(Long accountId, Batch batch) {
+        if (windowNanos <= 0 || maxBatchSize == 1 || pending.getOrDefault(accountId, 0) <= 1) {
+            return;
+        }
+        try {
+            batch.full.await(windowNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush(List<Waiter> waiters,
+                       Function<List<PendingDeposit>, List<Transaction>> batchApplier,
+                       Function<PendingDeposit, Transaction> singleApplier) {
+        long start = System.nanoTime();
+        for (Waiter waiter : waiters) {
+            waitTime.record(start - waiter.enqueuedAt(), TimeUnit.NANOSECONDS);
+        }
+        batchSize.record(waiters.size());
+
+        if (waiters.size() > 1) {
+            try {
+                List<Transaction> applied = batchApplier.apply(waiters.stream().map(Waiter::deposit).toList());
+                for (int i = 0; i < waiters.size(); i++) {
+                    waiters.get(i).future().complete(applied.get(i));
+                }
+                applyTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return;
+            } catch (RuntimeException e) {
+                // 멱등 키 충돌 등 일부 요청 때문에 묶음 전체가 롤백된 경우 → 건별 처리
+                log.debug("입금 묶음 {} 건 적용 실패 - 건별 처리: {}", waiters.size(), e.getMessage());
+            }
+        }
+
+        for (Waiter waiter : waiters) {
+            try {
+                waiter.future().complete(singleApplier.apply(waiter.deposit()));
+            } catch (RuntimeException e) {
+                waiter.future().completeExceptionally(e);
+            }
+        }
+        applyTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    // followerTimeout 까지 leader 결과 대기, 그때까지 묶음에 들어가지 않았으면 직접 적용
+    private Transaction await(Waiter waiter, Function<PendingDeposit, Transaction> singleApplier) {
+        try {
+            return await(waiter.future(), followerTimeoutNanos);
+        } catch (TimeoutException e) {
+            if (waiter.claim()) {
+                fallbacks.increment();
+                return singleApplier.apply(waiter.deposit());
+            }
+            // 이미 leader 가 적용 중 → flush 가 모든 요청을 완료시키므로 끝까지 대기
+            try {
+                return await(waiter.future(), Long.MAX_VALUE);
+            } catch (TimeoutException unreachable) {
+                throw new IllegalStateException(unreachable);
+            }
+        }
+    }
+
+    private static Transaction await(CompletableFuture<Transaction> future, long timeoutNanos) throws TimeoutException {
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
\ No newline at end of file
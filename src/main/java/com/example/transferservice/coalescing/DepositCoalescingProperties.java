@@ -0,0 +1,21 @@
+package com.example.transferservice.coalescing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 같은 계좌 입금 묶음 처리 설정 (transfer.deposit-coalescing)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transfer.deposit-coalescing")
+public class DepositCoalescingProperties {
+
+    private boolean enabled = false;
+    private Duration window = Duration.ofMillis(2);   // 첫 요청 도착 후 같은 계좌 입금을 모으는 시간
+    private int maxBatchSize = 64;                    // 이 건수가 차면 window 전이라도 바로 처리
+    private Duration followerTimeout = Duration.ofSeconds(1);  // leader 가 묶음을 가져가지 않으면 이후 직접 적용
+}
\ No newline at end of file
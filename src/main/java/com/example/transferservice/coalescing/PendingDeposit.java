@@ -0,0 +1,12 @@
+package com.example.transferservice.coalescing;
+
+import com.example.transferservice.dto.request.transaction.DepositRequest;
+import com.example.transferservice.idempotency.IdempotentRequest;
+
+/**
+ * 묶음 처리 대기 중인 입금 1 건
+ *
+ * @param idempotent 멱등 키 (없으면 null)
+ */
+public record PendingDeposit(DepositRequest request, IdempotentRequest idempotent) {
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.example.transferservice.concurrency;
+
+import com.example.transferservice.exception.AccountBusyException;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 계좌 id 해시 기반 스트라이프 락
+ * - DB 트랜잭션 시작 전에 같은 계좌 요청을 JVM 내부에서 줄 세워 낙관적 락 충돌을 짧은 대기로 전환
+ * - 여러 계좌는 스트라이프 인덱스 오름차순으로 획득 (교착 방지)
+ * - 단일 노드 최적화이며 노드 간 정합성은 여전히 DB 락/버전이 보장
+ */
+@Component
+public class AccountStripedLock {
+
+    private static final String ERR_ACCOUNT_BUSY = "같은 계좌에 대한 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.";
+
+    private final boolean enabled;
+    private final long waitTimeoutNanos;
+    private final ReentrantLock[] stripes;
+
+    @Getter
+    private final Stats stats = new Stats();
+
+    public AccountStripedLock(StripedLockProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.waitTimeoutNanos = properties.getWaitTimeout().toNanos();
+        this.stripes = new ReentrantLock[ceilingPowerOfTwo(properties.getStripes())];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 주어진 계좌들의 락을 모두 획득한 상태에서 action 실행
+     *
+     * @throws AccountBusyException 대기 시간 내에 락을 얻지 못한 경우
+     */
+    public <T> T executeLocked(Supplier<T> action, Long... accountIds) {
+        if (!enabled) {
+            return action.get();
+        }
+
+        int[] indexes = stripeIndexes(accountIds);
+        int acquired = 0;
+        long startedAt = System.nanoTime();
+        try {
+            for (int index : indexes) {
+                long remaining = waitTimeoutNanos - (System.nanoTime() - startedAt);
+                if (!stripes[index].tryLock(Math.max(0, remaining), TimeUnit.NANOSECONDS)) {
+                    stats.timeouts.increment();
+                    throw new AccountBusyException(ERR_ACCOUNT_BUSY);
+                }
+                acquired++;
+            }
+            stats.record(System.nanoTime() - startedAt);
+            return action.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AccountBusyException(ERR_ACCOUNT_BUSY);
+        } finally {
+            for (int i = acquired - 1; i >= 0; i--) {
+                stripes[indexes[i]].unlock();
+            }
+        }
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    // 중복 제거 + 오름차순 정렬된 스트라이프 인덱스
+    private int[] stripeIndexes(Long... accountIds) {
+        return Arrays.stream(accountIds)
+                .mapToInt(this::stripeIndex)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    int stripeIndex(Long accountId) {
+        int h = Long.hashCode(accountId);
+        h ^= (h >>> 16);
+        return h & (stripes.length - 1);
+    }
+
+    // 현재 스레드의 해당 계좌 스트라이프 재진입 횟수 (테스트용)
+    int holdCount(Long accountId) {
+        return stripes[stripeIndex(accountId)].getHoldCount();
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        int n = Math.max(1, value);
+        return (n & (n - 1)) == 0 ? n : Integer.highestOneBit(n) << 1;
+    }
+
+    /**
+     * 락 획득 대기 통계
+     */
+    @Getter
+    public static class Stats {
+        private final LongAdder acquisitions = new LongAdder();     // 획득 성공 횟수
+        private final LongAdder totalWaitNanos = new LongAdder();   // 획득까지 대기한 총 시간
+        private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder timeouts = new LongAdder();         // 대기 시간 초과 횟수
+
+        private void record(long waitNanos) {
+            acquisitions.increment();
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulate(waitNanos);
+        }
+    }
+}
\ No newline at end of file
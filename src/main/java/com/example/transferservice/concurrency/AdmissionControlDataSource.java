@@ -0,0 +1,163 @@
+package com.example.transferservice.concurrency;
+
+import lombok.Getter;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커넥션 획득 동시 수 제한 DataSource
+ * - 가상 스레드 수천 개가 풀 획득 대기로 몰리지 않도록 공정 세마포어로 풀 크기만큼만 입장
+ * - 퍼밋은 커넥션 close(트랜잭션 종료) 시 반납
+ * - 이미 퍼밋을 가진 스레드의 추가 획득(REQUIRES_NEW, TableGenerator 의 id 블록 할당 등)은 입장 없이 통과
+ *   (퍼밋을 쥔 채 자기 퍼밋을 기다리는 교착 방지, 풀에는 그만큼 여유가 있어야 하므로 퍼밋 수는 풀 크기보다 작게)
+ */
+public class AdmissionControlDataSource extends DelegatingDataSource {
+
+    private static final String ERR_ADMISSION_TIMEOUT = "DB 커넥션 대기 시간을 초과했습니다.";
+
+    private final Semaphore permits;
+    @Getter
+    private final int maxConcurrent;
+    private final long acquireTimeoutNanos;
+    private final ThreadLocal<Holder> holders = ThreadLocal.withInitial(Holder::new);
+
+    @Getter
+    private final Stats stats = new Stats();
+
+    public AdmissionControlDataSource(DataSource target, int maxConcurrent, long acquireTimeoutNanos) {
+        super(target);
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutNanos = acquireTimeoutNanos;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return admitted(() -> obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return admitted(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+
+    public int getInUse() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    // 스레드가 지금 열어 둔 커넥션 수 (0 보다 크면 이미 퍼밋 보유)
+    private static final class Holder {
+        private int open;
+    }
+
+    private void acquire() throws SQLException {
+        long startedAt = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                stats.timeouts.increment();
+                throw new SQLTransientConnectionException(ERR_ADMISSION_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException(ERR_ADMISSION_TIMEOUT, e);
+        }
+        stats.acquisitions.increment();
+        stats.totalWaitNanos.add(System.nanoTime() - startedAt);
+    }
+
+    // 퍼밋이 없는 스레드만 입장, 실제 커넥션 획득 실패 시 퍼밋 즉시 반납
+    private Connection admitted(ConnectionSupplier supplier) throws SQLException {
+        Holder holder = holders.get();
+        boolean nested = holder.open > 0;
+        if (nested) {
+            stats.nestedAcquisitions.increment();
+        } else {
+            acquire();
+        }
+
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            if (!nested) {
+                permits.release();
+            }
+            throw e;
+        }
+        holder.open++;
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new PermitReleasingHandler(connection, holder, nested));
+    }
+
+    // close 는 한 번만 반납 (중첩 획득은 퍼밋 없이 카운트만), 나머지 호출은 그대로 위임
+    private final class PermitReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final Holder holder;
+        private final boolean nested;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingHandler(Connection target, Holder holder, boolean nested) {
+            this.target = target;
+            this.holder = holder;
+            this.nested = nested;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                try {
+                    target.close();
+                } finally {
+                    if (released.compareAndSet(false, true)) {
+                        holder.open--;
+                        if (!nested) {
+                            permits.release();
+                        }
+                    }
+                }
+                return null;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    /**
+     * 커넥션 입장 대기 통계
+     */
+    @Getter
+    public static class Stats {
+        private final LongAdder acquisitions = new LongAdder();     // 입장 성공 횟수
+        private final LongAdder totalWaitNanos = new LongAdder();   // 입장까지 대기한 총 시간
+        private final LongAdder timeouts = new LongAdder();         // 대기 시간 초과 횟수
+        private final LongAdder nestedAcquisitions = new LongAdder(); // 퍼밋 보유 스레드의 추가 획득 (입장 생략)
+    }
+}
\ No newline at end of file
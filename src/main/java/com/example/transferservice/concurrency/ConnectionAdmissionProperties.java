@@ -0,0 +1,21 @@
+package com.example.transferservice.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 커넥션 풀 앞단 동시 획득 제한 설정 (transfer.connection-admission)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transfer.connection-admission")
+public class ConnectionAdmissionProperties {
+
+    private boolean enabled = false;
+    private int maxConcurrent = 0;                          // 0 이면 Hikari maximumPoolSize - nestedReserve
+    private int nestedReserve = 2;                          // 퍼밋 보유 스레드의 추가 커넥션용으로 남겨 둘 풀 여유
+    private Duration acquireTimeout = Duration.ofSeconds(5); // 입장 대기 최대 시간
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.example.transferservice.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 잔액 변경 방식 설정 (transfer.locking.strategy)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transfer.locking")
+public class LockingProperties {
+
+    private Strategy strategy = Strategy.OPTIMISTIC;
+
+    public enum Strategy {
+        OPTIMISTIC,   // 엔티티 조회 → 검증 → @Version 체크 UPDATE
+        PESSIMISTIC,  // SELECT ... FOR UPDATE (이체 시 id 오름차순 잠금)
+        ATOMIC        // 조건부 단일 UPDATE (조회 없음, 영향 행 수로 판단)
+    }
+}
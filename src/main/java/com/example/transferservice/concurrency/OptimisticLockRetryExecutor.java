@@ -0,0 +1,90 @@
+package com.example.transferservice.concurrency;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락 충돌 시 자동 재시도
+ * - action 은 시도마다 새 트랜잭션을 열어야 함 (트랜잭션 바깥에서 호출)
+ * - 대기 시간은 지수 증가 상한 내에서 무작위 (full jitter)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptimisticLockRetryExecutor {
+
+    private final RetryProperties properties;
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        RetryProperties.Policy policy = properties.policyFor(operation);
+        Stats opStats = statsFor(operation);
+        int maxAttempts = Math.max(1, policy.getMaxAttempts());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                opStats.conflicts.increment();
+
+                if (attempt >= maxAttempts) {
+                    opStats.exhausted.increment();
+                    log.warn("낙관적 락 재시도 소진 - operation={}, attempts={}", operation, attempt);
+                    throw e;
+                }
+
+                opStats.retries.increment();
+                sleep(backoffMillis(policy, attempt));
+            }
+        }
+    }
+
+    public Stats statsFor(String operation) {
+        return stats.computeIfAbsent(operation, key -> new Stats());
+    }
+
+    public Map<String, Stats> getStats() {
+        return Map.copyOf(stats);
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    private long backoffMillis(RetryProperties.Policy policy, int attempt) {
+        double ceiling = policy.getInitialBackoff().toMillis() * Math.pow(policy.getMultiplier(), attempt - 1);
+        long capped = (long) Math.min(ceiling, policy.getMaxBackoff().toMillis());
+        return (capped <= 0) ? 0 : ThreadLocalRandom.current().nextLong(capped + 1);
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    /**
+     * 작업별 충돌/재시도/소진 횟수
+     */
+    @Getter
+    public static class Stats {
+        private final LongAdder conflicts = new LongAdder();   // 충돌 발생 (재시도 포함 전체)
+        private final LongAdder retries = new LongAdder();     // 재시도 수행
+        private final LongAdder exhausted = new LongAdder();   // 최대 시도 초과로 실패
+    }
+}
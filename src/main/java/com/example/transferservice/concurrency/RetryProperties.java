@@ -0,0 +1,62 @@
+package com.example.transferservice.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 낙관적 락 충돌 재시도 설정
+ * <pre>
+ * transfer.retry.defaults.max-attempts=5
+ * transfer.retry.operations.withdraw.max-attempts=8
+ * </pre>
+ * operations 에 없는 작업은 defaults 정책을 사용, operations 에 일부 항목만 지정하면 나머지 항목은 defaults 값을 사용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transfer.retry")
+public class RetryProperties {
+
+    private Policy defaults = Policy.builtIn();
+    private Map<String, Policy> operations = new HashMap<>();
+
+    public Policy policyFor(String operation) {
+        Policy override = operations.get(operation);
+        return override == null ? defaults : override.orElse(defaults);
+    }
+
+    /**
+     * 재시도 정책 (operations 항목은 지정하지 않은 필드가 null 이며 defaults 로 채워짐)
+     */
+    @Getter
+    @Setter
+    public static class Policy {
+        private Integer maxAttempts;        // 최초 시도 포함 최대 시도 횟수
+        private Duration initialBackoff;    // 첫 재시도 대기 상한
+        private Duration maxBackoff;        // 재시도 대기 상한
+        private Double multiplier;          // 시도마다 대기 상한 증가 배수
+
+        static Policy builtIn() {
+            Policy policy = new Policy();
+            policy.maxAttempts = 5;
+            policy.initialBackoff = Duration.ofMillis(10);
+            policy.maxBackoff = Duration.ofMillis(200);
+            policy.multiplier = 2.0;
+            return policy;
+        }
+
+        // 지정하지 않은 필드를 fallback 값으로 채운 새 정책
+        Policy orElse(Policy fallback) {
+            Policy merged = new Policy();
+            merged.maxAttempts = maxAttempts != null ? maxAttempts : fallback.maxAttempts;
+            merged.initialBackoff = initialBackoff != null ? initialBackoff : fallback.initialBackoff;
+            merged.maxBackoff = maxBackoff != null ? maxBackoff : fallback.maxBackoff;
+            merged.multiplier = multiplier != null ? multiplier : fallback.multiplier;
+            return merged;
+        }
+    }
+}
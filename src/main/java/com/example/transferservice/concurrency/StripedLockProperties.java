@@ -0,0 +1,20 @@
+package com.example.transferservice.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 계좌 단위 JVM 내부 직렬화 락 설정 (transfer.striped-lock)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transfer.striped-lock")
+public class StripedLockProperties {
+
+    private boolean enabled = true;
+    private int stripes = 1024;                           // 2의 거듭제곱으로 올림
+    private Duration waitTimeout = Duration.ofSeconds(3); // 락 대기 최대 시간
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.example.transferservice.config;
+
+import com.example.transferservice.concurrency.AdmissionControlDataSource;
+import com.example.transferservice.concurrency.ConnectionAdmissionProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(prefix = "transfer.connection-admission", name = "enabled", havingValue = "true")
+public class ConnectionAdmissionConfig {
+
+    private static final int DEFAULT_MAX_CONCURRENT = 10;  // Hikari 기본 풀 크기
+
+    // DataSource 감싸는 순서 : Hikari 를 가장 먼저 감싸 풀 크기를 읽음 (replica 지연 프록시는 ReadReplicaConfig 가 그 바깥에서 감쌈)
+    static final int ORDER = Ordered.LOWEST_PRECEDENCE - 10;
+
+    // DataSource 를 커넥션 획득 동시 수 제한 DataSource 로 감쌈 (가상 스레드 모드에서 사용)
+    @Bean
+    public static BeanPostProcessor admissionControlDataSourcePostProcessor(
+            ObjectProvider<ConnectionAdmissionProperties> properties) {
+        return new AdmissionControlDataSourcePostProcessor(properties);
+    }
+
+    private static final class AdmissionControlDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<ConnectionAdmissionProperties> properties;
+
+        private AdmissionControlDataSourcePostProcessor(ObjectProvider<ConnectionAdmissionProperties> properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof AdmissionControlDataSource) {
+                return bean;
+            }
+            ConnectionAdmissionProperties props = properties.getObject();
+            // 퍼밋 보유 스레드의 중첩 획득(REQUIRES_NEW, id 블록 할당)이 풀에서 바로 받을 수 있게 여유를 남김
+            int maxConcurrent = props.getMaxConcurrent() > 0
+                    ? props.getMaxConcurrent()
+                    : Math.max(1, poolSizeOf(dataSource) - props.getNestedReserve());
+            return new AdmissionControlDataSource(dataSource, maxConcurrent, props.getAcquireTimeout().toNanos());
+        }
+
+        @Override
+        public int getOrder() {
+            return ORDER;
+        }
+    }
+
+    private static int poolSizeOf(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        return DEFAULT_MAX_CONCURRENT;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.example.transferservice.config;
+
+import com.example.transferservice.concurrency.LockingProperties;
+import com.example.transferservice.repository.AccountRepository;
+import com.example.transferservice.service.AccountBalanceSlotService;
+import com.example.transferservice.service.locking.AccountLockingStrategy;
+import com.example.transferservice.service.locking.AtomicUpdateLockingStrategy;
+import com.example.transferservice.service.locking.OptimisticLockingStrategy;
+import com.example.transferservice.service.locking.PessimisticLockingStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LockingConfig {
+
+    // transfer.locking.strategy 값에 따라 잔액 변경 전략 선택 (잔액 분산 슬롯 계좌 처리 포함)
+    @Bean
+    public AccountLockingStrategy accountLockingStrategy(LockingProperties properties,
+                                                         AccountRepository accountRepository,
+                                                         AccountBalanceSlotService balanceSlotService) {
+        return switch (properties.getStrategy()) {
+            case OPTIMISTIC -> new OptimisticLockingStrategy(accountRepository, balanceSlotService);
+            case PESSIMISTIC -> new PessimisticLockingStrategy(accountRepository, balanceSlotService);
+            case ATOMIC -> new AtomicUpdateLockingStrategy(accountRepository, balanceSlotService);
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.transferservice.config;
+
+import com.example.transferservice.outbox.FileOutboxSink;
+import com.example.transferservice.outbox.HttpOutboxSink;
+import com.example.transferservice.outbox.InProcessOutboxSink;
+import com.example.transferservice.outbox.OutboxEventSink;
+import com.example.transferservice.outbox.OutboxProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OutboxConfig {
+
+    // transfer.outbox.sink 값에 따라 거래 이벤트 발행 대상 선택
+    @Bean
+    public OutboxEventSink outboxEventSink(OutboxProperties properties,
+                                          ApplicationEventPublisher eventPublisher,
+                                          ObjectMapper objectMapper) {
+        return switch (properties.getSink()) {
+            case IN_PROCESS -> new InProcessOutboxSink(eventPublisher);
+            case FILE -> new FileOutboxSink(properties.getFilePath(), objectMapper);
+            case HTTP -> new HttpOutboxSink(properties.getHttpUrl(), properties.getHttpTimeout(), objectMapper);
+        };
+    }
+}
\ No newline at end of file
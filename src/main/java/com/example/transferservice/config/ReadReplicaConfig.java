@@ -0,0 +1,96 @@
+package com.example.transferservice.config;
+
+import com.example.transferservice.replica.PrimaryStickiness;
+import com.example.transferservice.replica.PrimaryStickinessFilter;
+import com.example.transferservice.replica.ReadReplicaProperties;
+import com.example.transferservice.replica.ReplicaPool;
+import com.example.transferservice.replica.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(prefix = "transfer.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    // DataSource 감싸는 순서 : LazyConnectionDataSourceProxy → AdmissionControlDataSource(사용 시) → HikariDataSource
+    // - 커넥션 수 제한은 primary 풀에만 적용, replica 풀은 ReplicaPool 이 따로 관리
+    static final int ORDER = ConnectionAdmissionConfig.ORDER + 1;
+
+    @Bean(destroyMethod = "close")
+    public ReplicaPool replicaPool(ReadReplicaProperties properties) {
+        return ReplicaPool.create(properties);
+    }
+
+    // 트랜잭션 매니저 리스너 (Spring Boot 가 TransactionExecutionListener 빈을 자동 등록)
+    @Bean
+    public PrimaryStickiness primaryStickiness(ReadReplicaProperties properties) {
+        return new PrimaryStickiness(properties.getPrimaryStickiness());
+    }
+
+    // 쓰기 커밋 후 다음 요청까지 primary 고정을 이어가는 쿠키 처리
+    @Bean
+    public PrimaryStickinessFilter primaryStickinessFilter(PrimaryStickiness stickiness, ReadReplicaProperties properties) {
+        return new PrimaryStickinessFilter(stickiness, properties.getPrimaryStickiness());
+    }
+
+    // DataSource 를 지연 커넥션 프록시로 감싸 readOnly 트랜잭션은 첫 SQL 시점에 replica 커넥션 사용
+    // - JpaTransactionManager 가 트랜잭션 시작 시 지정한 readOnly 로 결정, 쓰기 트랜잭션은 항상 primary
+    @Bean
+    public static BeanPostProcessor readReplicaDataSourcePostProcessor(ObjectProvider<ReplicaPool> replicaPool,
+                                                                       ObjectProvider<PrimaryStickiness> stickiness) {
+        return new ReadReplicaDataSourcePostProcessor(replicaPool, stickiness);
+    }
+
+    private static final class ReadReplicaDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<ReplicaPool> replicaPool;
+        private final ObjectProvider<PrimaryStickiness> stickiness;
+
+        private ReadReplicaDataSourcePostProcessor(ObjectProvider<ReplicaPool> replicaPool,
+                                                   ObjectProvider<PrimaryStickiness> stickiness) {
+            this.replicaPool = replicaPool;
+            this.stickiness = stickiness;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof LazyConnectionDataSourceProxy) {
+                return bean;
+            }
+            LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(dataSource);
+            routing.setReadOnlyDataSource(
+                    new ReplicaRoutingDataSource(dataSource, replicaPool.getObject(), stickiness.getObject()));
+            return routing;
+        }
+
+        @Override
+        public int getOrder() {
+            return ORDER;
+        }
+    }
+
+    @Bean
+    public MeterBinder readReplicaMetrics(ReplicaPool replicaPool) {
+        return registry -> {
+            replicaPool.status().keySet().forEach(name ->
+                    Gauge.builder("transfer.read_replica.healthy", replicaPool,
+                                    pool -> Boolean.TRUE.equals(pool.status().get(name)) ? 1 : 0)
+                            .tag("replica", name)
+                            .register(registry));
+            FunctionCounter.builder("transfer.read_replica.connections", replicaPool.getStats(), s -> s.getServed().sum())
+                    .register(registry);
+            FunctionCounter.builder("transfer.read_replica.unavailable", replicaPool.getStats(), s -> s.getUnavailable().sum())
+                    .register(registry);
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.example.transferservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "transfer.scheduling", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+    // 백그라운드 배치 작업(@Scheduled) 활성화, transfer.scheduling.enabled=false 로 비활성화
+}
@@ -1,16 +1,23 @@
 package com.example.transferservice.controller;
 
 import com.example.transferservice.dto.request.account.AccountRequest;
+import com.example.transferservice.dto.response.account.AccountBalanceAtResponse;
 import com.example.transferservice.dto.response.account.AccountResponse;
+import com.example.transferservice.dto.response.account.AccountSummaryResponse;
 import com.example.transferservice.dto.response.common.ResponseData;
+import com.example.transferservice.service.AccountBalanceHistoryService;
 import com.example.transferservice.service.AccountService;
+import com.example.transferservice.service.AccountSummaryService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Map;
 
 @RestController
@@ -19,6 +26,8 @@ import java.util.Map;
 public class AccountController {
 
     private final AccountService accountService;
+    private final AccountSummaryService accountSummaryService;
+    private final AccountBalanceHistoryService balanceHistoryService;
 
     @Operation(summary = "계좌 생성", description = "핸드폰 인증(생략) 후 계좌를 생성합니다.")
     @PostMapping
@@ -40,6 +49,36 @@ public class AccountController {
         return ResponseData.of(response);
     }
 
+    @Operation(summary = "잔액 분산 슬롯 설정",
+            description = "입금이 몰리는 계좌의 잔액을 N 개 슬롯으로 분산합니다. 0 이면 분산을 해제합니다.")
+    @PutMapping("/{accountId}/balance-slots")
+    public ResponseData<AccountResponse> changeBalanceSlots(@PathVariable Long accountId,
+                                                            @RequestParam int count) {
+        AccountResponse accountResponse = accountService.changeBalanceSlots(accountId, count);
+        return ResponseData.of(accountResponse);
+    }
+
+    @Operation(summary = "계좌 거래 요약",
+            description = "기간(from ~ to, 일 단위 포함) 동안의 입금/출금/이체 수취·송금 합계와 건수, 수수료를 일자별로 조회합니다.")
+    @GetMapping("/{accountId}/summary")
+    public ResponseData<AccountSummaryResponse> getSummary(
+            @PathVariable Long accountId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        AccountSummaryResponse summary = accountSummaryService.getSummary(accountId, from, to);
+        return ResponseData.of(summary);
+    }
+
+    @Operation(summary = "특정 시각 잔액 조회",
+            description = "at 시각까지 생성된 거래가 반영된 잔액을 직전 잔액 스냅샷과 이후 거래 재생으로 계산합니다.")
+    @GetMapping("/{accountId}/balance")
+    public ResponseData<AccountBalanceAtResponse> getBalanceAt(
+            @PathVariable Long accountId,
+            @RequestParam("at") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        AccountBalanceAtResponse balance = balanceHistoryService.getBalanceAt(accountId, at);
+        return ResponseData.of(balance);
+    }
+
     @Operation(summary = "계좌 조회", description = "전화번호로 계좌를 조회합니다.")
     @GetMapping("/{phoneNumber}")
     public ResponseData<AccountResponse> getAccountByPhone(@PathVariable String phoneNumber) {
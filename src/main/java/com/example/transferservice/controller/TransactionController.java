@@ -2,18 +2,26 @@ package com.example.transferservice.controller;
 
 import com.example.transferservice.dto.request.transaction.DepositRequest;
 import com.example.transferservice.dto.request.transaction.WithdrawRequest;
+import com.example.transferservice.dto.request.transaction.TransferBatchRequest;
 import com.example.transferservice.dto.request.transaction.TransferRequest;
+import com.example.transferservice.dto.response.common.CursorSlice;
 import com.example.transferservice.dto.response.common.ResponseData;
 import com.example.transferservice.dto.response.transaction.TransactionResponse;
-import com.example.transferservice.entity.Transaction;
+import com.example.transferservice.dto.response.transaction.TransferBatchItemResponse;
+import com.example.transferservice.idempotency.IdempotencyService;
+import com.example.transferservice.service.TransactionExportService;
 import com.example.transferservice.service.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/transactions")
@@ -21,45 +29,83 @@ import java.util.stream.Collectors;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
+    private final IdempotencyService idempotencyService;
 
-    @Operation(summary = "입금", description = "특정 계좌에 금액을 입금합니다.")
+    @Operation(summary = "입금",
+            description = "특정 계좌에 금액을 입금합니다. Idempotency-Key 헤더를 보내면 같은 키의 재요청은 한 번만 처리됩니다.")
     @PostMapping("/deposit")
-    public ResponseData<TransactionResponse> deposit(@Valid @RequestBody DepositRequest request) {
-        Transaction transaction = transactionService.deposit(request);
-        return ResponseData.of(TransactionResponse.fromEntity(transaction));
+    public ResponseData<TransactionResponse> deposit(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody DepositRequest request) {
+        TransactionResponse response = idempotencyService.execute(idempotencyKey, TransactionService.OP_DEPOSIT, request,
+                idempotent -> transactionService.deposit(request, idempotent));
+        return ResponseData.of(response);
     }
 
-    @Operation(summary = "출금", description = "특정 계좌에서 금액을 출금합니다.")
+    @Operation(summary = "출금",
+            description = "특정 계좌에서 금액을 출금합니다. Idempotency-Key 헤더를 보내면 같은 키의 재요청은 한 번만 처리됩니다.")
     @PostMapping("/withdraw")
-    public ResponseData<TransactionResponse> withdraw(@Valid @RequestBody WithdrawRequest request) {
-        Transaction transaction = transactionService.withdraw(request);
-        return ResponseData.of(TransactionResponse.fromEntity(transaction));
+    public ResponseData<TransactionResponse> withdraw(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody WithdrawRequest request) {
+        TransactionResponse response = idempotencyService.execute(idempotencyKey, TransactionService.OP_WITHDRAW, request,
+                idempotent -> transactionService.withdraw(request, idempotent));
+        return ResponseData.of(response);
     }
 
-    @Operation(summary = "이체", description = "계좌 간 금액을 송금합니다.")
+    @Operation(summary = "이체",
+            description = "계좌 간 금액을 송금합니다. Idempotency-Key 헤더를 보내면 같은 키의 재요청은 한 번만 처리됩니다.")
     @PostMapping("/transfer")
-    public ResponseData<TransactionResponse> transfer(@Valid @RequestBody TransferRequest request) {
-        Transaction transaction = transactionService.transfer(request);
-        return ResponseData.of(TransactionResponse.fromEntity(transaction));
+    public ResponseData<TransactionResponse> transfer(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody TransferRequest request) {
+        TransactionResponse response = idempotencyService.execute(idempotencyKey, TransactionService.OP_TRANSFER, request,
+                idempotent -> transactionService.transfer(request, idempotent));
+        return ResponseData.of(response);
     }
 
-    @Operation(summary = "거래 내역 조회", description = "특정 계좌의 거래 내역 조회 또는 전체 거래 조회")
+    @Operation(summary = "일괄 이체",
+            description = "여러 건의 이체를 한 번에 처리합니다. 일부 건이 실패해도 나머지는 처리되며, 요청 순서대로 건별 결과를 반환합니다.")
+    @PostMapping("/transfers/batch")
+    public ResponseData<List<TransferBatchItemResponse>> transferBatch(@Valid @RequestBody TransferBatchRequest request) {
+        List<TransferBatchItemResponse> results = transactionService.transferBatch(request.getTransfers());
+        return ResponseData.of(results);
+    }
+
+    @Operation(summary = "거래 내역 조회",
+            description = "특정 계좌의 거래 내역 또는 전체 거래를 최신순으로 조회합니다. 응답의 nextCursor 를 after 로 전달하면 다음 페이지를 조회합니다.")
     @GetMapping
     public ResponseData<List<TransactionResponse>> getTransactionHistory(
-            @RequestParam(value = "accountId", required = false) Long accountId) {
+            @RequestParam(value = "accountId", required = false) Long accountId,
+            @RequestParam(value = "limit", defaultValue = "50") int limit,
+            @RequestParam(value = "after", required = false) String after) {
 
-        List<Transaction> transactions;
+        CursorSlice<TransactionResponse> transactions;
 
         if (accountId != null) {
-            transactions = transactionService.getTransactions(accountId);
+            transactions = transactionService.getTransactions(accountId, after, limit);
         } else {
-            transactions = transactionService.getAllTransactions();
+            transactions = transactionService.getAllTransactions(after, limit);
         }
 
-        List<TransactionResponse> responseList = transactions.stream()
-                .map(TransactionResponse::fromEntity)
-                .collect(Collectors.toList());
+        return ResponseData.fromSlice(transactions);
+    }
+
+    @Operation(summary = "거래 내역 내보내기",
+            description = "기간 내 거래 내역(특정 계좌 또는 전체)을 NDJSON 스트림으로 내려받습니다. to 를 생략하면 현재 시각까지 조회합니다.")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(value = "accountId", required = false) Long accountId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        LocalDateTime until = (to != null) ? to : LocalDateTime.now();
+        transactionExportService.validate(accountId, from, until);
 
-        return ResponseData.of(responseList);
+        StreamingResponseBody body = out -> transactionExportService.exportNdjson(accountId, from, until, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 }
\ No newline at end of file
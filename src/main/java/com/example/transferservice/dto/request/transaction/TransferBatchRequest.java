@@ -0,0 +1,18 @@
+package com.example.transferservice.dto.request.transaction;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransferBatchRequest {
+    @NotEmpty(message = "이체 목록은 필수입니다.")
+    @Valid
+    private List<TransferRequest> transfers;
+}
\ No newline at end of file
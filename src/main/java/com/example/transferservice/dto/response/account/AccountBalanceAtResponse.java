@@ -0,0 +1,20 @@
+package com.example.transferservice.dto.response.account;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 특정 시각 계좌 잔액 (snapshotAt : 재생 기준으로 사용한 스냅샷 시각, 스냅샷 없이 현재 잔액에서 역산했으면 null)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountBalanceAtResponse {
+    private Long accountId;
+    private LocalDateTime at;
+    private Long balance;
+    private LocalDateTime snapshotAt;
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.example.transferservice.dto.response.account;
+
+import com.example.transferservice.entity.AccountDailySummary;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountDailySummaryResponse {
+    private LocalDate date;              // 기간 합계는 null
+    private long depositAmount;
+    private long depositCount;
+    private long withdrawAmount;
+    private long withdrawCount;
+    private long transferInAmount;
+    private long transferInCount;
+    private long transferOutAmount;
+    private long transferOutCount;
+    private long feeAmount;
+
+    public static AccountDailySummaryResponse fromEntity(AccountDailySummary summary) {
+        return AccountDailySummaryResponse.builder()
+                .date(summary.getId().getSummaryDate())
+                .depositAmount(summary.getDepositAmount())
+                .depositCount(summary.getDepositCount())
+                .withdrawAmount(summary.getWithdrawAmount())
+                .withdrawCount(summary.getWithdrawCount())
+                .transferInAmount(summary.getTransferInAmount())
+                .transferInCount(summary.getTransferInCount())
+                .transferOutAmount(summary.getTransferOutAmount())
+                .transferOutCount(summary.getTransferOutCount())
+                .feeAmount(summary.getFeeAmount())
+                .build();
+    }
+
+    // 일자별 요약 합계
+    public static AccountDailySummaryResponse total(List<AccountDailySummaryResponse> days) {
+        AccountDailySummaryResponse total = new AccountDailySummaryResponse();
+        for (AccountDailySummaryResponse day : days) {
+            total.depositAmount += day.depositAmount;
+            total.depositCount += day.depositCount;
+            total.withdrawAmount += day.withdrawAmount;
+            total.withdrawCount += day.withdrawCount;
+            total.transferInAmount += day.transferInAmount;
+            total.transferInCount += day.transferInCount;
+            total.transferOutAmount += day.transferOutAmount;
+            total.transferOutCount += day.transferOutCount;
+            total.feeAmount += day.feeAmount;
+        }
+        return total;
+    }
+}
\ No newline at end of file
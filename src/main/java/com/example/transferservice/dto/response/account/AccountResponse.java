@@ -16,17 +16,24 @@ public class AccountResponse {
     private String accountNumber;
     private String ownerName;
     private Long balance;
+    private Integer balanceSlotCount;
     private String status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     public static AccountResponse fromEntity(Account account) {
+        return fromEntity(account, account.getBalance());
+    }
+
+    // 잔액 분산 계좌는 슬롯 합계를 더한 총 잔액으로 응답
+    public static AccountResponse fromEntity(Account account, Long totalBalance) {
         return AccountResponse.builder()
                 .id(account.getId())
                 .phoneNumber(account.getPhoneNumber())
                 .accountNumber(account.getAccountNumber())
                 .ownerName(account.getOwnerName())
-                .balance(account.getBalance())
+                .balance(totalBalance)
+                .balanceSlotCount(account.getBalanceSlotCount())
                 .status(account.getStatus().name())
                 .createdAt(account.getCreatedAt())
                 .updatedAt(account.getUpdatedAt())
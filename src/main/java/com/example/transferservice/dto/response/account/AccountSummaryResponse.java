@@ -0,0 +1,22 @@
+package com.example.transferservice.dto.response.account;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 계좌 기간 거래 요약 (거래가 있는 일자만 days 에 포함)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountSummaryResponse {
+    private Long accountId;
+    private LocalDate from;
+    private LocalDate to;
+    private AccountDailySummaryResponse total;
+    private List<AccountDailySummaryResponse> days;
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.example.transferservice.dto.response.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 조회 결과 (다음 페이지가 없으면 nextCursor = null)
+ */
+@Getter
+@AllArgsConstructor
+public class CursorSlice<T> {
+    private final List<T> content;
+    private final String nextCursor;
+}
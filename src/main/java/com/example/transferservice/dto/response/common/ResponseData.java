@@ -1,15 +1,26 @@
 package com.example.transferservice.dto.response.common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.List;
+
 @Getter
 @AllArgsConstructor
 public class ResponseData<T> {
     private final T data;
 
+    // 커서 페이지네이션 응답일 때만 포함 (다음 페이지 없으면 생략)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String nextCursor;
+
     // 편의 메서드
     public static <T> ResponseData<T> of(T data) {
-        return new ResponseData<>(data);
+        return new ResponseData<>(data, null);
+    }
+
+    public static <T> ResponseData<List<T>> fromSlice(CursorSlice<T> slice) {
+        return new ResponseData<>(slice.getContent(), slice.getNextCursor());
     }
-}
\ No newline at end of file
+}
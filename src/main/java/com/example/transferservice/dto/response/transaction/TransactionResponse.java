@@ -1,6 +1,7 @@
 package com.example.transferservice.dto.response.transaction;
 
 import com.example.transferservice.entity.Transaction;
+import com.example.transferservice.entity.Transaction.TransactionType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,6 +20,14 @@ public class TransactionResponse {
     private String type;
     private LocalDateTime createdAt;
 
+    /**
+     * JPQL 생성자 프로젝션용 (TransactionRepository.PROJECTION)
+     */
+    public TransactionResponse(Long id, Long senderAccountId, Long receiverAccountId,
+                               Long amount, Long fee, TransactionType type, LocalDateTime createdAt) {
+        this(id, senderAccountId, receiverAccountId, amount, fee, type.name(), createdAt);
+    }
+
     public static TransactionResponse fromEntity(Transaction tx) {
         return TransactionResponse.builder()
                 .id(tx.getId())
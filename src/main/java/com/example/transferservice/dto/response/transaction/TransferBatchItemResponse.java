@@ -0,0 +1,36 @@
+package com.example.transferservice.dto.response.transaction;
+
+import com.example.transferservice.entity.Transaction;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 이체 건별 결과 (요청 목록 순서와 동일)
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TransferBatchItemResponse {
+    private int index;                         // 요청 목록 내 위치 (0부터)
+    private Status status;
+    private TransactionResponse transaction;   // 성공 시 생성된 거래
+    private String message;                    // 실패 사유
+
+    public enum Status {
+        SUCCESS,                // 이체 완료
+        INSUFFICIENT_BALANCE,   // 잔액 부족
+        LIMIT_EXCEEDED,         // 일일 이체 한도 초과
+        NOT_FOUND,              // 계좌 없음/비활성
+        INVALID_REQUEST,        // 요청 자체 오류 (동일 계좌 등)
+        FAILED                  // 동시성 충돌 등 일시적 실패, 재요청 가능
+    }
+
+    public static TransferBatchItemResponse success(int index, Transaction transaction) {
+        return new TransferBatchItemResponse(index, Status.SUCCESS, TransactionResponse.fromEntity(transaction), null);
+    }
+
+    public static TransferBatchItemResponse failure(int index, Status status, String message) {
+        return new TransferBatchItemResponse(index, status, null, message);
+    }
+}
\ No newline at end of file
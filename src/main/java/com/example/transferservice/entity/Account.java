@@ -40,6 +40,9 @@ public class Account {
     @Column(nullable = false)
     private LocalDateTime updatedAt;     // 수정일
 
+    @Column(nullable = false)
+    private Integer balanceSlotCount;    // 잔액 분산 슬롯 수 (0 = 미사용)
+
     @Version
     private Long version;                // 낙관적 락 버전
 
@@ -49,6 +52,11 @@ public class Account {
         DELETED     // 삭제된 계좌
     }
 
+    // 입금 집중 계좌 여부 (잔액 일부가 account_balance_slots 에 분산 저장)
+    public boolean hasBalanceSlots() {
+        return balanceSlotCount != null && balanceSlotCount > 0;
+    }
+
     // ========================================
     // 엔티티 생성/수정 전 처리
     // ========================================
@@ -57,6 +65,7 @@ public class Account {
     public void prePersist() {
         this.balance = (balance == null) ? 0L : balance;
         this.status = (status == null) ? AccountStatus.ACTIVE : status;
+        this.balanceSlotCount = (balanceSlotCount == null) ? 0 : balanceSlotCount;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -0,0 +1,49 @@
+package com.example.transferservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 입금 집중 계좌의 잔액 분산 슬롯
+ * - 입금은 임의 슬롯 행에만 가산하여 accounts 행 경합을 N 개로 분산
+ * - 계좌 총 잔액 = accounts.balance + 슬롯 잔액 합계
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "account_balance_slots")
+public class AccountBalanceSlot {
+
+    @EmbeddedId
+    private Key id;                      // (계좌 ID, 슬롯 번호)
+
+    @Column(nullable = false)
+    private Long balance;                // 슬롯에 적립된 입금액
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;     // 수정일
+
+    // ========================================
+    // 복합 키
+    // ========================================
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor(staticName = "of")
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "account_id")
+        private Long accountId;
+
+        @Column(name = "slot_no")
+        private Integer slotNo;
+    }
+}
\ No newline at end of file
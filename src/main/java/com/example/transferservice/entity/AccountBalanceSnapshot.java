@@ -0,0 +1,49 @@
+package com.example.transferservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 잔액 주기 스냅샷
+ * - snapshotAt 까지 생성된 거래가 모두 반영된 총 잔액 (슬롯 잔액 포함)
+ * - 특정 시각 잔액 조회 시 직전 스냅샷 이후 거래만 재생
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "account_balance_snapshots")
+public class AccountBalanceSnapshot {
+
+    @EmbeddedId
+    private Key id;                      // (계좌 ID, 기준 시각)
+
+    @Column(nullable = false)
+    private Long balance;                // 기준 시각 잔액
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;     // 기록 시각
+
+    // ========================================
+    // 복합 키
+    // ========================================
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor(staticName = "of")
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "account_id")
+        private Long accountId;
+
+        @Column(name = "snapshot_at")
+        private LocalDateTime snapshotAt;
+    }
+}
\ No newline at end of file
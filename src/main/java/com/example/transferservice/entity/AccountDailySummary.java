@@ -0,0 +1,74 @@
+package com.example.transferservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌별 일일 거래 요약 (입금/출금/이체 수취·송금 합계와 건수, 수수료)
+ * - 거래 생성과 같은 DB 트랜잭션에서 누적 (AccountDailySummaryWriter)
+ * - 기간 요약 조회는 (account_id, summary_date) PK 범위 조회
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "account_daily_summary")
+public class AccountDailySummary {
+
+    @EmbeddedId
+    private Key id;                      // (계좌 ID, 거래 일자)
+
+    @Column(nullable = false)
+    private Long depositAmount;          // 입금 합계
+
+    @Column(nullable = false)
+    private Long depositCount;           // 입금 건수
+
+    @Column(nullable = false)
+    private Long withdrawAmount;         // 출금 합계 (금액)
+
+    @Column(nullable = false)
+    private Long withdrawCount;          // 출금 건수
+
+    @Column(nullable = false)
+    private Long transferInAmount;       // 이체 수취 합계
+
+    @Column(nullable = false)
+    private Long transferInCount;        // 이체 수취 건수
+
+    @Column(nullable = false)
+    private Long transferOutAmount;      // 이체 송금 합계 (금액)
+
+    @Column(nullable = false)
+    private Long transferOutCount;       // 이체 송금 건수
+
+    @Column(nullable = false)
+    private Long feeAmount;              // 부담한 수수료 합계
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;     // 수정일
+
+    // ========================================
+    // 복합 키
+    // ========================================
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor(staticName = "of")
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "account_id")
+        private Long accountId;
+
+        @Column(name = "summary_date")
+        private LocalDate summaryDate;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.example.transferservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌별 일일 출금/이체 사용량 원장
+ * - 출금/이체 시 차감과 같은 DB 트랜잭션에서 누적
+ * - 한도 체크는 누적 UPSERT 후 (account_id, usage_date) PK 단건 조회 (행 잠금 안에서 검증)
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "account_daily_usage")
+public class AccountDailyUsage {
+
+    @EmbeddedId
+    private Key id;                      // (계좌 ID, 사용 일자)
+
+    @Column(nullable = false)
+    private Long withdrawAmount;         // 당일 출금 합계 (금액 + 수수료)
+
+    @Column(nullable = false)
+    private Long transferAmount;         // 당일 이체 합계 (금액)
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;     // 수정일
+
+    // ========================================
+    // 복합 키
+    // ========================================
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor(staticName = "of")
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "account_id")
+        private Long accountId;
+
+        @Column(name = "usage_date")
+        private LocalDate usageDate;
+    }
+}
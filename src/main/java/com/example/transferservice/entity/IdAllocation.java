@@ -0,0 +1,25 @@
+package com.example.transferservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 블록 단위 번호 할당 카운터
+ * - transactions : Transaction id (@TableGenerator)
+ * - account_numbers : 계좌번호 순번
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "id_allocations")
+public class IdAllocation {
+
+    @Id
+    private String name;                 // 할당 대상
+
+    @Column(nullable = false)
+    private Long nextVal;                // 다음 할당 블록 기준 값
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.example.transferservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리 완료된 Idempotency-Key 기록
+ * - 거래 행과 같은 DB 트랜잭션에서 기록되어 재기동/다른 노드에서도 중복 처리 방지
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "idempotency_keys")
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key")
+    private String idempotencyKey;       // 클라이언트 Idempotency-Key
+
+    @Column(nullable = false)
+    private String operation;            // 작업 (deposit, withdraw, transfer)
+
+    @Column(nullable = false)
+    private String requestHash;          // 요청 본문 SHA-256
+
+    @Column(nullable = false)
+    private Long transactionId;          // 처리 결과 거래 ID
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;     // 생성일
+}
\ No newline at end of file
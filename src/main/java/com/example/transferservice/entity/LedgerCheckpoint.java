@@ -0,0 +1,24 @@
+package com.example.transferservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 메모리 원장 저널 반영 위치
+ * - projection : LedgerProjector 가 DB 에 반영한 마지막 저널 순번
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "ledger_checkpoints")
+public class LedgerCheckpoint {
+
+    @Id
+    private String name;                 // 반영 대상
+
+    @Column(nullable = false)
+    private Long lastSeq;                // 마지막 반영 저널 순번
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.example.transferservice.entity;
+
+import com.example.transferservice.entity.Transaction.TransactionType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원장 모드에서 처리 완료된 Idempotency-Key 기록
+ * - 저널 작업을 DB 에 반영하는 트랜잭션에서 기록되므로 거래 행 조회 없이 응답을 만들 수 있도록 거래 값을 함께 저장
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "ledger_idempotency_keys")
+public class LedgerIdempotencyRecord {
+
+    @Id
+    private String keyHash;              // Idempotency-Key SHA-256 앞 128 비트 (hex)
+
+    @Column(nullable = false)
+    private String requestHash;          // 요청 본문 해시 앞 128 비트 (hex)
+
+    @Column(nullable = false)
+    private Long transactionId;          // 처리 결과 거래 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;        // 거래 타입
+
+    private Long senderAccountId;        // 출금 계좌
+
+    private Long receiverAccountId;      // 입금 계좌
+
+    @Column(nullable = false)
+    private Long amount;                 // 거래 금액
+
+    @Column(nullable = false)
+    private Long fee;                    // 수수료
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;     // 거래 생성 시각
+}
\ No newline at end of file
@@ -15,8 +15,11 @@ import java.time.LocalDateTime;
 public class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id; // DB PK
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "transaction_id")
+    @TableGenerator(name = "transaction_id", table = "id_allocations",
+            pkColumnName = "name", valueColumnName = "next_val", pkColumnValue = "transactions",
+            allocationSize = 100)
+    private Long id; // DB PK (id_allocations 에서 100 개 단위로 미리 할당, INSERT JDBC 배치 가능)
 
     // ========================================
     // 계좌 정보
@@ -30,6 +33,12 @@ public class Transaction {
     @JoinColumn(name = "receiver_account_id")
     private Account receiverAccount;     // 입금 계좌 (입금 시 필수, 출금 시 null 가능)
 
+    @Column(name = "sender_account_id", insertable = false, updatable = false)
+    private Long senderAccountId;        // 출금 계좌 FK (조회 전용, 조인 없이 프로젝션용)
+
+    @Column(name = "receiver_account_id", insertable = false, updatable = false)
+    private Long receiverAccountId;      // 입금 계좌 FK (조회 전용, 조인 없이 프로젝션용)
+
     // ========================================
     // 거래 정보
     // ========================================
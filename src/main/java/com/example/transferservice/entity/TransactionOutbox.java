@@ -0,0 +1,68 @@
+package com.example.transferservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발행 대기 중인 거래 생성 이벤트 (transactional outbox)
+ * - 거래 행과 같은 DB 트랜잭션에서 기록, 발행되면 OutboxRelay 가 삭제
+ * - OutboxRelay 가 선점하면 claimToken/claimedUntil 을 채우고, 만료 전까지 다른 relay 는 가져가지 않음
+ * - 항상 새 행이므로 save() 가 조회(merge) 없이 INSERT 하도록 isNew() = true
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "transaction_outbox")
+public class TransactionOutbox implements Persistable<Long> {
+
+    @Id
+    private Long transactionId;          // 거래 ID
+
+    @Column(nullable = false)
+    private String type;                 // 거래 타입 (DEPOSIT, WITHDRAW, TRANSFER)
+
+    private Long senderAccountId;        // 출금 계좌
+
+    private Long receiverAccountId;      // 입금 계좌
+
+    @Column(nullable = false)
+    private Long amount;                 // 거래 금액
+
+    @Column(nullable = false)
+    private Long fee;                    // 수수료
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;     // 거래 생성 시각
+
+    private String claimToken;           // 선점한 relay 배치 토큰 (미선점 null)
+
+    private LocalDateTime claimedUntil;  // 선점 만료 시각 (미선점 null)
+
+    public static TransactionOutbox from(Transaction tx) {
+        return TransactionOutbox.builder()
+                .transactionId(tx.getId())
+                .type(tx.getType().name())
+                .senderAccountId(tx.getSenderAccount() != null ? tx.getSenderAccount().getId() : null)
+                .receiverAccountId(tx.getReceiverAccount() != null ? tx.getReceiverAccount().getId() : null)
+                .amount(tx.getAmount())
+                .fee(tx.getFee())
+                .createdAt(tx.getCreatedAt())
+                .build();
+    }
+
+    @Override
+    public Long getId() {
+        return transactionId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.example.transferservice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class AccountBusyException extends RuntimeException {
+    public AccountBusyException() {
+        super();
+    }
+
+    public AccountBusyException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.example.transferservice.exception;
+
+/**
+ * 일일 출금/이체 한도 초과
+ * - 기존 응답(400)과 호환되도록 잔액 부족 예외의 하위 타입
+ */
+public class DailyLimitExceededException extends InsufficientBalanceException {
+    public DailyLimitExceededException() {
+        super();
+    }
+
+    public DailyLimitExceededException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -1,6 +1,12 @@
 package com.example.transferservice.exception;
 
+import com.example.transferservice.metrics.TransferMetrics;
 import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -10,21 +16,56 @@ import org.springframework.validation.FieldError;
 
 import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Hidden
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private static final String ERR_CONCURRENT_MODIFICATION = "동시 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.";
+    private static final String ERR_DUPLICATE_VALUE = "이미 사용 중인 값과 충돌했습니다. 다시 시도해주세요.";
+    private static final String ERR_DATA_INTEGRITY = "요청을 처리하지 못했습니다.";
+
+    // 재시도 시 새 값으로 처리되는 유니크 키 (accounts.phone_number, accounts.account_number)
+    private static final List<String> RETRYABLE_UNIQUE_KEYS = List.of("phone_number", "account_number");
+
+    private final TransferMetrics metrics;
+
     @ExceptionHandler(AccountNotFoundException.class)
     public ResponseEntity<Map<String,Object>> handleAccountNotFound(AccountNotFoundException ex) {
-        return buildResponse(HttpStatus.NOT_FOUND, ex.getMessage());
+        return buildResponse(ex, HttpStatus.NOT_FOUND, ex.getMessage());
     }
 
     @ExceptionHandler(InsufficientBalanceException.class)
     public ResponseEntity<Map<String,Object>> handleInsufficientBalance(InsufficientBalanceException ex) {
-        return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+        return buildResponse(ex, HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(AccountBusyException.class)
+    public ResponseEntity<Map<String,Object>> handleAccountBusy(AccountBusyException ex) {
+        return buildResponse(ex, HttpStatus.CONFLICT, ex.getMessage());
+    }
+
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<Map<String,Object>> handleConcurrencyFailure(ConcurrencyFailureException ex) {
+        // 재시도를 모두 소진한 낙관적 락 충돌, 비관적 락 대기 시간 초과 등
+        return buildResponse(ex, HttpStatus.CONFLICT, ERR_CONCURRENT_MODIFICATION);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Map<String,Object>> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        // 동시 가입 등 전화번호/계좌번호 유니크 제약 충돌만 409 (재시도 시 새 값으로 처리)
+        if (isRetryableDuplicate(ex)) {
+            return buildResponse(ex, HttpStatus.CONFLICT, ERR_DUPLICATE_VALUE);
+        }
+        // 그 외 제약 위반(FK, NOT NULL 등)은 재시도로 해결되지 않는 서버 오류
+        log.error("데이터 무결성 위반", ex);
+        return buildResponse(ex, HttpStatus.INTERNAL_SERVER_ERROR, ERR_DATA_INTEGRITY);
     }
 
     @ExceptionHandler(Exception.class)
@@ -51,10 +92,22 @@ public class GlobalExceptionHandler {
             message = rsEx.getReason();
         }
 
-        return buildResponse(status, message);
+        return buildResponse(ex, status, message);
     }
 
-    private ResponseEntity<Map<String,Object>> buildResponse(HttpStatus status, Object message) {
+    // 제약 이름(Hibernate 추출값)이 없으면 드라이버 메시지의 키 이름으로 판단
+    private static boolean isRetryableDuplicate(DataIntegrityViolationException ex) {
+        String key = ex.getCause() instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                ? violation.getConstraintName()
+                : String.valueOf(ex.getMostSpecificCause().getMessage());
+        String normalized = key.toLowerCase(Locale.ROOT);
+        return RETRYABLE_UNIQUE_KEYS.stream().anyMatch(normalized::contains);
+    }
+
+    // JMH 벤치마크(src/jmh)에서 직접 호출하므로 package-private
+    ResponseEntity<Map<String,Object>> buildResponse(Exception ex, HttpStatus status, Object message) {
+        metrics.countHandledException(ex, status);
+
         Map<String,Object> body = new LinkedHashMap<>();
         body.put("timestamp", LocalDateTime.now());
         body.put("status", status.value());
@@ -0,0 +1,22 @@
+package com.example.transferservice.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 처리 설정 (transfer.idempotency)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transfer.idempotency")
+public class IdempotencyProperties {
+
+    private long cacheMaximumSize = 100_000;               // 메모리 캐시 최대 키 수
+    private Duration cacheTtl = Duration.ofHours(1);       // 메모리 캐시 보관 시간
+    private Duration retention = Duration.ofHours(24);     // DB 기록 보존 기간
+    private Duration inFlightWait = Duration.ofSeconds(10); // 같은 키 처리 중일 때 최대 대기 시간
+    private int cleanupBatchSize = 1_000;                  // 만료 기록 삭제 단위
+}
\ No newline at end of file
@@ -0,0 +1,200 @@
+package com.example.transferservice.idempotency;
+
+import com.example.transferservice.dto.response.transaction.TransactionResponse;
+import com.example.transferservice.entity.Transaction;
+import com.example.transferservice.repository.IdempotencyRecordRepository;
+import com.example.transferservice.repository.TransactionRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Idempotency-Key 기반 중복 요청 처리
+ * - 메모리 캐시(크기/TTL 제한) 적중 시 DB 조회 없이 이전 결과로 응답
+ * - 같은 키가 처리 중이면 새로 실행하지 않고 먼저 들어온 요청의 결과를 대기
+ * - 캐시 미스 시 idempotency_keys 조회, 없으면 실행 (기록은 거래와 같은 트랜잭션에서 TransactionService 가 수행)
+ * - 다른 노드가 같은 키를 먼저 커밋하면 PK 중복으로 롤백되고 저장된 결과로 응답
+ */
+@Component
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    // ==============================
+    // 상수
+    // ==============================
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final String ERR_INVALID_KEY = "Idempotency-Key 는 1 ~ " + MAX_KEY_LENGTH + "자여야 합니다.";
+    public static final String ERR_KEY_REUSED = "같은 Idempotency-Key 로 다른 요청이 전송되었습니다.";
+    private static final String ERR_IN_FLIGHT = "같은 Idempotency-Key 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.";
+
+    // 저장된 거래 조회 시각 범위 (처리 기록 생성 시각 기준, 거래 생성 직후 기록됨 → 월 파티션 제한)
+    private static final Duration STORED_LOOKBACK = Duration.ofHours(1);
+    private static final Duration STORED_LOOKAHEAD = Duration.ofMinutes(1);
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final TransactionRepository transactionRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration inFlightWait;
+
+    private final Cache<String, Completed> cache;
+    private final ConcurrentMap<String, CompletableFuture<Completed>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyProperties properties,
+                              IdempotencyRecordRepository recordRepository,
+                              TransactionRepository transactionRepository,
+                              ObjectMapper objectMapper) {
+        this.recordRepository = recordRepository;
+        this.transactionRepository = transactionRepository;
+        this.objectMapper = objectMapper;
+        this.inFlightWait = properties.getInFlightWait();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaximumSize())
+                .expireAfterWrite(properties.getCacheTtl())
+                .recordStats()
+                .build();
+    }
+
+    // ==============================
+    // Public API
+    // ==============================
+
+    /**
+     * 키가 없으면 그대로 실행, 있으면 키당 한 번만 실행하고 이후 요청은 같은 결과로 응답
+     *
+     * @param action 멱등 요청 정보를 받아 거래를 생성 (키가 없으면 null 전달)
+     */
+    public TransactionResponse execute(String key, String operation, Object request,
+                                       Function<IdempotentRequest, Transaction> action) {
+        if (key == null) {
+            return TransactionResponse.fromEntity(action.apply(null));
+        }
+        validateKey(key);
+        String requestHash = fingerprint(operation, request);
+
+        Completed cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return replay(cached, operation, requestHash);
+        }
+
+        CompletableFuture<Completed> mine = new CompletableFuture<>();
+        CompletableFuture<Completed> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return replay(await(running), operation, requestHash);
+        }
+
+        try {
+            Completed completed = loadStored(key)
+                    .orElseGet(() -> run(key, operation, requestHash, action));
+            cache.put(key, completed);
+            mine.complete(completed);
+            return replay(completed, operation, requestHash);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public CacheStats cacheStats() {
+        return cache.stats();
+    }
+
+    public long cacheSize() {
+        return cache.estimatedSize();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    // 처리 완료 결과 (캐시 값)
+    private record Completed(String operation, String requestHash, TransactionResponse response) {
+    }
+
+    private Completed run(String key, String operation, String requestHash,
+                          Function<IdempotentRequest, Transaction> action) {
+        try {
+            Transaction tx = action.apply(new IdempotentRequest(key, operation, requestHash));
+            return new Completed(operation, requestHash, TransactionResponse.fromEntity(tx));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드에서 같은 키가 먼저 커밋됨 → 저장된 결과 사용
+            return loadStored(key).orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<Completed> loadStored(String key) {
+        return recordRepository.findById(key)
+                .flatMap(record -> transactionRepository.findResponseById(record.getTransactionId(),
+                                record.getCreatedAt().minus(STORED_LOOKBACK), record.getCreatedAt().plus(STORED_LOOKAHEAD))
+                        .map(response -> new Completed(record.getOperation(), record.getRequestHash(), response)));
+    }
+
+    // 같은 키로 다른 작업/본문을 보낸 경우 거부
+    private TransactionResponse replay(Completed completed, String operation, String requestHash) {
+        if (!completed.operation().equals(operation) || !completed.requestHash().equals(requestHash)) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, ERR_KEY_REUSED);
+        }
+        return completed.response();
+    }
+
+    // 먼저 들어온 요청의 결과 대기 (실패했다면 같은 예외 전파)
+    private Completed await(CompletableFuture<Completed> running) {
+        try {
+            return running.get(inFlightWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, ERR_IN_FLIGHT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.CONFLICT, ERR_IN_FLIGHT);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void validateKey(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ERR_INVALID_KEY);
+        }
+    }
+
+    // 작업 + 요청 본문(JSON) SHA-256
+    private String fingerprint(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.example.transferservice.idempotency;
+
+/**
+ * TransactionService 로 전달되는 멱등 요청 정보
+ * - 거래 생성과 같은 트랜잭션에서 idempotency_keys 에 기록
+ */
+public record IdempotentRequest(String key, String operation, String requestHash) {
+}
\ No newline at end of file
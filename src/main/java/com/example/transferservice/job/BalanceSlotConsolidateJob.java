@@ -0,0 +1,39 @@
+package com.example.transferservice.job;
+
+import com.example.transferservice.repository.AccountRepository;
+import com.example.transferservice.service.AccountBalanceSlotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 잔액 분산 슬롯 주기적 합산
+ * - 슬롯에 쌓인 입금액을 accounts.balance 로 옮겨 출금 시 합산 비용과 슬롯 잔액 편중을 줄임
+ * - 계좌 단위로 별도 트랜잭션, 한 계좌 실패가 다른 계좌에 영향 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceSlotConsolidateJob {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceSlotService balanceSlotService;
+
+    @Scheduled(fixedDelayString = "${transfer.balance-slots.consolidate-interval:PT1M}")
+    public void consolidateAll() {
+        int consolidated = 0;
+        for (Long accountId : accountRepository.findIdsWithBalanceSlots()) {
+            try {
+                if (balanceSlotService.consolidate(accountId) > 0) {
+                    consolidated++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("잔액 슬롯 합산 실패 - accountId={}, reason={}", accountId, e.getMessage());
+            }
+        }
+        if (consolidated > 0) {
+            log.info("잔액 슬롯 합산 완료 - accounts={}", consolidated);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.transferservice.job;
+
+import com.example.transferservice.snapshot.AccountBalanceSnapshotter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 잔액 주기 스냅샷 (특정 시각 잔액 조회의 재생 구간을 스냅샷 주기로 제한)
+ */
+@Component
+@RequiredArgsConstructor
+public class BalanceSnapshotJob {
+
+    private final AccountBalanceSnapshotter snapshotter;
+
+    @Scheduled(cron = "${transfer.balance-snapshots.cron:0 5 * * * *}")
+    public void snapshot() {
+        snapshotter.snapshot(LocalDateTime.now());
+    }
+}
\ No newline at end of file
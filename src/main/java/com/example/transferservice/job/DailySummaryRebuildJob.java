@@ -0,0 +1,28 @@
+package com.example.transferservice.job;
+
+import com.example.transferservice.summary.AccountDailySummaryRebuilder;
+import com.example.transferservice.summary.DailySummaryProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 계좌별 일일 요약 정합성 보정 작업
+ * - 확정된 일자(어제부터 rebuildDays 일 전까지)를 transactions 기준으로 재계산
+ * - 당일 요약은 거래 생성 시 누적 값을 그대로 사용 (진행 중인 거래와 경합하지 않도록 제외)
+ */
+@Component
+@RequiredArgsConstructor
+public class DailySummaryRebuildJob {
+
+    private final AccountDailySummaryRebuilder rebuilder;
+    private final DailySummaryProperties properties;
+
+    @Scheduled(cron = "${transfer.daily-summary.rebuild-cron:0 0 4 * * *}")
+    public void rebuildRecentDays() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        rebuilder.rebuild(yesterday.minusDays(Math.max(1, properties.getRebuildDays()) - 1L), yesterday);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.example.transferservice.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일일 사용량 원장 백필/정합성 보정 작업
+ * - 기동 시 오늘 사용량을 transactions 기준으로 백필
+ * - 주기적으로 오늘/어제 사용량을 transactions 기준으로 재계산
+ * - 집계는 트랜잭션 밖의 일반 SELECT (잠금 없는 일관된 읽기) 로 수행하고, 계좌별 upsert 는 BATCH_SIZE 단위의
+ *   짧은 READ_COMMITTED 트랜잭션으로 나눔 (INSERT ... SELECT 가 created_at 범위에 next-key 잠금을 걸어
+ *   새 거래 INSERT 를 막거나 출금/이체 누적 upsert 와 교착되지 않도록)
+ * - 진행 중인 날 (오늘) 은 원장 값보다 클 때만 올림 : 집계 이후 커밋된 누적분을 잃지 않도록 (과다 집계는 낮추지 않음)
+ * - 마감된 날 (자정 + CLOSE_MARGIN 경과) 은 transactions 기준 값으로 덮어씀 : 과다 집계도 바로잡음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyUsageReconcileJob {
+
+    // 계좌별 upsert 트랜잭션 1 개당 행 수
+    static final int BATCH_SIZE = 500;
+
+    // 자정 직전에 시작해 자정 이후 커밋된 거래가 반영될 때까지의 여유 (이 시간이 지나야 마감된 날로 보고 덮어씀)
+    static final Duration CLOSE_MARGIN = Duration.ofMinutes(5);
+
+    private static final String SELECT_USAGE =
+            "SELECT t.sender_account_id, " +
+                    "       COALESCE(SUM(CASE WHEN t.type = 'WITHDRAW' THEN t.amount + t.fee ELSE 0 END), 0), " +
+                    "       COALESCE(SUM(CASE WHEN t.type = 'TRANSFER' THEN t.amount ELSE 0 END), 0) " +
+                    "FROM transactions t " +
+                    "WHERE t.sender_account_id IS NOT NULL " +
+                    "AND t.type IN ('WITHDRAW', 'TRANSFER') " +
+                    "AND t.created_at >= ? " +
+                    "AND t.created_at < ? " +
+                    "GROUP BY t.sender_account_id";
+
+    // 진행 중인 날 : 원장 값보다 클 때만 올림 (한도를 다시 열지 않음)
+    private static final String RAISE_USAGE =
+            "INSERT INTO account_daily_usage (account_id, usage_date, withdraw_amount, transfer_amount, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE withdraw_amount = GREATEST(withdraw_amount, VALUES(withdraw_amount)), " +
+                    "                        transfer_amount = GREATEST(transfer_amount, VALUES(transfer_amount)), " +
+                    "                        updated_at = VALUES(updated_at)";
+
+    // 마감된 날 : transactions 기준 값으로 덮어씀
+    private static final String OVERWRITE_USAGE =
+            "INSERT INTO account_daily_usage (account_id, usage_date, withdraw_amount, transfer_amount, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE withdraw_amount = VALUES(withdraw_amount), " +
+                    "                        transfer_amount = VALUES(transfer_amount), " +
+                    "                        updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        reconcile(LocalDate.now(), LocalDateTime.now());
+    }
+
+    @Scheduled(cron = "${transfer.daily-usage.reconcile-cron:0 */10 * * * *}")
+    public void reconcileRecentDays() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        reconcile(today.minusDays(1), now);
+        reconcile(today, now);
+    }
+
+    /**
+     * 특정 일자의 사용량을 transactions 기준 값으로 보정
+     * - 마감된 날이면 덮어쓰고, 아니면 원장 값이 더 작을 때만 올림
+     *
+     * @return upsert 한 계좌 수
+     */
+    public int reconcile(LocalDate usageDate, LocalDateTime now) {
+        LocalDateTime startOfDay = usageDate.atStartOfDay();
+        LocalDateTime startOfNextDay = usageDate.plusDays(1).atStartOfDay();
+        boolean closed = !now.isBefore(startOfNextDay.plus(CLOSE_MARGIN));
+
+        Date date = Date.valueOf(usageDate);
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        List<Object[]> rows = new ArrayList<>();
+        jdbcTemplate.query(SELECT_USAGE,
+                rs -> {
+                    rows.add(new Object[]{rs.getLong(1), date, rs.getLong(2), rs.getLong(3), updatedAt});
+                },
+                Timestamp.valueOf(startOfDay), Timestamp.valueOf(startOfNextDay));
+
+        String upsert = closed ? OVERWRITE_USAGE : RAISE_USAGE;
+        TransactionTemplate chunkTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        chunkTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            List<Object[]> chunk = rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()));
+            chunkTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(upsert, chunk));
+        }
+        log.info("일일 사용량 재계산 완료 - date={}, closed={}, accounts={}", usageDate, closed, rows.size());
+        return rows.size();
+    }
+}
\ No newline at end of file
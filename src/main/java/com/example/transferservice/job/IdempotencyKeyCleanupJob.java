@@ -0,0 +1,54 @@
+package com.example.transferservice.job;
+
+import com.example.transferservice.idempotency.IdempotencyProperties;
+import com.example.transferservice.repository.IdempotencyRecordRepository;
+import com.example.transferservice.repository.LedgerIdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보존 기간이 지난 Idempotency-Key 기록 정리
+ * - 잠금 시간을 짧게 유지하도록 cleanup-batch-size 건씩 나눠 삭제
+ * - 원장 모드 키(ledger_idempotency_keys)도 같은 보존 기간으로 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyKeyCleanupJob {
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final LedgerIdempotencyRecordRepository ledgerRecordRepository;
+    private final IdempotencyProperties properties;
+
+    @Scheduled(cron = "${transfer.idempotency.cleanup-cron:0 0 * * * *}")
+    public void deleteExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        int batchSize = properties.getCleanupBatchSize();
+
+        long deleted = deleteAll(cutoff, batchSize, recordRepository::deleteCreatedBefore)
+                + deleteAll(cutoff, batchSize, ledgerRecordRepository::deleteCreatedBefore);
+
+        if (deleted > 0) {
+            log.info("만료 Idempotency-Key 정리 완료 - cutoff={}, deleted={}", cutoff, deleted);
+        }
+    }
+
+    private static long deleteAll(LocalDateTime cutoff, int batchSize, BatchDelete delete) {
+        long deleted = 0;
+        int affected;
+        do {
+            affected = delete.apply(cutoff, batchSize);
+            deleted += affected;
+        } while (affected == batchSize);
+        return deleted;
+    }
+
+    @FunctionalInterface
+    private interface BatchDelete {
+        int apply(LocalDateTime cutoff, int limit);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.transferservice.job;
+
+import com.example.transferservice.outbox.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 거래 이벤트 outbox 주기 발행
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "transfer.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayJob {
+
+    private final OutboxRelay outboxRelay;
+
+    @Scheduled(fixedDelayString = "${transfer.outbox.poll-interval:PT0.5S}")
+    public void relay() {
+        outboxRelay.relayPending();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.example.transferservice.job;
+
+import com.example.transferservice.partition.TransactionPartitionManager;
+import com.example.transferservice.partition.TransactionPartitionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * transactions 월 파티션 유지 (다음 달 파티션 미리 생성 → 보존 기간 지난 파티션 archive 이동)
+ * - 기동 시에도 파티션 생성 (V11 은 적용 시점의 이번 달 파티션까지만 만듦)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionPartitionJob {
+
+    private final TransactionPartitionManager partitionManager;
+    private final TransactionPartitionProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createPartitionsOnStartup() {
+        partitionManager.createUpcomingPartitions(LocalDate.now());
+    }
+
+    @Scheduled(cron = "${transfer.transaction-partitions.maintenance-cron:0 30 3 * * *}")
+    public void maintain() {
+        LocalDate today = LocalDate.now();
+        partitionManager.createUpcomingPartitions(today);
+
+        if (properties.isArchiveEnabled()) {
+            long moved = partitionManager.archiveExpiredPartitions(today);
+            if (moved > 0) {
+                log.info("거래 archive 이동 완료 - cutoff={}, rows={}", properties.retentionStart(today), moved);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.example.transferservice.ledger;
+
+import java.time.LocalDate;
+
+/**
+ * 원장 엔진이 메모리에 보관하는 계좌 상태 (writer 스레드 전용, 동기화 없음)
+ */
+final class LedgerAccount {
+
+    final long id;
+    boolean active;
+    long balance;
+    LocalDate usageDate;     // 아래 사용량의 기준 일자
+    long withdrawToday;      // 당일 출금 합계
+    long transferToday;      // 당일 이체 합계
+
+    LedgerAccount(long id, boolean active, long balance, LocalDate usageDate, long withdrawToday, long transferToday) {
+        this.id = id;
+        this.active = active;
+        this.balance = balance;
+        this.usageDate = usageDate;
+        this.withdrawToday = withdrawToday;
+        this.transferToday = transferToday;
+    }
+
+    // 날짜가 바뀌었으면 당일 사용량 초기화
+    void rollUsage(LocalDate today) {
+        if (!today.equals(usageDate)) {
+            usageDate = today;
+            withdrawToday = 0;
+            transferToday = 0;
+        }
+    }
+
+    LedgerAccount copy() {
+        return new LedgerAccount(id, active, balance, usageDate, withdrawToday, transferToday);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,565 @@
+package com.example.transferservice.ledger;
+
+import com.example.transferservice.cache.AccountChangedEvent;
+import com.example.transferservice.entity.Account;
+import com.example.transferservice.entity.AccountDailyUsage;
+import com.example.transferservice.entity.Transaction.TransactionType;
+import com.example.transferservice.exception.AccountNotFoundException;
+import com.example.transferservice.exception.DailyLimitExceededException;
+import com.example.transferservice.exception.InsufficientBalanceException;
+import com.example.transferservice.repository.AccountDailyUsageRepository;
+import com.example.transferservice.repository.AccountRepository;
+import com.example.transferservice.repository.LedgerCheckpointRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.example.transferservice.idempotency.IdempotencyService.ERR_KEY_REUSED;
+import static com.example.transferservice.service.TransactionService.DAILY_TRANSFER_LIMIT;
+import static com.example.transferservice.service.TransactionService.DAILY_WITHDRAW_LIMIT;
+import static com.example.transferservice.service.TransactionService.ERR_DAILY_TRANSFER_LIMIT;
+import static com.example.transferservice.service.TransactionService.ERR_DAILY_WITHDRAW_LIMIT;
+
+/**
+ * 메모리 원장 엔진 (transfer.ledger.enabled=true 일 때만 기동)
+ * - 잔액/당일 사용량을 단일 writer 스레드가 메모리에서 검증·변경하므로 계좌 잠금/재시도 없음
+ * - 큐에 쌓인 요청을 최대 groupCommitMaxBatch 건씩 적용 → 저널 기록 + fsync 1 회 → 요청 스레드 응답 (group commit)
+ * - DB(accounts, transactions, account_daily_usage)는 LedgerProjector 가 저널을 따라가며 비동기로 반영
+ * - 기동 시 스냅샷(없으면 DB 반영 위치) 이후 저널을 재생해 메모리 상태 복구
+ * - 계좌는 첫 요청 시 DB 에서 적재, 잔액 분산 슬롯 사용 계좌는 처리하지 않음
+ * - 멱등 키는 작업과 함께 저널에 기록하고 writer 가 중복을 걸러냄 (DB 반영 후 유예 시간이 지나면 메모리에서 제거,
+ *   이후 중복은 요청 스레드가 ledger_idempotency_keys 에서 찾음)
+ */
+@Slf4j
+@Component
+public class LedgerEngine implements SmartLifecycle {
+
+    // ==============================
+    // 상수
+    // ==============================
+    private static final String ERR_ACCOUNT_NOT_FOUND = "계좌를 찾을 수 없습니다.";
+    private static final String ERR_INSUFFICIENT_BALANCE = "잔액이 부족합니다.";
+    private static final String ERR_BALANCE_SLOTS = "잔액 분산 슬롯을 사용하는 계좌는 원장 모드에서 처리할 수 없습니다.";
+    private static final String ERR_BUSY = "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.";
+    private static final String ERR_NOT_RUNNING = "원장 엔진이 실행 중이 아닙니다.";
+    private static final String ERR_TIMEOUT = "원장 처리 결과를 기다리는 중 시간이 초과되었습니다.";
+
+    public static final String PROJECTION_CHECKPOINT = "projection";
+
+    // 웹 서버(DEFAULT_PHASE - 1024) 보다 먼저 기동, 나중에 종료
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final long POLL_MILLIS = 100;
+
+    private final LedgerProperties properties;
+    private final AccountRepository accountRepository;
+    private final AccountDailyUsageRepository dailyUsageRepository;
+    private final LedgerCheckpointRepository checkpointRepository;
+
+    private final BlockingQueue<Command> queue;
+    private final Map<Long, LedgerAccount> accounts = new HashMap<>();   // writer 스레드 전용
+    private final ExecutorService snapshotExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("ledger-snapshot").daemon().factory());
+
+    private LedgerJournal journal;
+    private LedgerSnapshotStore snapshotStore;
+    private Thread writer;
+    private volatile boolean running;
+    private long lastSeq;             // 마지막으로 부여한 순번 (writer 스레드 전용)
+    private long lastSnapshotSeq;
+    private long lastSnapshotAt;
+
+    // 멱등 키 → 작업 (writer 스레드 전용, DB 반영 + 유예 시간 경과 후 제거)
+    private final Map<String, LedgerOp> keyedOps = new HashMap<>();
+    private final Deque<LedgerOp> keyedOrder = new ArrayDeque<>();
+    private final Deque<ProjectionMark> projectionMarks = new ArrayDeque<>();
+    private volatile long projectedSeq;   // LedgerProjector 가 커밋한 순번
+    private long lastMarkedSeq;
+
+    public LedgerEngine(LedgerProperties properties,
+                        AccountRepository accountRepository,
+                        AccountDailyUsageRepository dailyUsageRepository,
+                        LedgerCheckpointRepository checkpointRepository,
+                        MeterRegistry registry) {
+        this.properties = properties;
+        this.accountRepository = accountRepository;
+        this.dailyUsageRepository = dailyUsageRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+
+        Gauge.builder("transfer.ledger.queue.size", queue, BlockingQueue::size)
+                .description("원장 엔진 대기 요청 수")
+                .register(registry);
+    }
+
+    // ==============================
+    // Public API
+    // ==============================
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public LedgerOp deposit(long accountId, long amount) {
+        return deposit(accountId, amount, LedgerOp.Key.NONE);
+    }
+
+    /**
+     * 입금 (같은 멱등 키의 작업이 이미 있으면 적용하지 않고 그 작업 반환)
+     */
+    public LedgerOp deposit(long accountId, long amount, LedgerOp.Key key) {
+        return submit(key, seq -> {
+            LedgerAccount account = activeAccount(accountId);
+            account.balance += amount;
+            return new LedgerOp(seq, TransactionType.DEPOSIT, 0, accountId, amount, 0,
+                    0, account.balance, System.currentTimeMillis(), key);
+        });
+    }
+
+    public LedgerOp withdraw(long accountId, long amount) {
+        return withdraw(accountId, amount, LedgerOp.Key.NONE);
+    }
+
+    public LedgerOp withdraw(long accountId, long amount, LedgerOp.Key key) {
+        return submit(key, seq -> {
+            LedgerAccount account = activeAccount(accountId);
+            account.rollUsage(LocalDate.now());
+            if (account.withdrawToday + amount >= DAILY_WITHDRAW_LIMIT) {
+                throw new DailyLimitExceededException(String.format(ERR_DAILY_WITHDRAW_LIMIT, DAILY_WITHDRAW_LIMIT));
+            }
+            if (account.balance < amount) {
+                throw new InsufficientBalanceException(ERR_INSUFFICIENT_BALANCE);
+            }
+            account.balance -= amount;
+            account.withdrawToday += amount;
+            return new LedgerOp(seq, TransactionType.WITHDRAW, accountId, 0, amount, 0,
+                    account.balance, 0, System.currentTimeMillis(), key);
+        });
+    }
+
+    /**
+     * 이체 (송금 계좌에서 amount + fee 차감, 수취 계좌에 amount 가산)
+     */
+    public LedgerOp transfer(long senderId, long receiverId, long amount, long fee) {
+        return transfer(senderId, receiverId, amount, fee, LedgerOp.Key.NONE);
+    }
+
+    public LedgerOp transfer(long senderId, long receiverId, long amount, long fee, LedgerOp.Key key) {
+        return submit(key, seq -> {
+            LedgerAccount sender = activeAccount(senderId);
+            LedgerAccount receiver = activeAccount(receiverId);
+            sender.rollUsage(LocalDate.now());
+            if (sender.transferToday + amount >= DAILY_TRANSFER_LIMIT) {
+                throw new DailyLimitExceededException(String.format(ERR_DAILY_TRANSFER_LIMIT, DAILY_TRANSFER_LIMIT));
+            }
+            if (sender.balance < amount + fee) {
+                throw new InsufficientBalanceException(ERR_INSUFFICIENT_BALANCE);
+            }
+            sender.balance -= amount + fee;
+            receiver.balance += amount;
+            sender.transferToday += amount;
+            return new LedgerOp(seq, TransactionType.TRANSFER, senderId, receiverId, amount, fee,
+                    sender.balance, receiver.balance, System.currentTimeMillis(), key);
+        });
+    }
+
+    /**
+     * 계좌 생성/삭제/슬롯 변경 시 메모리에 올라온 계좌를 다음 요청 전에 다시 적재
+     * - 잔액은 메모리 값이 기준이므로 상태(삭제 여부)만 갱신, 커밋된 상태를 읽도록 커밋 후 처리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountChanged(AccountChangedEvent event) {
+        if (!running) {
+            return;
+        }
+        for (Long accountId : event.accountIds()) {
+            queue.offer(new Command(seq -> {
+                LedgerAccount account = accounts.get(accountId);
+                if (account != null) {
+                    account.active = accountRepository.findById(accountId).map(LedgerEngine::isUsable).orElse(false);
+                }
+                return null;
+            }, LedgerOp.Key.NONE, null, System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * DB 반영 대상 저널 (LedgerProjector 전용)
+     */
+    LedgerJournal journal() {
+        return journal;
+    }
+
+    /**
+     * seq 까지 DB 반영 커밋됨 (LedgerProjector 전용, ledger_idempotency_keys 도 같은 트랜잭션에서 기록됨)
+     */
+    void markProjected(long seq) {
+        projectedSeq = seq;
+    }
+
+    // ==============================
+    // SmartLifecycle
+    // ==============================
+
+    @Override
+    public synchronized void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        journal = new LedgerJournal(properties.getDirectory(), properties.getSegmentSize());
+        snapshotStore = new LedgerSnapshotStore(properties.getDirectory());
+        recover();
+
+        running = true;
+        writer = Thread.ofPlatform().name("ledger-writer").start(this::runWriter);
+        log.info("원장 엔진 기동 - 순번 {}, 메모리 계좌 {} 개", lastSeq, accounts.size());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join();
+            snapshotExecutor.shutdown();
+            snapshotExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        journal.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    // ==============================
+    // Writer 스레드
+    // ==============================
+
+    // 적용 결과 op 반환, 상태만 바꾸는 명령은 null (순번 소비 없음)
+    @FunctionalInterface
+    private interface Action {
+        LedgerOp apply(long seq);
+    }
+
+    private record Command(Action action, LedgerOp.Key key, CompletableFuture<LedgerOp> future, long enqueuedAt) {
+    }
+
+    // DB 반영이 관측된 순번과 시각 (유예 시간 계산용)
+    private record ProjectionMark(long seq, long observedAt) {
+    }
+
+    private LedgerOp submit(LedgerOp.Key key, Action action) {
+        if (!running) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ERR_NOT_RUNNING);
+        }
+        CompletableFuture<LedgerOp> future = new CompletableFuture<>();
+        if (!queue.offer(new Command(action, key, future, System.currentTimeMillis()))) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ERR_BUSY);
+        }
+        try {
+            return future.get(properties.getRequestTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            // 이후 적용될 수 있으므로 재요청은 멱등 키로 보호해야 함
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ERR_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ERR_TIMEOUT);
+        }
+    }
+
+    private void runWriter() {
+        int maxBatch = Math.max(1, properties.getGroupCommitMaxBatch());
+        List<Command> batch = new ArrayList<>(maxBatch);
+        List<Command> applied = new ArrayList<>(maxBatch);
+        List<LedgerOp> results = new ArrayList<>(maxBatch);
+        List<LedgerOp> ops = new ArrayList<>(maxBatch);
+
+        // 종료 요청 후에도 이미 받은 요청은 처리
+        while (running || !queue.isEmpty()) {
+            try {
+                Command first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, maxBatch - 1);
+                    applyBatch(batch, applied, results, ops);
+                }
+                evictProjectedKeys();
+                maybeSnapshot(false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (IOException e) {
+                // 저널 기록 실패 → 메모리 상태와 저널이 어긋났으므로 더 이상 처리하지 않음
+                log.error("원장 저널 기록 실패 - 엔진 중지", e);
+                running = false;
+                fail(applied, e);
+                fail(new ArrayList<>(queue), e);
+                queue.clear();
+                return;
+            } finally {
+                batch.clear();
+                applied.clear();
+                results.clear();
+                ops.clear();
+            }
+        }
+        maybeSnapshot(true);
+    }
+
+    // 중복 요청도 이번 배치 fsync 후 응답 (같은 배치에 먼저 적용된 작업일 수 있음)
+    private void applyBatch(List<Command> batch, List<Command> applied,
+                            List<LedgerOp> results, List<LedgerOp> ops) throws IOException {
+        for (Command command : batch) {
+            try {
+                LedgerOp duplicate = findDuplicate(command);
+                if (duplicate != null) {
+                    applied.add(command);
+                    results.add(duplicate);
+                    continue;
+                }
+                LedgerOp op = command.action().apply(lastSeq + 1);
+                if (op == null) {
+                    continue;
+                }
+                lastSeq = op.seq();
+                rememberKey(op);
+                ops.add(op);
+                applied.add(command);
+                results.add(op);
+            } catch (RuntimeException e) {
+                // 검증 실패는 상태를 바꾸기 전에 던지므로 해당 요청만 실패
+                if (command.future() != null) {
+                    command.future().completeExceptionally(e);
+                }
+            }
+        }
+
+        journal.append(ops);
+        for (int i = 0; i < applied.size(); i++) {
+            applied.get(i).future().complete(results.get(i));
+        }
+    }
+
+    /**
+     * 같은 멱등 키로 이미 적용된 작업 (없으면 null)
+     * - 요청 스레드는 ledger_idempotency_keys 를 먼저 확인하고 넣으므로 requestTimeout 보다 오래 대기한 명령은 적용하지 않음
+     *   (키는 DB 반영 후 requestTimeout × 2 동안 남으므로 DB 확인 ~ 적용 사이에 키가 사라지지 않음)
+     */
+    private LedgerOp findDuplicate(Command command) {
+        if (command.key().isNone()) {
+            return null;
+        }
+        if (System.currentTimeMillis() - command.enqueuedAt() > properties.getRequestTimeout().toMillis()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ERR_TIMEOUT);
+        }
+        LedgerOp existing = keyedOps.get(command.key().hashHex());
+        if (existing != null && !existing.key().sameRequest(command.key())) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, ERR_KEY_REUSED);
+        }
+        return existing;
+    }
+
+    private void rememberKey(LedgerOp op) {
+        if (!op.key().isNone()) {
+            keyedOps.put(op.key().hashHex(), op);
+            keyedOrder.add(op);
+        }
+    }
+
+    // DB 반영이 관측된 뒤 유예 시간(requestTimeout × 2)이 지난 키만 제거
+    private void evictProjectedKeys() {
+        long now = System.currentTimeMillis();
+        long projected = projectedSeq;
+        if (projected > lastMarkedSeq) {
+            projectionMarks.add(new ProjectionMark(projected, now));
+            lastMarkedSeq = projected;
+        }
+        long grace = properties.getRequestTimeout().toMillis() * 2;
+        long evictUpTo = 0;
+        while (!projectionMarks.isEmpty() && now - projectionMarks.peek().observedAt() >= grace) {
+            evictUpTo = projectionMarks.poll().seq();
+        }
+        while (!keyedOrder.isEmpty() && keyedOrder.peek().seq() <= evictUpTo) {
+            LedgerOp op = keyedOrder.poll();
+            keyedOps.remove(op.key().hashHex(), op);
+        }
+    }
+
+    private void fail(List<Command> commands, Exception cause) {
+        ResponseStatusException e = new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ERR_NOT_RUNNING, cause);
+        for (Command command : commands) {
+            if (command.future() != null) {
+                command.future().completeExceptionally(e);
+            }
+        }
+    }
+
+    // 스냅샷 파일 쓰기는 별도 스레드 (writer 는 상태 복사만), force 면 주기와 무관하게 저장
+    private void maybeSnapshot(boolean force) {
+        long now = System.currentTimeMillis();
+        boolean due = now - lastSnapshotAt >= properties.getSnapshotInterval().toMillis();
+        if (lastSeq == lastSnapshotSeq || !(due || force)) {
+            return;
+        }
+        long seq = lastSeq;
+        List<LedgerAccount> copies = accounts.values().stream().map(LedgerAccount::copy).toList();
+        lastSnapshotSeq = seq;
+        lastSnapshotAt = now;
+
+        snapshotExecutor.execute(() -> {
+            try {
+                snapshotStore.write(seq, copies);
+            } catch (IOException e) {
+                log.warn("원장 스냅샷 저장 실패 - 순번 {}: {}", seq, e.getMessage());
+            }
+        });
+    }
+
+    // ==============================
+    // 복구
+    // ==============================
+
+    private void recover() {
+        long journalLast = journal.open();
+        long projected = checkpointRepository.findLastSeq(PROJECTION_CHECKPOINT);
+
+        long base = projected;
+        LedgerSnapshotStore.Snapshot snapshot;
+        try {
+            snapshot = snapshotStore.read();
+        } catch (IOException e) {
+            log.warn("원장 스냅샷을 읽을 수 없어 DB 반영 위치부터 재생: {}", e.getMessage());
+            snapshot = null;
+        }
+        // DB 반영 위치보다 오래된 스냅샷은 DB 보다 뒤처진 상태라 사용하지 않음
+        if (snapshot != null && snapshot.seq() >= projected) {
+            snapshot.accounts().forEach(account -> accounts.put(account.id, account));
+            base = snapshot.seq();
+        }
+
+        // DB 반영 위치 이후 작업의 멱등 키는 ledger_idempotency_keys 에 없으므로 저널에서 다시 적재
+        long replayed = 0;
+        long seq = projected;
+        for (List<LedgerOp> ops = journal.read(seq, 10_000); !ops.isEmpty(); ops = journal.read(seq, 10_000)) {
+            for (LedgerOp op : ops) {
+                if (op.seq() > base) {
+                    replay(op);
+                    replayed++;
+                }
+                rememberKey(op);
+                seq = op.seq();
+            }
+        }
+        lastSeq = Math.max(base, journalLast);
+        lastSnapshotSeq = base;
+        lastSnapshotAt = System.currentTimeMillis();
+        projectedSeq = projected;
+        lastMarkedSeq = projected;
+        log.info("원장 복구 - 기준 순번 {} (DB 반영 {}), 저널 재생 {} 건, 멱등 키 {} 건", base, projected, replayed, keyedOps.size());
+    }
+
+    // 적용 후 잔액을 그대로 덮어쓰고 사용량은 거래 일자가 기준 일자와 같을 때만 누적
+    private void replay(LedgerOp op) {
+        LocalDate opDate = op.createdAt().toLocalDate();
+        if (op.senderId() != 0) {
+            LedgerAccount sender = accounts.computeIfAbsent(op.senderId(), this::loadForReplay);
+            if (sender != null) {
+                sender.balance = op.senderBalanceAfter();
+                if (opDate.isAfter(sender.usageDate)) {
+                    sender.rollUsage(opDate);
+                }
+                if (opDate.equals(sender.usageDate)) {
+                    if (op.type() == TransactionType.WITHDRAW) {
+                        sender.withdrawToday += op.amount();
+                    } else {
+                        sender.transferToday += op.amount();
+                    }
+                }
+            }
+        }
+        if (op.receiverId() != 0) {
+            LedgerAccount receiver = accounts.computeIfAbsent(op.receiverId(), this::loadForReplay);
+            if (receiver != null) {
+                receiver.balance = op.receiverBalanceAfter();
+            }
+        }
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    private LedgerAccount activeAccount(long accountId) {
+        LedgerAccount account = accounts.get(accountId);
+        if (account == null) {
+            Account loaded = accountRepository.findById(accountId)
+                    .orElseThrow(() -> new AccountNotFoundException(ERR_ACCOUNT_NOT_FOUND));
+            if (loaded.hasBalanceSlots()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, ERR_BALANCE_SLOTS);
+            }
+            account = toLedgerAccount(loaded);
+            accounts.put(accountId, account);
+        }
+        if (!account.active) {
+            throw new AccountNotFoundException(ERR_ACCOUNT_NOT_FOUND);
+        }
+        return account;
+    }
+
+    // 재생 중 적재 (DB 에 없으면 null, 현재 사용 불가 계좌도 잔액은 따라감)
+    private LedgerAccount loadForReplay(long accountId) {
+        return accountRepository.findById(accountId).map(this::toLedgerAccount).orElse(null);
+    }
+
+    // DB 잔액 + 당일 사용량으로 메모리 상태 생성
+    private LedgerAccount toLedgerAccount(Account account) {
+        LocalDate today = LocalDate.now();
+        AccountDailyUsage usage = dailyUsageRepository.findById(AccountDailyUsage.Key.of(account.getId(), today))
+                .orElse(null);
+        return new LedgerAccount(account.getId(), isUsable(account), account.getBalance(), today,
+                usage == null ? 0 : usage.getWithdrawAmount(),
+                usage == null ? 0 : usage.getTransferAmount());
+    }
+
+    private static boolean isUsable(Account account) {
+        return account.getStatus() == Account.AccountStatus.ACTIVE && !account.hasBalanceSlots();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,255 @@
+package com.example.transferservice.ledger;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 매핑 저널 (journal-{첫 순번}.log 세그먼트 단위)
+ * - 세그먼트 파일을 segmentSize 로 미리 할당해 mmap, 레코드는 고정 길이라 순번으로 위치 계산
+ * - append 는 단일 writer 스레드만 호출, 배치 전체를 기록한 뒤 force 1 회 (group commit)
+ * - read 는 다른 스레드(DB 반영)에서 durableSeq 이하만 읽음
+ */
+@Slf4j
+public class LedgerJournal implements AutoCloseable {
+
+    private static final String PREFIX = "journal-v2-";       // 레코드 형식이 바뀌면 버전 변경
+    private static final String LEGACY_PREFIX = "journal-0";  // 멱등 키 없는 72 바이트 레코드 형식
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final int recordsPerSegment;
+
+    // 첫 순번 → 세그먼트 (구조 변경은 synchronized)
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private Segment active;
+    private volatile long durableSeq;
+
+    public LedgerJournal(Path directory, long segmentSize) {
+        this.directory = directory;
+        this.recordsPerSegment = (int) Math.max(1, Math.min(segmentSize, Integer.MAX_VALUE) / LedgerOp.RECORD_SIZE);
+    }
+
+    /**
+     * 기존 세그먼트를 열고 마지막으로 온전히 기록된 순번 반환 (기록 중 중단된 꼬리는 무시)
+     */
+    public synchronized long open() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                if (files.anyMatch(file -> file.getFileName().toString().startsWith(LEGACY_PREFIX))) {
+                    throw new IllegalStateException("이전 형식의 원장 저널이 남아 있습니다. 이전 버전에서 DB 반영을 마친 뒤 삭제하세요: " + directory);
+                }
+            }
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.filter(LedgerJournal::isSegment).sorted().toList()) {
+                    long firstSeq = firstSeqOf(file);
+                    segments.put(firstSeq, Segment.map(file, firstSeq, recordsPerSegment));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("원장 저널을 열 수 없습니다: " + directory, e);
+        }
+
+        long lastSeq = 0;
+        for (Segment segment : segments.values()) {
+            long segmentLast = segment.scanLastSeq();
+            if (segmentLast > 0) {
+                lastSeq = segmentLast;
+            }
+        }
+        active = segments.isEmpty() ? null : segments.lastEntry().getValue();
+        durableSeq = lastSeq;
+        return lastSeq;
+    }
+
+    /**
+     * 배치 기록 후 fsync (단일 writer 스레드 전용)
+     */
+    public void append(List<LedgerOp> ops) throws IOException {
+        if (ops.isEmpty()) {
+            return;
+        }
+        for (LedgerOp op : ops) {
+            if (active == null || !active.contains(op.seq())) {
+                rollTo(op.seq());
+            }
+            active.write(op);
+        }
+        // 이전 세그먼트에 쓴 부분은 rollTo 에서 이미 force
+        active.force();
+        durableSeq = ops.get(ops.size() - 1).seq();
+    }
+
+    /**
+     * afterSeq 다음 순번부터 최대 max 건 (durableSeq 이하만)
+     */
+    public List<LedgerOp> read(long afterSeq, int max) {
+        long upTo = Math.min(durableSeq, afterSeq + max);
+        List<LedgerOp> ops = new ArrayList<>((int) Math.max(0, upTo - afterSeq));
+        long seq = afterSeq + 1;
+        while (seq <= upTo) {
+            Segment segment = segmentFor(seq);
+            if (segment == null) {
+                throw new IllegalStateException("원장 저널에 순번 " + seq + " 이 없습니다.");
+            }
+            for (; seq <= upTo && segment.contains(seq); seq++) {
+                ops.add(segment.read(seq));
+            }
+        }
+        return ops;
+    }
+
+    /**
+     * 모든 레코드가 seq 이하인 세그먼트 삭제 (DB 반영이 끝난 구간, 현재 세그먼트는 유지)
+     */
+    public synchronized void deleteUpTo(long seq) {
+        while (segments.size() > 1) {
+            Map.Entry<Long, Segment> oldest = segments.firstEntry();
+            long nextFirst = segments.higherKey(oldest.getKey());
+            if (nextFirst - 1 > seq) {
+                return;
+            }
+            segments.pollFirstEntry();
+            oldest.getValue().close();
+            try {
+                Files.deleteIfExists(oldest.getValue().file);
+            } catch (IOException e) {
+                log.warn("원장 저널 세그먼트 삭제 실패 - {}: {}", oldest.getValue().file, e.getMessage());
+            }
+        }
+    }
+
+    public long durableSeq() {
+        return durableSeq;
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Segment segment : segments.values()) {
+            segment.close();
+        }
+        segments.clear();
+        active = null;
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    private synchronized Segment segmentFor(long seq) {
+        Map.Entry<Long, Segment> entry = segments.floorEntry(seq);
+        return (entry == null || !entry.getValue().contains(seq)) ? null : entry.getValue();
+    }
+
+    private synchronized void rollTo(long firstSeq) throws IOException {
+        if (active != null) {
+            active.force();
+        }
+        Path file = directory.resolve(String.format("%s%020d%s", PREFIX, firstSeq, SUFFIX));
+        active = Segment.map(file, firstSeq, recordsPerSegment);
+        segments.put(firstSeq, active);
+    }
+
+    private static boolean isSegment(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    private static long firstSeqOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    /**
+     * 세그먼트 1 개 = 파일 1 개 + 전체 mmap
+     */
+    private static final class Segment {
+
+        private final Path file;
+        private final long firstSeq;
+        private final int capacity;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int dirtyFrom = -1;
+        private int dirtyTo;
+
+        private Segment(Path file, long firstSeq, int capacity, FileChannel channel, MappedByteBuffer buffer) {
+            this.file = file;
+            this.firstSeq = firstSeq;
+            this.capacity = capacity;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment map(Path file, long firstSeq, int capacity) throws IOException {
+            FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long size = (long) capacity * LedgerOp.RECORD_SIZE;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            return new Segment(file, firstSeq, capacity, channel, buffer);
+        }
+
+        boolean contains(long seq) {
+            return seq >= firstSeq && seq < firstSeq + capacity;
+        }
+
+        void write(LedgerOp op) {
+            int offset = offsetOf(op.seq());
+            op.writeTo(buffer.duplicate().position(offset));
+            if (dirtyFrom < 0) {
+                dirtyFrom = offset;
+            }
+            dirtyTo = offset + LedgerOp.RECORD_SIZE;
+        }
+
+        LedgerOp read(long seq) {
+            return LedgerOp.readFrom(buffer.duplicate().position(offsetOf(seq)));
+        }
+
+        void force() {
+            if (dirtyFrom >= 0) {
+                buffer.force(dirtyFrom, dirtyTo - dirtyFrom);
+                dirtyFrom = -1;
+            }
+        }
+
+        // 앞에서부터 읽어 연속으로 온전한 마지막 순번 (없으면 0)
+        long scanLastSeq() {
+            long last = 0;
+            for (long seq = firstSeq; contains(seq); seq++) {
+                LedgerOp op = read(seq);
+                if (op == null || op.seq() != seq) {
+                    break;
+                }
+                last = seq;
+            }
+            return last;
+        }
+
+        void close() {
+            try {
+                force();
+                channel.close();
+            } catch (IOException e) {
+                log.warn("원장 저널 세그먼트 닫기 실패 - {}: {}", file, e.getMessage());
+            }
+        }
+
+        private int offsetOf(long seq) {
+            return (int) (seq - firstSeq) * LedgerOp.RECORD_SIZE;
+        }
+    }
+}
\ No newline at end of file
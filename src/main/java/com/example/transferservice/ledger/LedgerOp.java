@@ -0,0 +1,135 @@
+package com.example.transferservice.ledger;
+
+import com.example.transferservice.entity.Transaction.TransactionType;
+import com.example.transferservice.idempotency.IdempotentRequest;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.zip.CRC32C;
+
+/**
+ * 저널에 기록되는 거래 1 건 (고정 길이 RECORD_SIZE 바이트)
+ * - 적용 후 잔액(senderBalanceAfter/receiverBalanceAfter)을 함께 기록해 재생/DB 반영이 순서만 맞으면 멱등
+ * - 계좌가 없는 쪽은 0 (입금의 sender, 출금의 receiver)
+ * - Idempotency-Key 요청은 키 해시를 함께 기록해 재기동 후에도 writer 가 중복 요청을 걸러냄
+ *
+ * @param seq 저널 순번 (1 부터 빈틈 없이 증가, 거래 id = ID_BASE + seq)
+ * @param key 멱등 키 (키 없는 요청은 Key.NONE)
+ */
+public record LedgerOp(long seq,
+                       TransactionType type,
+                       long senderId,
+                       long receiverId,
+                       long amount,
+                       long fee,
+                       long senderBalanceAfter,
+                       long receiverBalanceAfter,
+                       long createdAtMillis,
+                       Key key) {
+
+    public static final int RECORD_SIZE = 104;
+
+    // 관계형 transactions.id 와 겹치지 않는 원장 거래 id 대역 (JS Number 안전 범위 2^53 이내)
+    public static final long ID_BASE = 4_000_000_000_000_000L;
+
+    private static final int PAYLOAD_SIZE = RECORD_SIZE - Integer.BYTES;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    public long transactionId() {
+        return ID_BASE + seq;
+    }
+
+    public LocalDateTime createdAt() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAtMillis), ZONE);
+    }
+
+    void writeTo(ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.putLong(seq)
+                .putInt(type.ordinal())
+                .putLong(senderId)
+                .putLong(receiverId)
+                .putLong(amount)
+                .putLong(fee)
+                .putLong(senderBalanceAfter)
+                .putLong(receiverBalanceAfter)
+                .putLong(createdAtMillis)
+                .putLong(key.hashHi())
+                .putLong(key.hashLo())
+                .putLong(key.requestHi())
+                .putLong(key.requestLo());
+        buffer.putInt(checksum(buffer, start));
+    }
+
+    /**
+     * @return 기록이 없거나(0 으로 채워진 영역) 체크섬이 맞지 않으면(기록 중 중단) null
+     */
+    static LedgerOp readFrom(ByteBuffer buffer) {
+        int start = buffer.position();
+        long seq = buffer.getLong(start);
+        if (seq == 0 || buffer.getInt(start + PAYLOAD_SIZE) != checksum(buffer, start)) {
+            return null;
+        }
+        LedgerOp op = new LedgerOp(
+                buffer.getLong(),
+                TransactionType.values()[buffer.getInt()],
+                buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong(),
+                buffer.getLong(), buffer.getLong(), buffer.getLong(),
+                new Key(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong()));
+        buffer.getInt();
+        return op;
+    }
+
+    private static int checksum(ByteBuffer buffer, int start) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(start, PAYLOAD_SIZE));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * 저널에 남기는 멱등 키 (Idempotency-Key SHA-256 앞 128 비트 + 요청 본문 해시 앞 128 비트)
+     */
+    public record Key(long hashHi, long hashLo, long requestHi, long requestLo) {
+
+        public static final Key NONE = new Key(0, 0, 0, 0);
+
+        private static final HexFormat HEX = HexFormat.of();
+
+        public static Key of(IdempotentRequest idempotent) {
+            try {
+                ByteBuffer hash = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                        .digest(idempotent.key().getBytes(StandardCharsets.UTF_8)));
+                String requestHash = idempotent.requestHash();
+                return new Key(hash.getLong(), hash.getLong(),
+                        HexFormat.fromHexDigitsToLong(requestHash, 0, 16),
+                        HexFormat.fromHexDigitsToLong(requestHash, 16, 32));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        public boolean isNone() {
+            return equals(NONE);
+        }
+
+        public boolean sameRequest(Key other) {
+            return requestHi == other.requestHi && requestLo == other.requestLo;
+        }
+
+        // ledger_idempotency_keys.key_hash
+        public String hashHex() {
+            return HEX.toHexDigits(hashHi) + HEX.toHexDigits(hashLo);
+        }
+
+        // ledger_idempotency_keys.request_hash
+        public String requestHex() {
+            return HEX.toHexDigits(requestHi) + HEX.toHexDigits(requestLo);
+        }
+    }
+}
\ No newline at end of file
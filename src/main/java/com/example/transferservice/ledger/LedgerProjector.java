@@ -0,0 +1,257 @@
+package com.example.transferservice.ledger;
+
+import com.example.transferservice.cache.AccountChangedEvent;
+import com.example.transferservice.cache.AccountResponseCache;
+import com.example.transferservice.entity.Transaction.TransactionType;
+import com.example.transferservice.outbox.OutboxProperties;
+import com.example.transferservice.repository.AccountDailyUsageRepository;
+import com.example.transferservice.repository.LedgerCheckpointRepository;
+import com.example.transferservice.summary.AccountDailySummaryWriter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 원장 저널을 DB 에 반영 (LedgerEngine 기동 후 별도 스레드)
+ * - projectionBatchSize 건씩 한 트랜잭션 : 거래 INSERT(JDBC 배치) + outbox + 멱등 키 + 당일 사용량 + 일일 요약 + 계좌 잔액 + 반영 위치
+ * - 반영 위치를 같은 트랜잭션에서 갱신하므로 중단 후 재기동해도 같은 작업이 두 번 반영되지 않음
+ * - 커밋 후 엔진에 반영 위치 통지(메모리 멱등 키 정리), 계좌 조회 캐시 무효화, 반영이 끝난 저널 세그먼트 삭제
+ */
+@Slf4j
+@Component
+public class LedgerProjector implements SmartLifecycle {
+
+    private static final String INSERT_TRANSACTION =
+            "INSERT INTO transactions (id, sender_account_id, receiver_account_id, amount, fee, type, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_OUTBOX =
+            "INSERT INTO transaction_outbox (transaction_id, sender_account_id, receiver_account_id, amount, fee, type, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_IDEMPOTENCY_KEY =
+            "INSERT INTO ledger_idempotency_keys (key_hash, request_hash, transaction_id, type, " +
+                    "sender_account_id, receiver_account_id, amount, fee, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_BALANCE =
+            "UPDATE accounts SET balance = ?, version = version + 1, updated_at = ? WHERE id = ?";
+
+    private static final long ERROR_BACKOFF_MILLIS = 1_000;
+
+    private final LedgerEngine engine;
+    private final LedgerProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountDailyUsageRepository dailyUsageRepository;
+    private final LedgerCheckpointRepository checkpointRepository;
+    private final AccountDailySummaryWriter summaryWriter;
+    private final AccountResponseCache accountCache;
+    private final boolean outboxEnabled;
+
+    private Thread worker;
+    private volatile boolean running;
+    private volatile long projectedSeq;
+    private volatile LocalDateTime projectedCreatedAt = LocalDateTime.of(1970, 1, 1, 0, 0);  // 마지막 반영 작업 생성 시각
+
+    public LedgerProjector(LedgerEngine engine,
+                           LedgerProperties properties,
+                           JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           AccountDailyUsageRepository dailyUsageRepository,
+                           LedgerCheckpointRepository checkpointRepository,
+                           AccountDailySummaryWriter summaryWriter,
+                           AccountResponseCache accountCache,
+                           OutboxProperties outboxProperties,
+                           MeterRegistry registry) {
+        this.engine = engine;
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.dailyUsageRepository = dailyUsageRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.summaryWriter = summaryWriter;
+        this.accountCache = accountCache;
+        this.outboxEnabled = outboxProperties.isEnabled();
+
+        Gauge.builder("transfer.ledger.projection.lag", this, LedgerProjector::lag)
+                .description("저널에 기록됐지만 DB 에 반영되지 않은 작업 수")
+                .register(registry);
+    }
+
+    // ==============================
+    // SmartLifecycle
+    // ==============================
+
+    @Override
+    public synchronized void start() {
+        if (!engine.isRunning() || running) {
+            return;
+        }
+        projectedSeq = checkpointRepository.findLastSeq(LedgerEngine.PROJECTION_CHECKPOINT);
+        running = true;
+        worker = Thread.ofPlatform().name("ledger-projector").start(this::run);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        // 진행 중인 배치는 끝까지 반영
+        running = false;
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 엔진 기동 후 시작, 엔진 종료 전 중지
+    @Override
+    public int getPhase() {
+        return LedgerEngine.PHASE + 1;
+    }
+
+    // ==============================
+    // Public API
+    // ==============================
+
+    /**
+     * 밀린 저널을 한 배치 반영
+     *
+     * @return 반영 건수
+     */
+    public int projectBatch() {
+        LedgerJournal journal = engine.journal();
+        List<LedgerOp> ops = journal.read(projectedSeq, Math.max(1, properties.getProjectionBatchSize()));
+        if (ops.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Long> balances = transactionTemplate.execute(status -> apply(ops));
+        projectedCreatedAt = ops.get(ops.size() - 1).createdAt();
+        projectedSeq = ops.get(ops.size() - 1).seq();
+        engine.markProjected(projectedSeq);
+
+        accountCache.onAccountChanged(new AccountChangedEvent(balances.keySet()));
+        journal.deleteUpTo(projectedSeq);
+        return ops.size();
+    }
+
+    public long lag() {
+        return running ? Math.max(0, engine.journal().durableSeq() - projectedSeq) : 0;
+    }
+
+    /**
+     * 반영 지연이 있으면 마지막으로 반영한 작업의 생성 시각 (그 이전 생성 작업은 모두 DB 에 반영됨), 없으면 empty
+     * - 작업 생성 시각은 writer 스레드가 순번 순서로 부여
+     */
+    public Optional<LocalDateTime> projectedUntil() {
+        LocalDateTime createdAt = projectedCreatedAt;   // lag 보다 먼저 읽어 더 이른 값 사용
+        return lag() > 0 ? Optional.of(createdAt) : Optional.empty();
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    private void run() {
+        while (running) {
+            try {
+                if (projectBatch() == 0) {
+                    Thread.sleep(properties.getProjectionIdleWait().toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("원장 DB 반영 실패 - 순번 {} 이후 재시도: {}", projectedSeq, e.getMessage());
+                try {
+                    Thread.sleep(ERROR_BACKOFF_MILLIS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // 트랜잭션 내부, 계좌별 마지막 잔액 반환
+    private Map<Long, Long> apply(List<LedgerOp> ops) {
+        List<Object[]> rows = new ArrayList<>(ops.size());
+        List<Object[]> keys = new ArrayList<>();
+        Map<Long, Long> balances = new LinkedHashMap<>();
+        Map<UsageKey, long[]> usage = new LinkedHashMap<>();
+        AccountDailySummaryWriter.Batch summaries = summaryWriter.batch();
+
+        for (LedgerOp op : ops) {
+            Timestamp createdAt = Timestamp.valueOf(op.createdAt());
+            rows.add(new Object[]{op.transactionId(), idOrNull(op.senderId()), idOrNull(op.receiverId()),
+                    op.amount(), op.fee(), op.type().name(), createdAt});
+            summaries.add(idOrNull(op.senderId()), idOrNull(op.receiverId()), op.amount(), op.fee(), op.type(), op.createdAt());
+            if (!op.key().isNone()) {
+                keys.add(new Object[]{op.key().hashHex(), op.key().requestHex(), op.transactionId(), op.type().name(),
+                        idOrNull(op.senderId()), idOrNull(op.receiverId()), op.amount(), op.fee(), createdAt});
+            }
+
+            if (op.senderId() != 0) {
+                balances.put(op.senderId(), op.senderBalanceAfter());
+                long[] amounts = usage.computeIfAbsent(
+                        new UsageKey(op.senderId(), op.createdAt().toLocalDate()), key -> new long[2]);
+                amounts[op.type() == TransactionType.WITHDRAW ? 0 : 1] += op.amount();
+            }
+            if (op.receiverId() != 0) {
+                balances.put(op.receiverId(), op.receiverBalanceAfter());
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION, rows);
+        if (outboxEnabled) {
+            jdbcTemplate.batchUpdate(INSERT_OUTBOX, rows);
+        }
+        if (!keys.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_IDEMPOTENCY_KEY, keys);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        usage.forEach((key, amounts) -> {
+            if (amounts[0] > 0) {
+                dailyUsageRepository.addWithdrawAmount(key.accountId(), key.date(), amounts[0], now);
+            }
+            if (amounts[1] > 0) {
+                dailyUsageRepository.addTransferAmount(key.accountId(), key.date(), amounts[1], now);
+            }
+        });
+        summaries.write();
+
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(UPDATE_BALANCE, balances.entrySet().stream()
+                .map(e -> new Object[]{e.getValue(), updatedAt, e.getKey()})
+                .toList());
+
+        checkpointRepository.advance(LedgerEngine.PROJECTION_CHECKPOINT, ops.get(ops.size() - 1).seq());
+        return balances;
+    }
+
+    private static Long idOrNull(long accountId) {
+        return accountId == 0 ? null : accountId;
+    }
+
+    private record UsageKey(long accountId, LocalDate date) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.example.transferservice.ledger;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 메모리 원장 엔진 설정 (transfer.ledger)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transfer.ledger")
+public class LedgerProperties {
+
+    private boolean enabled = false;
+    private Path directory = Path.of("data/ledger");             // 저널 세그먼트 + 스냅샷 위치
+    private long segmentSize = 64L * 1024 * 1024;                // 저널 세그먼트 크기 (미리 할당 후 mmap)
+    private int queueCapacity = 65_536;                          // 대기 가능한 요청 수 (초과 시 503)
+    private int groupCommitMaxBatch = 1_024;                     // fsync 1 회당 최대 작업 수
+    private Duration requestTimeout = Duration.ofSeconds(5);     // 요청 스레드 최대 대기 시간
+    private Duration snapshotInterval = Duration.ofMinutes(5);   // 상태 스냅샷 주기
+    private int projectionBatchSize = 1_000;                     // DB 반영 1 트랜잭션당 작업 수
+    private Duration projectionIdleWait = Duration.ofMillis(50); // 반영할 작업이 없을 때 대기 시간
+}
\ No newline at end of file
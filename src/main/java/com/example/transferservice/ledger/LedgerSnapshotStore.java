@@ -0,0 +1,73 @@
+package com.example.transferservice.ledger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 원장 상태 스냅샷 파일 (임시 파일에 쓴 뒤 원자적 이동)
+ * - seq 시점까지의 저널이 반영된 계좌 상태, 기동 시 seq 이후 저널만 재생
+ */
+class LedgerSnapshotStore {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String FILE_NAME = "snapshot.bin";
+
+    record Snapshot(long seq, List<LedgerAccount> accounts) {
+    }
+
+    private final Path file;
+
+    LedgerSnapshotStore(Path directory) {
+        this.file = directory.resolve(FILE_NAME);
+    }
+
+    void write(long seq, Collection<LedgerAccount> accounts) throws IOException {
+        Path temp = file.resolveSibling(FILE_NAME + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(seq);
+            out.writeInt(accounts.size());
+            for (LedgerAccount account : accounts) {
+                out.writeLong(account.id);
+                out.writeBoolean(account.active);
+                out.writeLong(account.balance);
+                out.writeLong(account.usageDate.toEpochDay());
+                out.writeLong(account.withdrawToday);
+                out.writeLong(account.transferToday);
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @return 스냅샷이 없으면 null
+     */
+    Snapshot read() throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            long seq = in.readLong();
+            int size = in.readInt();
+            List<LedgerAccount> accounts = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                accounts.add(new LedgerAccount(in.readLong(), in.readBoolean(), in.readLong(),
+                        LocalDate.ofEpochDay(in.readLong()), in.readLong(), in.readLong()));
+            }
+            return new Snapshot(seq, accounts);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+}
\ No newline at end of file
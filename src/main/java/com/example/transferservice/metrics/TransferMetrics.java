@@ -0,0 +1,107 @@
+package com.example.transferservice.metrics;
+
+import com.example.transferservice.exception.AccountBusyException;
+import com.example.transferservice.exception.AccountNotFoundException;
+import com.example.transferservice.exception.DailyLimitExceededException;
+import com.example.transferservice.exception.InsufficientBalanceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.function.Supplier;
+
+/**
+ * 송금 경로 Micrometer 계측
+ * - 백분위 히스토그램은 management.metrics.distribution.percentiles-histogram.* 로 설정
+ * - 태그는 operation / outcome / kind / exception / status 처럼 값 종류가 정해진 것만 사용 (계좌 id 등 금지)
+ */
+@Component
+@RequiredArgsConstructor
+public class TransferMetrics {
+
+    // ==============================
+    // 상수
+    // ==============================
+    public static final String OPERATION_TIMER = "transfer.operations";
+    public static final String LIMIT_QUERY_TIMER = "transfer.daily_limit.query";
+    public static final String ERROR_COUNTER = "transfer.errors";
+
+    public static final String OUTCOME_SUCCESS = "success";
+
+    private final MeterRegistry registry;
+
+    // ==============================
+    // Public API
+    // ==============================
+
+    /**
+     * 입금/출금/이체 1 건 처리 시간 (락 대기, 재시도 포함)
+     */
+    public <T> T timeOperation(String operation, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = OUTCOME_SUCCESS;
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(OPERATION_TIMER)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(registry));
+        }
+    }
+
+    /**
+     * 일일 한도 원장 조회 시간 (kind = withdraw | transfer)
+     */
+    public <T> T timeLimitQuery(String kind, Supplier<T> query) {
+        return Timer.builder(LIMIT_QUERY_TIMER)
+                .tag("kind", kind)
+                .register(registry)
+                .record(query);
+    }
+
+    /**
+     * GlobalExceptionHandler 가 처리한 예외 (예외 클래스 + 응답 상태)
+     */
+    public void countHandledException(Throwable ex, HttpStatusCode status) {
+        Counter.builder(ERROR_COUNTER)
+                .tag("exception", ex.getClass().getSimpleName())
+                .tag("status", String.valueOf(status.value()))
+                .register(registry)
+                .increment();
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    static String outcomeOf(RuntimeException e) {
+        if (e instanceof DailyLimitExceededException) {
+            return "limit_exceeded";
+        }
+        if (e instanceof InsufficientBalanceException) {
+            return "insufficient_balance";
+        }
+        if (e instanceof AccountNotFoundException) {
+            return "not_found";
+        }
+        if (e instanceof AccountBusyException) {
+            return "busy";
+        }
+        if (e instanceof ConcurrencyFailureException) {
+            return "conflict";
+        }
+        if (e instanceof ResponseStatusException || e instanceof IllegalArgumentException) {
+            return "rejected";
+        }
+        return "error";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.example.transferservice.metrics;
+
+import com.example.transferservice.cache.AccountResponseCache;
+import com.example.transferservice.concurrency.AccountStripedLock;
+import com.example.transferservice.concurrency.AdmissionControlDataSource;
+import com.example.transferservice.concurrency.OptimisticLockRetryExecutor;
+import com.example.transferservice.idempotency.IdempotencyService;
+import com.example.transferservice.service.TransactionService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 컴포넌트 내부 통계를 Micrometer 미터로 노출
+ * - 낙관적 락 충돌/재시도/소진, 스트라이프 락 대기, 커넥션 입장 대기, 조회/Idempotency 캐시
+ * - Hikari 풀 대기(hikaricp.connections.acquire)는 Spring Boot 가 자동 등록
+ */
+@Component
+@RequiredArgsConstructor
+public class TransferMetricsBinder implements MeterBinder {
+
+    private static final List<String> RETRY_OPERATIONS = List.of(
+            TransactionService.OP_DEPOSIT, TransactionService.OP_WITHDRAW,
+            TransactionService.OP_TRANSFER, TransactionService.OP_TRANSFER_BATCH);
+
+    private final OptimisticLockRetryExecutor retryExecutor;
+    private final AccountStripedLock accountLock;
+    private final AccountResponseCache accountCache;
+    private final IdempotencyService idempotencyService;
+    private final DataSource dataSource;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindOptimisticLock(registry);
+        bindStripedLock(registry);
+        bindConnectionAdmission(registry);
+        bindCaches(registry);
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    private void bindOptimisticLock(MeterRegistry registry) {
+        for (String operation : RETRY_OPERATIONS) {
+            OptimisticLockRetryExecutor.Stats stats = retryExecutor.statsFor(operation);
+            FunctionCounter.builder("transfer.optimistic_lock.conflicts", stats, s -> s.getConflicts().sum())
+                    .tag("operation", operation)
+                    .register(registry);
+            FunctionCounter.builder("transfer.optimistic_lock.retries", stats, s -> s.getRetries().sum())
+                    .tag("operation", operation)
+                    .register(registry);
+            FunctionCounter.builder("transfer.optimistic_lock.exhausted", stats, s -> s.getExhausted().sum())
+                    .tag("operation", operation)
+                    .register(registry);
+        }
+    }
+
+    private void bindStripedLock(MeterRegistry registry) {
+        AccountStripedLock.Stats stats = accountLock.getStats();
+        FunctionTimer.builder("transfer.striped_lock.wait", stats,
+                        s -> s.getAcquisitions().sum(), s -> s.getTotalWaitNanos().sum(), TimeUnit.NANOSECONDS)
+                .register(registry);
+        Gauge.builder("transfer.striped_lock.wait.max", stats, s -> s.getMaxWaitNanos().get() / 1e9)
+                .baseUnit("seconds")
+                .register(registry);
+        FunctionCounter.builder("transfer.striped_lock.timeouts", stats, s -> s.getTimeouts().sum())
+                .register(registry);
+    }
+
+    private void bindConnectionAdmission(MeterRegistry registry) {
+        AdmissionControlDataSource admission = unwrapAdmission();
+        if (admission == null) {
+            return;
+        }
+        AdmissionControlDataSource.Stats stats = admission.getStats();
+        FunctionTimer.builder("transfer.connection_admission.wait", stats,
+                        s -> s.getAcquisitions().sum(), s -> s.getTotalWaitNanos().sum(), TimeUnit.NANOSECONDS)
+                .register(registry);
+        FunctionCounter.builder("transfer.connection_admission.timeouts", stats, s -> s.getTimeouts().sum())
+                .register(registry);
+        FunctionCounter.builder("transfer.connection_admission.nested", stats, s -> s.getNestedAcquisitions().sum())
+                .register(registry);
+        Gauge.builder("transfer.connection_admission.in_use", admission, AdmissionControlDataSource::getInUse)
+                .register(registry);
+        Gauge.builder("transfer.connection_admission.waiting", admission, AdmissionControlDataSource::getWaiting)
+                .register(registry);
+    }
+
+    private void bindCaches(MeterRegistry registry) {
+        FunctionCounter.builder("transfer.cache.hits", accountCache, c -> c.stats().hitCount())
+                .tag("cache", "account").register(registry);
+        FunctionCounter.builder("transfer.cache.misses", accountCache, c -> c.stats().missCount())
+                .tag("cache", "account").register(registry);
+        FunctionCounter.builder("transfer.cache.evictions", accountCache, c -> c.stats().evictionCount())
+                .tag("cache", "account").register(registry);
+        Gauge.builder("transfer.cache.size", accountCache, AccountResponseCache::size)
+                .tag("cache", "account").register(registry);
+
+        FunctionCounter.builder("transfer.cache.hits", idempotencyService, s -> s.cacheStats().hitCount())
+                .tag("cache", "idempotency").register(registry);
+        FunctionCounter.builder("transfer.cache.misses", idempotencyService, s -> s.cacheStats().missCount())
+                .tag("cache", "idempotency").register(registry);
+        FunctionCounter.builder("transfer.cache.evictions", idempotencyService, s -> s.cacheStats().evictionCount())
+                .tag("cache", "idempotency").register(registry);
+        Gauge.builder("transfer.cache.size", idempotencyService, IdempotencyService::cacheSize)
+                .tag("cache", "idempotency").register(registry);
+        Gauge.builder("transfer.idempotency.in_flight", idempotencyService, IdempotencyService::inFlightCount)
+                .register(registry);
+    }
+
+    // 커넥션 입장 제한이 꺼져 있으면 null
+    private AdmissionControlDataSource unwrapAdmission() {
+        try {
+            return dataSource.isWrapperFor(AdmissionControlDataSource.class)
+                    ? dataSource.unwrap(AdmissionControlDataSource.class)
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.example.transferservice.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * NDJSON 파일에 이벤트 한 줄씩 추가 (로그 수집기 연동용)
+ */
+@RequiredArgsConstructor
+public class FileOutboxSink implements OutboxEventSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public synchronized void publish(List<TransactionEvent> events) {
+        StringBuilder lines = new StringBuilder(events.size() * 160);
+        try {
+            for (TransactionEvent event : events) {
+                lines.append(objectMapper.writeValueAsString(event)).append('\n');
+            }
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("거래 이벤트 직렬화에 실패했습니다.", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("거래 이벤트 파일 기록에 실패했습니다.", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.example.transferservice.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 배치 단위로 JSON 배열을 HTTP POST (외부 수신 서비스 연동용), 2xx 가 아니면 실패
+ */
+public class HttpOutboxSink implements OutboxEventSink {
+
+    private final URI uri;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper;
+    private final HttpClient client;
+
+    public HttpOutboxSink(String url, Duration timeout, ObjectMapper objectMapper) {
+        this.uri = URI.create(url);
+        this.timeout = timeout;
+        this.objectMapper = objectMapper;
+        this.client = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public void publish(List<TransactionEvent> events) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .timeout(timeout)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(events)))
+                    .build();
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status / 100 != 2) {
+                throw new IllegalStateException("거래 이벤트 전송 실패 - status=" + status);
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("거래 이벤트 직렬화에 실패했습니다.", e);
+        } catch (IOException e) {
+            throw new IllegalStateException("거래 이벤트 전송에 실패했습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("거래 이벤트 전송 중 인터럽트되었습니다.", e);
+        }
+    }
+}
\ No newline at end of file
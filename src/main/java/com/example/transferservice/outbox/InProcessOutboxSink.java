@@ -0,0 +1,20 @@
+package com.example.transferservice.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+/**
+ * 같은 JVM 의 @EventListener(TransactionEvent) 로 전달 (알림/이상거래 탐지 모듈이 같은 프로세스일 때)
+ */
+@RequiredArgsConstructor
+public class InProcessOutboxSink implements OutboxEventSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(List<TransactionEvent> events) {
+        events.forEach(eventPublisher::publishEvent);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.example.transferservice.outbox;
+
+import java.util.List;
+
+/**
+ * outbox 이벤트 발행 대상
+ * - 예외를 던지면 배치 전체가 롤백되어 다음 주기에 다시 발행 (at-least-once, 수신 측은 transactionId 로 중복 제거)
+ */
+public interface OutboxEventSink {
+
+    void publish(List<TransactionEvent> events);
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.example.transferservice.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 거래 이벤트 outbox 발행 설정 (transfer.outbox)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transfer.outbox")
+public class OutboxProperties {
+
+    public enum SinkType {
+        IN_PROCESS, FILE, HTTP
+    }
+
+    private boolean enabled = true;
+    private SinkType sink = SinkType.IN_PROCESS;
+    private int batchSize = 500;                              // 1 회 선점/발행 건수
+    private int maxBatchesPerRun = 20;                        // 주기 1 회당 최대 배치 수 (밀린 이벤트 소진용)
+    private Duration claimTimeout = Duration.ofMinutes(1);    // 선점 유지 시간 (발행 후 삭제 전 relay 가 죽으면 이후 재발행)
+    private Path filePath = Path.of("build/outbox/transactions.ndjson"); // FILE : NDJSON 추가 기록 경로
+    private String httpUrl;                                   // HTTP : JSON 배열 POST 대상
+    private Duration httpTimeout = Duration.ofSeconds(5);
+}
\ No newline at end of file
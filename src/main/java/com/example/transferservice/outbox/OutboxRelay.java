@@ -0,0 +1,142 @@
+package com.example.transferservice.outbox;
+
+import com.example.transferservice.entity.TransactionOutbox;
+import com.example.transferservice.repository.TransactionOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 행을 배치로 선점 → 발행 → 일괄 삭제
+ * - 선점은 FOR UPDATE SKIP LOCKED 로 조회 후 토큰/만료 시각을 기록하고 바로 커밋 (여러 노드가 서로 다른 행을 가져감)
+ * - 발행은 트랜잭션 밖에서 수행해 sink 지연 동안 행 잠금/커넥션을 잡지 않음
+ * - 발행 실패 시 선점 해제 (다음 주기에 재발행), 삭제 전 relay 가 죽으면 선점 만료 후 재발행 (at-least-once)
+ * - 요청 경로는 outbox INSERT 만 수행하고 발행은 전부 이 relay 에서 처리
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final TransactionOutboxRepository outboxRepository;
+    private final OutboxEventSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration claimTimeout;
+
+    private final Timer lag;
+    private final Counter published;
+    private final Counter failures;
+    private final AtomicLong oldestPendingMillis = new AtomicLong();
+
+    public OutboxRelay(TransactionOutboxRepository outboxRepository,
+                       OutboxEventSink sink,
+                       TransactionTemplate transactionTemplate,
+                       OutboxProperties properties,
+                       MeterRegistry registry) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.maxBatchesPerRun = Math.max(1, properties.getMaxBatchesPerRun());
+        this.claimTimeout = properties.getClaimTimeout();
+
+        this.lag = Timer.builder("transfer.outbox.lag")
+                .description("거래 생성부터 발행까지 걸린 시간")
+                .register(registry);
+        this.published = Counter.builder("transfer.outbox.published").register(registry);
+        this.failures = Counter.builder("transfer.outbox.failures").register(registry);
+        Gauge.builder("transfer.outbox.oldest.age", oldestPendingMillis, v -> v.get() / 1e3)
+                .description("가장 오래된 미발행 이벤트의 경과 시간")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    /**
+     * 밀린 이벤트를 최대 maxBatchesPerRun 배치까지 발행
+     *
+     * @return 발행 건수
+     */
+    public int relayPending() {
+        int total = 0;
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                int count = relayBatch();
+                total += count;
+                if (count < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("거래 이벤트 발행 실패 - 다음 주기에 재시도", e);
+        }
+        refreshOldestPending();
+        return total;
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    // 배치 1 회 : 선점 커밋 → 발행 (트랜잭션 밖) → 삭제 커밋, 삭제까지 끝난 뒤에만 발행 완료로 집계
+    private int relayBatch() {
+        String token = UUID.randomUUID().toString();
+        List<TransactionOutbox> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<TransactionOutbox> rows = outboxRepository.claimBatch(batchSize, now);
+            if (!rows.isEmpty()) {
+                outboxRepository.markClaimed(idsOf(rows), token, now.plus(claimTimeout));
+            }
+            return rows;
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = idsOf(claimed);
+        List<TransactionEvent> events = claimed.stream().map(TransactionEvent::from).toList();
+        try {
+            sink.publish(events);
+        } catch (RuntimeException e) {
+            releaseClaim(ids, token, e);
+            throw e;
+        }
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteClaimed(ids, token));
+
+        LocalDateTime now = LocalDateTime.now();
+        for (TransactionEvent event : events) {
+            lag.record(Duration.between(event.createdAt(), now));
+        }
+        published.increment(events.size());
+        return events.size();
+    }
+
+    // 해제 실패는 선점 만료로 회복되므로 원래 예외에 덧붙이기만 함
+    private void releaseClaim(List<Long> ids, String token, RuntimeException cause) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.releaseClaim(ids, token));
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private static List<Long> idsOf(List<TransactionOutbox> rows) {
+        return rows.stream().map(TransactionOutbox::getTransactionId).toList();
+    }
+
+    private void refreshOldestPending() {
+        LocalDateTime oldest = outboxRepository.findOldestCreatedAt();
+        oldestPendingMillis.set(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis());
+    }
+}
\ No newline at end of file
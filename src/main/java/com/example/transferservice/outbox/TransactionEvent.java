@@ -0,0 +1,23 @@
+package com.example.transferservice.outbox;
+
+import com.example.transferservice.entity.TransactionOutbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * 외부로 발행하는 거래 생성 이벤트
+ */
+public record TransactionEvent(Long transactionId,
+                               String type,
+                               Long senderAccountId,
+                               Long receiverAccountId,
+                               Long amount,
+                               Long fee,
+                               LocalDateTime createdAt) {
+
+    public static TransactionEvent from(TransactionOutbox outbox) {
+        return new TransactionEvent(outbox.getTransactionId(), outbox.getType(),
+                outbox.getSenderAccountId(), outbox.getReceiverAccountId(),
+                outbox.getAmount(), outbox.getFee(), outbox.getCreatedAt());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.example.transferservice.outbox;
+
+import com.example.transferservice.entity.Transaction;
+import com.example.transferservice.entity.TransactionOutbox;
+import com.example.transferservice.repository.TransactionOutboxRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * 거래 생성 시 outbox 행 기록 (호출자의 DB 트랜잭션 안에서 실행)
+ * - transfer.outbox.enabled=false 면 기록하지 않음
+ */
+@Component
+public class TransactionOutboxWriter {
+
+    private final TransactionOutboxRepository outboxRepository;
+    private final boolean enabled;
+
+    public TransactionOutboxWriter(TransactionOutboxRepository outboxRepository, OutboxProperties properties) {
+        this.outboxRepository = outboxRepository;
+        this.enabled = properties.isEnabled();
+    }
+
+    public void append(Transaction tx) {
+        if (enabled) {
+            outboxRepository.save(TransactionOutbox.from(tx));
+        }
+    }
+}
\ No newline at end of file
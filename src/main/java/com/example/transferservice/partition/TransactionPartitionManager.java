@@ -0,0 +1,171 @@
+package com.example.transferservice.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * transactions 월 파티션 관리 (MySQL RANGE COLUMNS(created_at))
+ * - 다음 monthsAhead 개월 파티션을 p_future(MAXVALUE) 를 나눠 미리 생성
+ * - 상한이 보존 시작 시각 이하인 파티션은 transactions_archive 로 복사하고 건수를 확인한 뒤 DROP PARTITION
+ * - 파티션이 없는 DB(H2 등)에서는 아무것도 하지 않음
+ */
+@Slf4j
+@Component
+public class TransactionPartitionManager {
+
+    static final String FUTURE_PARTITION = "p_future";
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final DateTimeFormatter BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String SELECT_PARTITIONS =
+            "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'transactions' AND PARTITION_NAME IS NOT NULL " +
+                    "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private static final String ERR_ARCHIVE_COUNT = "거래 파티션 archive 복사 건수 불일치 - %s: 파티션 %d 건, 복사 %d 건";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionPartitionProperties properties;
+
+    public TransactionPartitionManager(JdbcTemplate jdbcTemplate,
+                                       TransactionTemplate transactionTemplate,
+                                       TransactionPartitionProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * 월 파티션 1 개 (upperBound 미만, MAXVALUE 파티션은 upperBound = null)
+     */
+    record Partition(String name, LocalDateTime upperBound) {
+    }
+
+    // ==============================
+    // Public API
+    // ==============================
+
+    /**
+     * 이번 달 + monthsAhead 개월까지 월 파티션 생성
+     *
+     * @return 새로 만든 파티션 수
+     */
+    public int createUpcomingPartitions(LocalDate today) {
+        List<Partition> partitions = findPartitions();
+        if (partitions.isEmpty()) {
+            return 0;
+        }
+        List<String> definitions = upcomingDefinitions(partitions, YearMonth.from(today).plusMonths(properties.getMonthsAhead()));
+        if (definitions.isEmpty()) {
+            return 0;
+        }
+        definitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+        jdbcTemplate.execute("ALTER TABLE transactions REORGANIZE PARTITION " + FUTURE_PARTITION +
+                " INTO (" + String.join(", ", definitions) + ")");
+        log.info("거래 월 파티션 생성 - {} 개", definitions.size() - 1);
+        return definitions.size() - 1;
+    }
+
+    /**
+     * 보존 기간이 지난 파티션을 transactions_archive 로 이동
+     * - 복사는 한 트랜잭션 : 이전 시도에서 복사된 같은 id 행 삭제 → 파티션 전체 INSERT → 파티션 건수와 비교
+     * - 건수가 맞을 때만 커밋 후 DROP PARTITION (DDL 은 암묵 커밋), 다르면 롤백하고 파티션은 남김
+     * - 복사 후 DROP 전에 중단돼도 다시 실행하면 같은 결과
+     *
+     * @return 이동한 행 수
+     */
+    public long archiveExpiredPartitions(LocalDate today) {
+        LocalDateTime cutoff = properties.retentionStart(today);
+        long moved = 0;
+        for (Partition partition : expiredPartitions(findPartitions(), cutoff)) {
+            int rows = transactionTemplate.execute(status -> copyToArchive(partition.name()));
+            jdbcTemplate.execute("ALTER TABLE transactions DROP PARTITION " + partition.name());
+            log.info("거래 파티션 archive 이동 - {} (< {}), rows={}", partition.name(), partition.upperBound(), rows);
+            moved += rows;
+        }
+        return moved;
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    // 트랜잭션 내부, 복사 건수가 파티션 건수와 다르면 예외 (롤백)
+    private int copyToArchive(String partition) {
+        jdbcTemplate.update("DELETE a FROM transactions_archive a " +
+                "JOIN transactions PARTITION (" + partition + ") t ON t.id = a.id");
+        int copied = jdbcTemplate.update("INSERT INTO transactions_archive " +
+                "(id, sender_account_id, receiver_account_id, amount, fee, type, created_at) " +
+                "SELECT id, sender_account_id, receiver_account_id, amount, fee, type, created_at " +
+                "FROM transactions PARTITION (" + partition + ")");
+        Integer expected = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transactions PARTITION (" + partition + ") FOR SHARE", Integer.class);
+        if (expected == null || expected != copied) {
+            throw new IllegalStateException(String.format(ERR_ARCHIVE_COUNT, partition, expected, copied));
+        }
+        return copied;
+    }
+
+    List<Partition> findPartitions() {
+        try {
+            return jdbcTemplate.query(SELECT_PARTITIONS, (rs, rowNum) ->
+                    new Partition(rs.getString(1), parseBound(rs.getString(2))));
+        } catch (RuntimeException e) {
+            log.debug("파티션 정보를 조회할 수 없는 DB - 파티션 관리 생략: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    // 마지막 월 파티션 다음 달부터 lastMonth 까지 정의 (p_future 가 없으면 생성하지 않음)
+    static List<String> upcomingDefinitions(List<Partition> partitions, YearMonth lastMonth) {
+        List<String> definitions = new ArrayList<>();
+        if (partitions.stream().noneMatch(partition -> FUTURE_PARTITION.equals(partition.name()))) {
+            return definitions;
+        }
+        LocalDateTime highest = partitions.stream()
+                .map(Partition::upperBound)
+                .filter(bound -> bound != null)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+        if (highest == null) {
+            return definitions;
+        }
+        // highest 는 월 파티션 상한(다음 달 1 일) → 그 달 파티션부터 생성
+        for (YearMonth month = YearMonth.from(highest); !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            definitions.add("PARTITION " + month.format(PARTITION_NAME) +
+                    " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1).atStartOfDay().format(BOUND) + "')");
+        }
+        return definitions;
+    }
+
+    // 상한이 cutoff 이하인 파티션 (해당 파티션의 모든 행이 cutoff 이전), 마지막 1 개 파티션은 남김
+    static List<Partition> expiredPartitions(List<Partition> partitions, LocalDateTime cutoff) {
+        List<Partition> expired = new ArrayList<>();
+        for (int i = 0; i < partitions.size() - 1; i++) {
+            Partition partition = partitions.get(i);
+            if (partition.upperBound() != null && !partition.upperBound().isAfter(cutoff)) {
+                expired.add(partition);
+            }
+        }
+        return expired;
+    }
+
+    // PARTITION_DESCRIPTION : '2026-11-01 00:00:00' 또는 MAXVALUE
+    static LocalDateTime parseBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        return LocalDateTime.parse(description.replace("'", "").trim(), BOUND);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.example.transferservice.partition;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * transactions 월 단위 파티션 관리 설정 (transfer.transaction-partitions)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transfer.transaction-partitions")
+public class TransactionPartitionProperties {
+
+    // archive 를 쓰지 않을 때의 조회 하한 (MySQL DATETIME 최솟값, 모든 파티션 대상)
+    static final LocalDateTime NO_LOWER_BOUND = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    private int monthsAhead = 3;          // 미리 만들어 둘 다음 달 파티션 수
+    private int retentionMonths = 24;     // transactions 에 남길 개월 수 (이번 달 제외), 이전 파티션은 archive 로 이동
+    private boolean archiveEnabled = true;
+
+    /**
+     * transactions 에 보관되는 가장 이른 시각 (조회 하한, archive 기준)
+     */
+    public LocalDateTime retentionStart(LocalDate today) {
+        return today.withDayOfMonth(1).minusMonths(retentionMonths).atStartOfDay();
+    }
+
+    /**
+     * transactions 조회 하한 : archive 사용 시 보존 시작 시각 (이전 거래는 archive 로 이동), 아니면 하한 없음
+     */
+    public LocalDateTime lowerBound(LocalDate today) {
+        return archiveEnabled ? retentionStart(today) : NO_LOWER_BOUND;
+    }
+}
\ No newline at end of file
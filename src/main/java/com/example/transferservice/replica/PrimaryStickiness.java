@@ -0,0 +1,87 @@
+package com.example.transferservice.replica;
+
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+import java.util.function.LongConsumer;
+
+/**
+ * 쓰기 트랜잭션 커밋 후 읽기를 잠시 primary 로 고정 (read-your-writes)
+ * - 트랜잭션 매니저 리스너로 등록되어 읽기 전용이 아닌 트랜잭션의 커밋 시 고정 만료 시각(벽시계)을 기록
+ * - 요청 안에서는 PrimaryStickinessFilter 가 이전 요청의 만료 시각을 복원하고 새 만료 시각을 클라이언트에 전달 (요청/노드 간 유지)
+ * - 요청 밖 스레드는 스레드 단위로 기록
+ * - 다른 스레드가 대신 커밋한 쓰기(입금 묶음 follower 등)는 결과를 받은 요청 스레드가 markWritten 으로 직접 기록
+ * - stickiness 가 지나면 다시 replica 사용 (replica 복제 지연보다 길게 설정)
+ */
+public class PrimaryStickiness implements TransactionExecutionListener {
+
+    private final ThreadLocal<Scope> scope = new ThreadLocal<>();
+    private final long stickinessMillis;
+
+    public PrimaryStickiness(Duration stickiness) {
+        this.stickinessMillis = stickiness.toMillis();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly()) {
+            return;
+        }
+        markWritten();
+    }
+
+    /**
+     * 현재 스레드(요청)의 쓰기가 커밋된 것으로 기록 : 지금부터 stickiness 동안 primary 고정, 요청 안이면 onWrite 로 전달
+     */
+    public void markWritten() {
+        Scope current = scope.get();
+        if (current == null) {
+            current = new Scope(null);
+            scope.set(current);
+        }
+        current.pinnedUntilMillis = System.currentTimeMillis() + stickinessMillis;
+        if (current.onWrite != null) {
+            current.onWrite.accept(current.pinnedUntilMillis);
+        }
+    }
+
+    /**
+     * 요청 시작 : 이전 요청이 받은 만료 시각 복원 (지금 + stickiness 를 넘지 않게 제한), 이번 요청의 쓰기 커밋은 onWrite 로 전달
+     */
+    public void begin(long pinnedUntilMillis, LongConsumer onWrite) {
+        Scope current = new Scope(onWrite);
+        current.pinnedUntilMillis = Math.min(pinnedUntilMillis, System.currentTimeMillis() + stickinessMillis);
+        scope.set(current);
+    }
+
+    public void end() {
+        scope.remove();
+    }
+
+    public boolean isPinned() {
+        Scope current = scope.get();
+        if (current == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() < current.pinnedUntilMillis) {
+            return true;
+        }
+        if (current.onWrite == null) {
+            scope.remove();   // 요청 밖 스레드는 만료되면 정리
+        }
+        return false;
+    }
+
+    // 요청(또는 요청 밖 스레드) 단위 상태
+    private static final class Scope {
+
+        private final LongConsumer onWrite;
+        private long pinnedUntilMillis;
+
+        private Scope(LongConsumer onWrite) {
+            this.onWrite = onWrite;
+        }
+    }
+}
\ No newline at end of file
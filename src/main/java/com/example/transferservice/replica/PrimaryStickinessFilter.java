@@ -0,0 +1,66 @@
+package com.example.transferservice.replica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 요청 간 read-your-writes
+ * - 쓰기 커밋 시 primary 고정 만료 시각(epoch millis)을 쿠키로 내려주고, 다음 요청에서 읽어 같은 클라이언트의 읽기를 primary 로 보냄
+ * - 만료 시각은 벽시계 기준이라 다른 노드로 가는 요청에도 적용
+ * - 응답이 커밋된 뒤의 쓰기는 쿠키를 붙일 수 없음 (서비스 트랜잭션은 응답 본문을 쓰기 전에 커밋됨)
+ */
+public class PrimaryStickinessFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "primary-until";
+
+    private final PrimaryStickiness stickiness;
+    private final int maxAgeSeconds;
+
+    public PrimaryStickinessFilter(PrimaryStickiness stickiness, Duration duration) {
+        this.stickiness = stickiness;
+        this.maxAgeSeconds = (int) Math.max(1, (duration.toMillis() + 999) / 1000);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        stickiness.begin(pinnedUntil(request), pinnedUntil -> {
+            if (!response.isCommitted()) {
+                Cookie cookie = new Cookie(COOKIE, Long.toString(pinnedUntil));
+                cookie.setPath("/");
+                cookie.setHttpOnly(true);
+                cookie.setMaxAge(maxAgeSeconds);
+                response.addCookie(cookie);
+            }
+        });
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            stickiness.end();
+        }
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.example.transferservice.replica;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션 replica 분산 설정 (transfer.read-replicas)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transfer.read-replicas")
+public class ReadReplicaProperties {
+
+    private boolean enabled = false;
+    private List<Node> nodes = new ArrayList<>();
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+    private Duration healthCheckTimeout = Duration.ofSeconds(2);
+    private Duration primaryStickiness = Duration.ofSeconds(2);  // 쓰기 커밋 후 같은 스레드의 읽기를 primary 로 보내는 시간 (복제 지연 이상)
+
+    @Getter
+    @Setter
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
\ No newline at end of file
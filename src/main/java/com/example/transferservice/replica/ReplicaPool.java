@@ -0,0 +1,173 @@
+package com.example.transferservice.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기 replica 커넥션 풀 묶음
+ * - 정상 replica 를 round-robin 으로 선택, 커넥션 획득에 실패한 replica 는 즉시 제외하고 다음 replica 시도
+ * - 별도 스레드가 healthCheckInterval 마다 isValid 로 상태 확인 (복구되면 다시 포함)
+ * - 정상 replica 가 없으면 null → 호출자가 primary 사용
+ */
+@Slf4j
+public class ReplicaPool implements AutoCloseable {
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final int validationTimeoutSeconds;
+    private final ScheduledExecutorService healthChecker;
+
+    @Getter
+    private final Stats stats = new Stats();
+
+    /**
+     * @param dataSources         이름 → replica DataSource
+     * @param healthCheckInterval 0 이면 주기 확인 없음 (checkHealth 직접 호출)
+     */
+    public ReplicaPool(Map<String, DataSource> dataSources, Duration healthCheckInterval, Duration healthCheckTimeout) {
+        dataSources.forEach((name, dataSource) -> replicas.add(new Replica(name, dataSource)));
+        this.validationTimeoutSeconds = (int) Math.max(1, healthCheckTimeout.toSeconds());
+
+        if (healthCheckInterval.isPositive() && !replicas.isEmpty()) {
+            healthChecker = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("replica-health").daemon().factory());
+            long interval = healthCheckInterval.toMillis();
+            healthChecker.scheduleWithFixedDelay(this::checkHealth, interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            healthChecker = null;
+        }
+    }
+
+    // transfer.read-replicas.nodes 로 replica 별 Hikari 풀 생성
+    public static ReplicaPool create(ReadReplicaProperties properties) {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        for (int i = 0; i < properties.getNodes().size(); i++) {
+            ReadReplicaProperties.Node node = properties.getNodes().get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(node.getUrl());
+            dataSource.setUsername(node.getUsername());
+            dataSource.setPassword(node.getPassword());
+            dataSource.setMaximumPoolSize(node.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            dataSource.setInitializationFailTimeout(-1);   // replica 가 내려가 있어도 기동 (health check 가 제외)
+            dataSources.put(dataSource.getPoolName(), dataSource);
+        }
+        return new ReplicaPool(dataSources, properties.getHealthCheckInterval(), properties.getHealthCheckTimeout());
+    }
+
+    // ==============================
+    // Public API
+    // ==============================
+
+    /**
+     * 정상 replica 커넥션 (없으면 null)
+     */
+    public Connection getConnection() {
+        int size = replicas.size();
+        if (size > 0) {
+            int start = Math.floorMod(cursor.getAndIncrement(), size);
+            for (int i = 0; i < size; i++) {
+                Replica replica = replicas.get((start + i) % size);
+                if (!replica.healthy) {
+                    continue;
+                }
+                try {
+                    Connection connection = replica.dataSource.getConnection();
+                    stats.served.increment();
+                    return connection;
+                } catch (SQLException e) {
+                    markDown(replica, e.getMessage());
+                }
+            }
+        }
+        stats.unavailable.increment();
+        return null;
+    }
+
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            String reason = "isValid=false";
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(validationTimeoutSeconds);
+            } catch (SQLException e) {
+                healthy = false;
+                reason = e.getMessage();
+            }
+            if (healthy && !replica.healthy) {
+                replica.healthy = true;
+                log.info("replica 복구 - {}", replica.name);
+            } else if (!healthy) {
+                markDown(replica, reason);
+            }
+        }
+    }
+
+    // replica 이름 → 정상 여부
+    public Map<String, Boolean> status() {
+        Map<String, Boolean> status = new LinkedHashMap<>();
+        replicas.forEach(replica -> status.put(replica.name, replica.healthy));
+        return status;
+    }
+
+    @Override
+    public void close() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("replica 풀 종료 실패 - {}: {}", replica.name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    private void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("replica 제외 - {}: {}", replica.name, reason);
+        }
+    }
+
+    @Getter
+    public static class Stats {
+        private final LongAdder served = new LongAdder();        // replica 에서 커넥션을 받은 횟수
+        private final LongAdder unavailable = new LongAdder();   // 정상 replica 가 없어 primary 로 보낸 횟수
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.example.transferservice.replica;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 트랜잭션 커넥션 선택 (LazyConnectionDataSourceProxy 의 readOnlyDataSource)
+ * - 기본은 정상 replica (round-robin), 정상 replica 가 없으면 primary
+ * - 같은 요청/클라이언트가 방금 쓰기를 커밋했으면 primary (PrimaryStickiness)
+ * - 이름이 PRIMARY_READ_PREFIX 로 시작하는 readOnly 트랜잭션은 primary (캐시 적재처럼 결과를 오래 보관하는 조회)
+ * - 서비스 트랜잭션 밖에서 호출된 Spring Data 저장소 기본 readOnly 트랜잭션은 primary
+ *   (원장 적재, Idempotency 저장 결과 조회 등 방금 커밋된 값을 읽어야 하는 경로가 replica 지연을 보지 않도록
+ *    명시적으로 @Transactional(readOnly = true) 를 선언한 조회만 replica 로 보냄)
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    public static final String PRIMARY_READ_PREFIX = "primary-read:";
+
+    private static final String REPOSITORY_TRANSACTION_PREFIX = "org.springframework.data.";
+
+    private final DataSource primary;
+    private final ReplicaPool replicas;
+    private final PrimaryStickiness stickiness;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaPool replicas, PrimaryStickiness stickiness) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.stickiness = stickiness;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (stickiness.isPinned() || isPrimaryTransaction()) {
+            return primary.getConnection();
+        }
+        Connection replica = replicas.getConnection();
+        return replica != null ? replica : primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    private static boolean isPrimaryTransaction() {
+        String name = TransactionSynchronizationManager.getCurrentTransactionName();
+        return name != null && (name.startsWith(REPOSITORY_TRANSACTION_PREFIX) || name.startsWith(PRIMARY_READ_PREFIX));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.example.transferservice.repository;
+
+import com.example.transferservice.entity.AccountBalanceSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface AccountBalanceSlotRepository extends JpaRepository<AccountBalanceSlot, AccountBalanceSlot.Key> {
+
+    // 슬롯 1 행에만 가산 (accounts 행은 잠그지 않음)
+    @Modifying
+    @Query(value = "UPDATE account_balance_slots SET balance = balance + :amount, updated_at = :now " +
+            "WHERE account_id = :accountId AND slot_no = :slotNo",
+            nativeQuery = true)
+    int addToSlot(@Param("accountId") Long accountId,
+                  @Param("slotNo") int slotNo,
+                  @Param("amount") long amount,
+                  @Param("now") LocalDateTime now);
+
+    // 잔액 조회용 합계 (잠금 없음)
+    @Query("SELECT COALESCE(SUM(s.balance), 0) FROM AccountBalanceSlot s WHERE s.id.accountId = :accountId")
+    long sumBalance(@Param("accountId") Long accountId);
+
+    // 슬롯 합산 전 모든 슬롯 행 잠금
+    @Query(value = "SELECT COALESCE(SUM(balance), 0) FROM account_balance_slots " +
+            "WHERE account_id = :accountId FOR UPDATE",
+            nativeQuery = true)
+    long sumBalanceForUpdate(@Param("accountId") Long accountId);
+
+    @Modifying
+    @Query(value = "UPDATE account_balance_slots SET balance = 0, updated_at = :now " +
+            "WHERE account_id = :accountId AND balance <> 0",
+            nativeQuery = true)
+    int clearBalances(@Param("accountId") Long accountId,
+                      @Param("now") LocalDateTime now);
+
+    // slotNo 이상 슬롯 삭제 (슬롯 수 축소)
+    @Modifying
+    @Query(value = "DELETE FROM account_balance_slots WHERE account_id = :accountId AND slot_no >= :slotNo",
+            nativeQuery = true)
+    int deleteSlotsFrom(@Param("accountId") Long accountId,
+                        @Param("slotNo") int slotNo);
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.transferservice.repository;
+
+import com.example.transferservice.entity.AccountBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface AccountBalanceSnapshotRepository extends JpaRepository<AccountBalanceSnapshot, AccountBalanceSnapshot.Key> {
+
+    // 기준 시각 이전(포함) 가장 최근 스냅샷
+    Optional<AccountBalanceSnapshot> findFirstByIdAccountIdAndIdSnapshotAtLessThanEqualOrderByIdSnapshotAtDesc(
+            Long accountId, LocalDateTime at);
+
+    // 기준 시각 이후 가장 이른 스냅샷 (이전 스냅샷이 없을 때 역방향 재생용)
+    Optional<AccountBalanceSnapshot> findFirstByIdAccountIdAndIdSnapshotAtGreaterThanOrderByIdSnapshotAtAsc(
+            Long accountId, LocalDateTime at);
+
+    // 마지막 스냅샷 작업 기준 시각
+    @Query("SELECT MAX(s.id.snapshotAt) FROM AccountBalanceSnapshot s")
+    Optional<LocalDateTime> findLatestSnapshotAt();
+}
\ No newline at end of file
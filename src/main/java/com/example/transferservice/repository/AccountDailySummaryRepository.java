@@ -0,0 +1,107 @@
+package com.example.transferservice.repository;
+
+import com.example.transferservice.entity.AccountDailySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AccountDailySummaryRepository extends JpaRepository<AccountDailySummary, AccountDailySummary.Key> {
+
+    // 기간 요약 조회 (PK 범위)
+    @Query("SELECT s FROM AccountDailySummary s " +
+            "WHERE s.id.accountId = :accountId AND s.id.summaryDate >= :from AND s.id.summaryDate <= :to " +
+            "ORDER BY s.id.summaryDate")
+    List<AccountDailySummary> findByAccountIdAndPeriod(@Param("accountId") Long accountId,
+                                                       @Param("from") LocalDate from,
+                                                       @Param("to") LocalDate to);
+
+    // 일일 요약 누적 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO account_daily_summary (account_id, summary_date, " +
+            "deposit_amount, deposit_count, withdraw_amount, withdraw_count, " +
+            "transfer_in_amount, transfer_in_count, transfer_out_amount, transfer_out_count, fee_amount, updated_at) " +
+            "VALUES (:accountId, :summaryDate, :depositAmount, :depositCount, :withdrawAmount, :withdrawCount, " +
+            ":transferInAmount, :transferInCount, :transferOutAmount, :transferOutCount, :feeAmount, :now) " +
+            "ON DUPLICATE KEY UPDATE deposit_amount = deposit_amount + :depositAmount, " +
+            "                        deposit_count = deposit_count + :depositCount, " +
+            "                        withdraw_amount = withdraw_amount + :withdrawAmount, " +
+            "                        withdraw_count = withdraw_count + :withdrawCount, " +
+            "                        transfer_in_amount = transfer_in_amount + :transferInAmount, " +
+            "                        transfer_in_count = transfer_in_count + :transferInCount, " +
+            "                        transfer_out_amount = transfer_out_amount + :transferOutAmount, " +
+            "                        transfer_out_count = transfer_out_count + :transferOutCount, " +
+            "                        fee_amount = fee_amount + :feeAmount, " +
+            "                        updated_at = :now",
+            nativeQuery = true)
+    int addActivity(@Param("accountId") Long accountId,
+                    @Param("summaryDate") LocalDate summaryDate,
+                    @Param("depositAmount") long depositAmount,
+                    @Param("depositCount") long depositCount,
+                    @Param("withdrawAmount") long withdrawAmount,
+                    @Param("withdrawCount") long withdrawCount,
+                    @Param("transferInAmount") long transferInAmount,
+                    @Param("transferInCount") long transferInCount,
+                    @Param("transferOutAmount") long transferOutAmount,
+                    @Param("transferOutCount") long transferOutCount,
+                    @Param("feeAmount") long feeAmount,
+                    @Param("now") LocalDateTime now);
+
+    // ==============================
+    // transactions 기준 재계산 (계좌 id 구간 [fromId, toId) × 일자 구간 단위)
+    // ==============================
+
+    @Modifying
+    @Query(value = "DELETE FROM account_daily_summary " +
+            "WHERE account_id >= :fromId AND account_id < :toId " +
+            "AND summary_date >= :fromDate AND summary_date <= :toDate",
+            nativeQuery = true)
+    int deleteRange(@Param("fromId") long fromId,
+                    @Param("toId") long toId,
+                    @Param("fromDate") LocalDate fromDate,
+                    @Param("toDate") LocalDate toDate);
+
+    // 수취 측(입금/이체 수취) + 송금 측(출금/이체 송금/수수료) 을 합쳐 계좌·일자별 집계
+    @Modifying
+    @Query(value = "INSERT INTO account_daily_summary (account_id, summary_date, " +
+            "deposit_amount, deposit_count, withdraw_amount, withdraw_count, " +
+            "transfer_in_amount, transfer_in_count, transfer_out_amount, transfer_out_count, fee_amount, updated_at) " +
+            "SELECT s.account_id, s.summary_date, " +
+            "       SUM(s.deposit_amount), SUM(s.deposit_count), SUM(s.withdraw_amount), SUM(s.withdraw_count), " +
+            "       SUM(s.transfer_in_amount), SUM(s.transfer_in_count), " +
+            "       SUM(s.transfer_out_amount), SUM(s.transfer_out_count), SUM(s.fee_amount), :now " +
+            "FROM ( " +
+            "  SELECT t.receiver_account_id AS account_id, CAST(t.created_at AS DATE) AS summary_date, " +
+            "         CASE WHEN t.type = 'DEPOSIT' THEN t.amount ELSE 0 END AS deposit_amount, " +
+            "         CASE WHEN t.type = 'DEPOSIT' THEN 1 ELSE 0 END AS deposit_count, " +
+            "         0 AS withdraw_amount, 0 AS withdraw_count, " +
+            "         CASE WHEN t.type = 'TRANSFER' THEN t.amount ELSE 0 END AS transfer_in_amount, " +
+            "         CASE WHEN t.type = 'TRANSFER' THEN 1 ELSE 0 END AS transfer_in_count, " +
+            "         0 AS transfer_out_amount, 0 AS transfer_out_count, 0 AS fee_amount " +
+            "  FROM transactions t " +
+            "  WHERE t.receiver_account_id >= :fromId AND t.receiver_account_id < :toId " +
+            "  AND t.created_at >= :startOfFromDate AND t.created_at < :startOfDayAfterToDate " +
+            "  UNION ALL " +
+            "  SELECT t.sender_account_id, CAST(t.created_at AS DATE), 0, 0, " +
+            "         CASE WHEN t.type = 'WITHDRAW' THEN t.amount ELSE 0 END, " +
+            "         CASE WHEN t.type = 'WITHDRAW' THEN 1 ELSE 0 END, " +
+            "         0, 0, " +
+            "         CASE WHEN t.type = 'TRANSFER' THEN t.amount ELSE 0 END, " +
+            "         CASE WHEN t.type = 'TRANSFER' THEN 1 ELSE 0 END, " +
+            "         t.fee " +
+            "  FROM transactions t " +
+            "  WHERE t.sender_account_id >= :fromId AND t.sender_account_id < :toId " +
+            "  AND t.created_at >= :startOfFromDate AND t.created_at < :startOfDayAfterToDate " +
+            ") s " +
+            "GROUP BY s.account_id, s.summary_date",
+            nativeQuery = true)
+    int insertFromTransactions(@Param("fromId") long fromId,
+                               @Param("toId") long toId,
+                               @Param("startOfFromDate") LocalDateTime startOfFromDate,
+                               @Param("startOfDayAfterToDate") LocalDateTime startOfDayAfterToDate,
+                               @Param("now") LocalDateTime now);
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.example.transferservice.repository;
+
+import com.example.transferservice.entity.AccountDailyUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface AccountDailyUsageRepository extends JpaRepository<AccountDailyUsage, AccountDailyUsage.Key> {
+
+    // 출금 사용량 누적 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO account_daily_usage (account_id, usage_date, withdraw_amount, transfer_amount, updated_at) " +
+            "VALUES (:accountId, :usageDate, :amount, 0, :now) " +
+            "ON DUPLICATE KEY UPDATE withdraw_amount = withdraw_amount + :amount, updated_at = :now",
+            nativeQuery = true)
+    int addWithdrawAmount(@Param("accountId") Long accountId,
+                          @Param("usageDate") LocalDate usageDate,
+                          @Param("amount") long amount,
+                          @Param("now") LocalDateTime now);
+
+    // 이체 사용량 누적 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO account_daily_usage (account_id, usage_date, withdraw_amount, transfer_amount, updated_at) " +
+            "VALUES (:accountId, :usageDate, 0, :amount, :now) " +
+            "ON DUPLICATE KEY UPDATE transfer_amount = transfer_amount + :amount, updated_at = :now",
+            nativeQuery = true)
+    int addTransferAmount(@Param("accountId") Long accountId,
+                          @Param("usageDate") LocalDate usageDate,
+                          @Param("amount") long amount,
+                          @Param("now") LocalDateTime now);
+
+    // 누적 직후 당일 합계 (누적 UPDATE 가 잡은 행 잠금 안에서 읽으므로 다른 트랜잭션의 누적과 섞이지 않음)
+    @Query(value = "SELECT withdraw_amount FROM account_daily_usage WHERE account_id = :accountId AND usage_date = :usageDate",
+            nativeQuery = true)
+    long findWithdrawAmount(@Param("accountId") Long accountId, @Param("usageDate") LocalDate usageDate);
+
+    @Query(value = "SELECT transfer_amount FROM account_daily_usage WHERE account_id = :accountId AND usage_date = :usageDate",
+            nativeQuery = true)
+    long findTransferAmount(@Param("accountId") Long accountId, @Param("usageDate") LocalDate usageDate);
+}
\ No newline at end of file
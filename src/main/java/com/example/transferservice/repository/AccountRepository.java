@@ -4,19 +4,71 @@ import com.example.transferservice.entity.Account;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
     Optional<Account> findByPhoneNumber(String phoneNumber);
 
-    boolean existsByAccountNumber(String accountNumber);
-
     Optional<Account> findByIdAndStatus(Long id, Account.AccountStatus status);
 
     @Lock(LockModeType.OPTIMISTIC)
     @Query("SELECT a FROM Account a WHERE a.id = :id AND a.status = 'ACTIVE'")
     Optional<Account> findByIdWithOptimisticLock(Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id = :id AND a.status = 'ACTIVE'")
+    Optional<Account> findByIdForUpdate(@Param("id") Long id);
+
+    // 여러 계좌 행을 id 오름차순으로 잠금 (일괄 이체 chunk, 없는 계좌는 건별 처리에서 실패)
+    @Query(value = "SELECT id FROM accounts WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockAllInIdOrder(@Param("ids") Collection<Long> ids);
+
+    // ==============================
+    // 잔액 분산 슬롯
+    // - 엔티티를 영속성 컨텍스트에 올리지 않도록 스칼라 값만 조회
+    // ==============================
+
+    @Query("SELECT a.balanceSlotCount FROM Account a WHERE a.id = :id AND a.status = 'ACTIVE'")
+    Optional<Integer> findBalanceSlotCountIfActive(@Param("id") Long id);
+
+    // 계좌 행 잠금 (슬롯 합산 전, 잠금 순서 계좌 행 → 슬롯)
+    @Query(value = "SELECT balance_slot_count FROM accounts WHERE id = :id AND status = 'ACTIVE' FOR UPDATE",
+            nativeQuery = true)
+    Optional<Integer> lockBalanceSlotCountIfActive(@Param("id") Long id);
+
+    @Query("SELECT a.id FROM Account a WHERE a.balanceSlotCount > 0 AND a.status = 'ACTIVE'")
+    List<Long> findIdsWithBalanceSlots();
+
+    // ==============================
+    // 단일 UPDATE 잔액 변경 (ATOMIC 모드)
+    // - 조회 없이 조건부 UPDATE, 영향 행 수 0 이면 실패
+    // ==============================
+
+    // 활성 계좌이고 잔액이 충분할 때만 차감
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Account a SET a.balance = a.balance - :amount, a.version = a.version + 1, a.updatedAt = :now " +
+            "WHERE a.id = :id AND a.status = 'ACTIVE' AND a.balance >= :amount")
+    int debitIfSufficient(@Param("id") Long id,
+                          @Param("amount") long amount,
+                          @Param("now") LocalDateTime now);
+
+    // 활성 계좌에 가산
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Account a SET a.balance = a.balance + :amount, a.version = a.version + 1, a.updatedAt = :now " +
+            "WHERE a.id = :id AND a.status = 'ACTIVE'")
+    int creditIfActive(@Param("id") Long id,
+                       @Param("amount") long amount,
+                       @Param("now") LocalDateTime now);
+
+    // 일괄 작업 계좌 id 구간 분할용
+    @Query("SELECT COALESCE(MAX(a.id), 0) FROM Account a")
+    long findMaxId();
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.example.transferservice.repository;
+
+import com.example.transferservice.entity.IdAllocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface IdAllocationRepository extends JpaRepository<IdAllocation, String> {
+
+    // 카운터를 size 만큼 증가 (행 잠금은 트랜잭션 종료까지 유지)
+    @Modifying
+    @Query(value = "UPDATE id_allocations SET next_val = next_val + :size WHERE name = :name",
+            nativeQuery = true)
+    int advance(@Param("name") String name,
+                @Param("size") long size);
+
+    @Query(value = "SELECT next_val FROM id_allocations WHERE name = :name",
+            nativeQuery = true)
+    long findNextVal(@Param("name") String name);
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.example.transferservice.repository;
+
+import com.example.transferservice.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    // 조회 없이 바로 INSERT, 이미 있는 키면 DataIntegrityViolationException
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (idempotency_key, operation, request_hash, transaction_id, created_at) " +
+            "VALUES (:key, :operation, :requestHash, :transactionId, :now)",
+            nativeQuery = true)
+    int insert(@Param("key") String key,
+               @Param("operation") String operation,
+               @Param("requestHash") String requestHash,
+               @Param("transactionId") Long transactionId,
+               @Param("now") LocalDateTime now);
+
+    // 보존 기간이 지난 키를 limit 건씩 삭제 (호출마다 별도 트랜잭션)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_keys WHERE created_at < :cutoff LIMIT :limit",
+            nativeQuery = true)
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff,
+                            @Param("limit") int limit);
+}
\ No newline at end of file
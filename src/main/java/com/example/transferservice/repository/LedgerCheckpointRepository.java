@@ -0,0 +1,21 @@
+package com.example.transferservice.repository;
+
+import com.example.transferservice.entity.LedgerCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface LedgerCheckpointRepository extends JpaRepository<LedgerCheckpoint, String> {
+
+    @Query(value = "SELECT last_seq FROM ledger_checkpoints WHERE name = :name",
+            nativeQuery = true)
+    long findLastSeq(@Param("name") String name);
+
+    // 반영 위치 전진 (뒤로 가지 않음)
+    @Modifying
+    @Query(value = "UPDATE ledger_checkpoints SET last_seq = :seq WHERE name = :name AND last_seq < :seq",
+            nativeQuery = true)
+    int advance(@Param("name") String name,
+                @Param("seq") long seq);
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.example.transferservice.repository;
+
+import com.example.transferservice.entity.LedgerIdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface LedgerIdempotencyRecordRepository extends JpaRepository<LedgerIdempotencyRecord, String> {
+
+    // 보존 기간이 지난 키를 limit 건씩 삭제 (호출마다 별도 트랜잭션)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM ledger_idempotency_keys WHERE created_at < :cutoff LIMIT :limit",
+            nativeQuery = true)
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff,
+                            @Param("limit") int limit);
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.example.transferservice.repository;
+
+import com.example.transferservice.entity.TransactionOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface TransactionOutboxRepository extends JpaRepository<TransactionOutbox, Long> {
+
+    // 미선점/선점 만료 행 중 다른 relay 가 잠근 행은 건너뛰고 limit 건 조회 (이어서 markClaimed 로 선점 표시)
+    @Query(value = "SELECT * FROM transaction_outbox WHERE claimed_until IS NULL OR claimed_until < :now " +
+            "ORDER BY transaction_id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<TransactionOutbox> claimBatch(@Param("limit") int limit, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE TransactionOutbox o SET o.claimToken = :token, o.claimedUntil = :until WHERE o.transactionId IN :ids")
+    int markClaimed(@Param("ids") Collection<Long> ids,
+                    @Param("token") String token,
+                    @Param("until") LocalDateTime until);
+
+    // 발행 완료 행 일괄 삭제 (선점이 만료돼 다른 relay 가 다시 가져간 행은 남김)
+    @Modifying
+    @Query("DELETE FROM TransactionOutbox o WHERE o.transactionId IN :ids AND o.claimToken = :token")
+    int deleteClaimed(@Param("ids") Collection<Long> ids, @Param("token") String token);
+
+    // 발행 실패 시 선점 해제 (다음 주기에 바로 재발행)
+    @Modifying
+    @Query("UPDATE TransactionOutbox o SET o.claimToken = NULL, o.claimedUntil = NULL " +
+            "WHERE o.transactionId IN :ids AND o.claimToken = :token")
+    int releaseClaim(@Param("ids") Collection<Long> ids, @Param("token") String token);
+
+    // 가장 오래된 미발행 이벤트 시각 (발행 지연 측정용, 없으면 null)
+    @Query("SELECT MIN(o.createdAt) FROM TransactionOutbox o")
+    LocalDateTime findOldestCreatedAt();
+}
\ No newline at end of file
@@ -1,38 +1,167 @@
 package com.example.transferservice.repository;
 
-import com.example.transferservice.entity.Account;
+import com.example.transferservice.dto.response.transaction.TransactionResponse;
 import com.example.transferservice.entity.Transaction;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
-    List<Transaction> findBySenderAccountOrReceiverAccountOrderByCreatedAtDesc(Account sender, Account receiver);
-    List<Transaction> findAllByOrderByCreatedAtDesc();
-
-    // 출금 합계 (오늘 기준)
-    @Query("SELECT COALESCE(SUM(t.amount + t.fee), 0) " +
-            "FROM Transaction t " +
-            "WHERE t.senderAccount = :account " +
-            "AND t.type = 'WITHDRAW' " +
-            "AND t.createdAt >= :startOfDay " +
-            "AND t.createdAt <= :endOfDay")
-    long sumWithdrawalsToday(@Param("account") Account account,
-                             @Param("startOfDay") LocalDateTime startOfDay,
-                             @Param("endOfDay") LocalDateTime endOfDay);
-
-    // 이체 합계 (오늘 기준)
-    @Query("SELECT COALESCE(SUM(t.amount), 0) " +
-            "FROM Transaction t " +
-            "WHERE t.senderAccount = :account " +
-            "AND t.type = 'TRANSFER' " +
-            "AND t.createdAt >= :startOfDay " +
-            "AND t.createdAt <= :endOfDay")
-    long sumTransfersToday(@Param("account") Account account,
-                           @Param("startOfDay") LocalDateTime startOfDay,
-                           @Param("endOfDay") LocalDateTime endOfDay);
+    // 조회 전용 경로는 엔티티 대신 스칼라 컬럼만 DTO 로 바로 프로젝션 (영속성 컨텍스트/프록시 생성 없음)
+    String PROJECTION = "SELECT new com.example.transferservice.dto.response.transaction.TransactionResponse(" +
+            "t.id, t.senderAccountId, t.receiverAccountId, t.amount, t.fee, t.type, t.createdAt) " +
+            "FROM Transaction t ";
+
+    // 단건 (Idempotency-Key 재응답, 생성 시각 범위로 파티션 제한)
+    @Query(PROJECTION + "WHERE t.id = :id AND t.createdAt >= :from AND t.createdAt < :to")
+    Optional<TransactionResponse> findResponseById(@Param("id") Long id,
+                                                   @Param("from") LocalDateTime from,
+                                                   @Param("to") LocalDateTime to);
+
+    // ==============================
+    // 커서 페이지네이션 (created_at DESC, id DESC)
+    // - transactions 는 created_at 월 파티션이므로 since 하한(archive 사용 시 보존 시작)을 걸어 파티션 제한
+    // ==============================
+
+    // 전체 거래 - 첫 페이지
+    @Query(PROJECTION + "WHERE t.createdAt >= :since " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionResponse> findFirstPage(@Param("since") LocalDateTime since, Pageable pageable);
+
+    // 전체 거래 - 커서 이후 페이지
+    @Query(PROJECTION + "WHERE t.createdAt >= :since " +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionResponse> findPageAfter(@Param("since") LocalDateTime since,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    // 출금 계좌 기준 - 첫 페이지
+    @Query(PROJECTION + "WHERE t.senderAccountId = :accountId AND t.createdAt >= :since " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionResponse> findFirstPageBySender(@Param("accountId") Long accountId,
+                                                    @Param("since") LocalDateTime since,
+                                                    Pageable pageable);
+
+    // 출금 계좌 기준 - 커서 이후 페이지
+    @Query(PROJECTION + "WHERE t.senderAccountId = :accountId AND t.createdAt >= :since " +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionResponse> findPageBySenderAfter(@Param("accountId") Long accountId,
+                                                    @Param("since") LocalDateTime since,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+
+    // 입금 계좌 기준 - 첫 페이지
+    @Query(PROJECTION + "WHERE t.receiverAccountId = :accountId AND t.createdAt >= :since " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionResponse> findFirstPageByReceiver(@Param("accountId") Long accountId,
+                                                      @Param("since") LocalDateTime since,
+                                                      Pageable pageable);
+
+    // 입금 계좌 기준 - 커서 이후 페이지
+    @Query(PROJECTION + "WHERE t.receiverAccountId = :accountId AND t.createdAt >= :since " +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionResponse> findPageByReceiverAfter(@Param("accountId") Long accountId,
+                                                      @Param("since") LocalDateTime since,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Long id,
+                                                      Pageable pageable);
+
+    // ==============================
+    // 스트리밍 내보내기 (forward-only 스크롤)
+    // - MySQL Connector/J 는 fetchSize = Integer.MIN_VALUE 일 때 행 단위 스트리밍
+    // ==============================
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(PROJECTION + "WHERE t.createdAt >= :from AND t.createdAt < :to " +
+            "ORDER BY t.createdAt, t.id")
+    Stream<TransactionResponse> streamAllBetween(@Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to);
+
+    // 계좌 기준 : sender / receiver 조건을 OR 로 묶으면 V4 인덱스를 쓰지 못하므로 두 갈래 UNION ALL
+    // - 각 갈래는 (sender|receiver)_account_id, created_at, id 인덱스 범위 스캔, 정렬은 바깥 ORDER BY 한 번
+    // - 두 스트림을 따로 열어 병합하지 않음 (Connector/J 스트리밍 결과가 열린 커넥션에는 다른 쿼리를 실행할 수 없음)
+    // - 자기 자신에게 보낸 거래가 두 번 나오지 않도록 receiver 갈래에서 sender = accountId 제외
+    default Stream<TransactionResponse> streamByAccountBetween(Long accountId, LocalDateTime from, LocalDateTime to) {
+        return streamRowsByAccountBetween(accountId, from, to).map(TransactionRepository::toResponse);
+    }
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(value = "SELECT u.id, u.sender_account_id, u.receiver_account_id, u.amount, u.fee, u.type, u.created_at FROM ( " +
+            "  SELECT t.id, t.sender_account_id, t.receiver_account_id, t.amount, t.fee, t.type, t.created_at " +
+            "  FROM transactions t " +
+            "  WHERE t.sender_account_id = :accountId AND t.created_at >= :from AND t.created_at < :to " +
+            "  UNION ALL " +
+            "  SELECT t.id, t.sender_account_id, t.receiver_account_id, t.amount, t.fee, t.type, t.created_at " +
+            "  FROM transactions t " +
+            "  WHERE t.receiver_account_id = :accountId AND t.created_at >= :from AND t.created_at < :to " +
+            "  AND (t.sender_account_id IS NULL OR t.sender_account_id <> :accountId) " +
+            ") u ORDER BY u.created_at, u.id",
+            nativeQuery = true)
+    Stream<Object[]> streamRowsByAccountBetween(@Param("accountId") Long accountId,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+
+    // 네이티브 행 (id, sender, receiver, amount, fee, type, created_at) → DTO
+    private static TransactionResponse toResponse(Object[] row) {
+        return new TransactionResponse(
+                toLong(row[0]), toLong(row[1]), toLong(row[2]), toLong(row[3]), toLong(row[4]),
+                (String) row[5],
+                row[6] instanceof Timestamp ts ? ts.toLocalDateTime() : (LocalDateTime) row[6]);
+    }
+
+    private static Long toLong(Object value) {
+        return value == null ? null : ((Number) value).longValue();
+    }
+
+    // ==============================
+    // 잔액 증감 합계 (createdAt ∈ (from, to], 수취 +amount / 송금 -(amount + fee))
+    // - 특정 시각 잔액 조회 시 스냅샷 이후(또는 이전) 구간 재생용
+    // ==============================
+
+    @Query(value = "SELECT COALESCE(SUM(d.delta), 0) FROM ( " +
+            "  SELECT t.amount AS delta FROM transactions t " +
+            "  WHERE t.receiver_account_id = :accountId AND t.created_at > :from AND t.created_at <= :to " +
+            "  UNION ALL " +
+            "  SELECT -(t.amount + t.fee) FROM transactions t " +
+            "  WHERE t.sender_account_id = :accountId AND t.created_at > :from AND t.created_at <= :to " +
+            ") d",
+            nativeQuery = true)
+    long sumBalanceChange(@Param("accountId") Long accountId,
+                          @Param("from") LocalDateTime from,
+                          @Param("to") LocalDateTime to);
+
+    // 보존 기간이 지나 transactions_archive 로 옮긴 거래
+    @Query(value = "SELECT COALESCE(SUM(d.delta), 0) FROM ( " +
+            "  SELECT t.amount AS delta FROM transactions_archive t " +
+            "  WHERE t.receiver_account_id = :accountId AND t.created_at > :from AND t.created_at <= :to " +
+            "  UNION ALL " +
+            "  SELECT -(t.amount + t.fee) FROM transactions_archive t " +
+            "  WHERE t.sender_account_id = :accountId AND t.created_at > :from AND t.created_at <= :to " +
+            ") d",
+            nativeQuery = true)
+    long sumArchivedBalanceChange(@Param("accountId") Long accountId,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to);
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.example.transferservice.service;
+
+import com.example.transferservice.dto.response.account.AccountBalanceAtResponse;
+import com.example.transferservice.entity.Account;
+import com.example.transferservice.entity.AccountBalanceSnapshot;
+import com.example.transferservice.exception.AccountNotFoundException;
+import com.example.transferservice.partition.TransactionPartitionProperties;
+import com.example.transferservice.repository.AccountBalanceSnapshotRepository;
+import com.example.transferservice.repository.AccountRepository;
+import com.example.transferservice.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 특정 시각 계좌 잔액 조회
+ * - 기준 시각 이전 가장 최근 스냅샷 + (스냅샷 시각, T] 거래 재생 → 재생 비용은 스냅샷 주기 이내 거래 수
+ * - 이전 스냅샷이 없으면(스냅샷 이후 생성 계좌 등) 다음 스냅샷에서 (T, 스냅샷 시각] 거래를 역으로 재생
+ * - 스냅샷이 하나도 없으면 현재 잔액에서 T 이후 거래를 역산
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceHistoryService {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceSlotService balanceSlotService;
+    private final AccountBalanceSnapshotRepository snapshotRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionPartitionProperties partitionProperties;
+
+    // ==============================
+    // 상수
+    // ==============================
+    private static final String ERR_ACCOUNT_NOT_FOUND = "계좌를 찾을 수 없습니다.";
+    private static final String ERR_FUTURE_TIME = "현재 이후 시각의 잔액은 조회할 수 없습니다.";
+
+    // ==============================
+    // Public API
+    // ==============================
+
+    /**
+     * at 시각까지 생성된 거래가 반영된 잔액 (삭제된 계좌도 조회 가능)
+     */
+    @Transactional(readOnly = true)
+    public AccountBalanceAtResponse getBalanceAt(Long accountId, LocalDateTime at) {
+        LocalDateTime now = LocalDateTime.now();
+        if (at.isAfter(now)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ERR_FUTURE_TIME);
+        }
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException(ERR_ACCOUNT_NOT_FOUND));
+
+        Optional<AccountBalanceSnapshot> earlier = snapshotRepository
+                .findFirstByIdAccountIdAndIdSnapshotAtLessThanEqualOrderByIdSnapshotAtDesc(accountId, at);
+        if (earlier.isPresent()) {
+            LocalDateTime snapshotAt = earlier.get().getId().getSnapshotAt();
+            long balance = earlier.get().getBalance() + balanceChange(accountId, snapshotAt, at);
+            return toResponse(accountId, at, balance, snapshotAt);
+        }
+
+        Optional<AccountBalanceSnapshot> later = snapshotRepository
+                .findFirstByIdAccountIdAndIdSnapshotAtGreaterThanOrderByIdSnapshotAtAsc(accountId, at);
+        if (later.isPresent()) {
+            LocalDateTime snapshotAt = later.get().getId().getSnapshotAt();
+            long balance = later.get().getBalance() - balanceChange(accountId, at, snapshotAt);
+            return toResponse(accountId, at, balance, snapshotAt);
+        }
+
+        long balance = balanceSlotService.totalBalance(account) - balanceChange(accountId, at, now.plusMinutes(1));
+        return toResponse(accountId, at, balance, null);
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    // (from, to] 구간 거래 증감, 보존 기간 이전 구간은 archive 도 합산
+    private long balanceChange(Long accountId, LocalDateTime from, LocalDateTime to) {
+        long change = transactionRepository.sumBalanceChange(accountId, from, to);
+        if (from.isBefore(partitionProperties.retentionStart(LocalDate.now()))) {
+            change += transactionRepository.sumArchivedBalanceChange(accountId, from, to);
+        }
+        return change;
+    }
+
+    private static AccountBalanceAtResponse toResponse(Long accountId, LocalDateTime at, long balance,
+                                                       LocalDateTime snapshotAt) {
+        return AccountBalanceAtResponse.builder()
+                .accountId(accountId)
+                .at(at)
+                .balance(balance)
+                .snapshotAt(snapshotAt)
+                .build();
+    }
+}
\ No newline at end of file
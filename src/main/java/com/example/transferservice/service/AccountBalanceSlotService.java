@@ -0,0 +1,133 @@
+package com.example.transferservice.service;
+
+import com.example.transferservice.entity.Account;
+import com.example.transferservice.entity.AccountBalanceSlot;
+import com.example.transferservice.exception.AccountNotFoundException;
+import com.example.transferservice.repository.AccountBalanceSlotRepository;
+import com.example.transferservice.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 입금 집중 계좌의 잔액 분산 슬롯 관리
+ * - 입금: 임의 슬롯 1 행에만 가산
+ * - 출금/조회: 슬롯 합계를 accounts.balance 에 합산(또는 더해서 응답)
+ * - 잠금 순서는 항상 계좌 행 → 슬롯 (잔액 변경 전략과 동일)
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceSlotService {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceSlotRepository slotRepository;
+
+    // ==============================
+    // 상수
+    // ==============================
+    private static final String ERR_ACCOUNT_NOT_FOUND = "계좌를 찾을 수 없습니다.";
+    private static final String ERR_INVALID_SLOT_COUNT = "잔액 분산 슬롯 수는 0 ~ %d 사이여야 합니다.";
+    private static final String ERR_SLOT_CHANGED = "잔액 분산 슬롯 구성이 변경되었습니다.";
+
+    public static final int MAX_SLOT_COUNT = 64;
+
+    // ==============================
+    // Public API
+    // ==============================
+
+    /**
+     * 활성 계좌의 슬롯 수 (미사용/없는 계좌는 0, 잠금 없음)
+     */
+    public int slotCountOf(Long accountId) {
+        return accountRepository.findBalanceSlotCountIfActive(accountId).orElse(0);
+    }
+
+    /**
+     * 임의 슬롯에 입금액 가산
+     * - 슬롯 수 축소와 경합해 행이 없으면 재시도 대상 예외
+     */
+    public void creditRandomSlot(Long accountId, int slotCount, long amount) {
+        int slotNo = ThreadLocalRandom.current().nextInt(slotCount);
+        if (slotRepository.addToSlot(accountId, slotNo, amount, LocalDateTime.now()) == 0) {
+            throw new OptimisticLockingFailureException(ERR_SLOT_CHANGED);
+        }
+    }
+
+    /**
+     * 슬롯 잔액을 모두 accounts.balance 로 합산 (계좌 행 잠금 → 슬롯 잠금)
+     * - 호출자 트랜잭션에 참여, 계좌 엔티티가 영속성 컨텍스트에 올라오기 전에 호출해야 함
+     *
+     * @return 합산된 금액
+     */
+    @Transactional
+    public long consolidate(Long accountId) {
+        if (accountRepository.lockBalanceSlotCountIfActive(accountId).isEmpty()) {
+            throw new AccountNotFoundException(ERR_ACCOUNT_NOT_FOUND);
+        }
+        long drained = drainSlots(accountId);
+        if (drained > 0) {
+            accountRepository.creditIfActive(accountId, drained, LocalDateTime.now());
+        }
+        return drained;
+    }
+
+    /**
+     * 모든 슬롯 행을 잠그고 잔액을 0 으로 비운 뒤 합계 반환
+     * - 호출자가 계좌 행 잠금을 먼저 잡고, 반환된 합계를 계좌 잔액에 반영해야 함
+     */
+    public long drainSlots(Long accountId) {
+        long sum = slotRepository.sumBalanceForUpdate(accountId);
+        if (sum != 0) {
+            slotRepository.clearBalances(accountId, LocalDateTime.now());
+        }
+        return sum;
+    }
+
+    /**
+     * 조회용 총 잔액 (accounts.balance + 슬롯 합계)
+     */
+    public long totalBalance(Account account) {
+        if (!account.hasBalanceSlots()) {
+            return account.getBalance();
+        }
+        return account.getBalance() + slotRepository.sumBalance(account.getId());
+    }
+
+    /**
+     * 슬롯 수 변경 (0 이면 분산 해제)
+     * - 기존 슬롯 잔액은 먼저 accounts.balance 로 합산
+     */
+    @Transactional
+    public Account changeSlotCount(Long accountId, int slotCount) {
+        if (slotCount < 0 || slotCount > MAX_SLOT_COUNT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, String.format(ERR_INVALID_SLOT_COUNT, MAX_SLOT_COUNT));
+        }
+
+        Account account = accountRepository.findByIdForUpdate(accountId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, ERR_ACCOUNT_NOT_FOUND));
+        long drained = drainSlots(accountId);
+
+        int current = account.hasBalanceSlots() ? account.getBalanceSlotCount() : 0;
+        if (slotCount < current) {
+            slotRepository.deleteSlotsFrom(accountId, slotCount);
+        }
+        for (int slotNo = current; slotNo < slotCount; slotNo++) {
+            slotRepository.save(AccountBalanceSlot.builder()
+                    .id(AccountBalanceSlot.Key.of(accountId, slotNo))
+                    .balance(0L)
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+
+        account.setBalance(account.getBalance() + drained);
+        account.setBalanceSlotCount(slotCount);
+        accountRepository.save(account);
+        return account;
+    }
+}
\ No newline at end of file
@@ -1,14 +1,20 @@
 package com.example.transferservice.service;
 
+import com.example.transferservice.accountnumber.AccountNumberAllocator;
+import com.example.transferservice.cache.AccountChangedEvent;
+import com.example.transferservice.cache.AccountResponseCache;
 import com.example.transferservice.dto.request.account.AccountRequest;
 import com.example.transferservice.dto.response.account.AccountResponse;
 import com.example.transferservice.entity.Account;
 import com.example.transferservice.entity.Account.AccountStatus;
+import com.example.transferservice.replica.ReplicaRoutingDataSource;
 import com.example.transferservice.repository.AccountRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
@@ -16,6 +22,11 @@ import org.springframework.web.server.ResponseStatusException;
 public class AccountService {
 
     private final AccountRepository accountRepository;
+    private final AccountBalanceSlotService balanceSlotService;
+    private final AccountNumberAllocator accountNumberAllocator;
+    private final AccountResponseCache accountCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ==============================
     // 상수
@@ -39,8 +50,8 @@ public class AccountService {
                     throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ERR_DUPLICATE_PHONE);
                 });
 
-        // 유니크 계좌번호 생성
-        String accountNumber = generateUniqueAccountNumber();
+        // 유니크 계좌번호 할당 (예약 블록 순번 치환, 중복 확인 조회 없음)
+        String accountNumber = accountNumberAllocator.nextAccountNumber();
 
         // 계좌 엔티티 생성
         Account account = Account.builder()
@@ -52,23 +63,11 @@ public class AccountService {
                 .build();
 
         Account saved = accountRepository.save(account);
+        // 가입 전 조회로 남아있을 수 있는 캐시 정리
+        eventPublisher.publishEvent(AccountChangedEvent.of(saved.getId()));
         return AccountResponse.fromEntity(saved);
     }
 
-    /**
-     * DB에 존재하지 않는 유니크 계좌번호 생성
-     */
-    private String generateUniqueAccountNumber() {
-        String accNum;
-        do {
-            accNum = String.format("%03d-%03d-%04d",
-                    (int) (Math.random() * 1000),
-                    (int) (Math.random() * 1000),
-                    (int) (Math.random() * 10000));
-        } while (accountRepository.existsByAccountNumber(accNum));
-        return accNum;
-    }
-
     /**
      * 계좌 삭제 (상태 변경)
      */
@@ -83,16 +82,43 @@ public class AccountService {
 
         account.setStatus(AccountStatus.DELETED);
         accountRepository.save(account);
+        eventPublisher.publishEvent(AccountChangedEvent.of(accountId));
         return true;
     }
 
     /**
      * 계좌 조회 (전화번호 기준)
+     * - 캐시 적중 시 DB 트랜잭션 없이 응답, 미스일 때만 읽기 전용 트랜잭션을 열어 조회
+     * - 적재 값은 TTL 동안 응답에 쓰이므로 replica 지연 값이 남지 않도록 primary 에서 조회
      */
-    @Transactional(readOnly = true)
     public AccountResponse getAccountByPhoneNumber(String phoneNumber) {
-        Account account = accountRepository.findByPhoneNumber(phoneNumber)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, ERR_ACCOUNT_NOT_FOUND));
+        return accountCache.get(phoneNumber, () -> loadAccountByPhoneNumber(phoneNumber));
+    }
+
+    /**
+     * 잔액 분산 슬롯 수 변경 (입금 집중 계좌용, 0 이면 해제)
+     */
+    public AccountResponse changeBalanceSlots(Long accountId, int slotCount) {
+        Account account = balanceSlotService.changeSlotCount(accountId, slotCount);
+        eventPublisher.publishEvent(AccountChangedEvent.of(accountId));
         return AccountResponse.fromEntity(account);
     }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    private AccountResponse loadAccountByPhoneNumber(String phoneNumber) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        readOnly.setName(ReplicaRoutingDataSource.PRIMARY_READ_PREFIX + "loadAccountByPhoneNumber");
+        return readOnly.execute(status -> {
+            Account account = accountRepository.findByPhoneNumber(phoneNumber)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, ERR_ACCOUNT_NOT_FOUND));
+            if (account.hasBalanceSlots()) {
+                return AccountResponse.fromEntity(account, balanceSlotService.totalBalance(account));
+            }
+            return AccountResponse.fromEntity(account);
+        });
+    }
 }
\ No newline at end of file
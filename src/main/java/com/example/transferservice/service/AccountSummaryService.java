@@ -0,0 +1,56 @@
+package com.example.transferservice.service;
+
+import com.example.transferservice.dto.response.account.AccountDailySummaryResponse;
+import com.example.transferservice.dto.response.account.AccountSummaryResponse;
+import com.example.transferservice.repository.AccountDailySummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 계좌별 기간 거래 요약 조회
+ * - account_daily_summary 만 읽음 (transactions 집계 없음, 조회 비용은 기간 일수에 비례)
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountSummaryService {
+
+    private final AccountDailySummaryRepository summaryRepository;
+
+    // ==============================
+    // 상수
+    // ==============================
+    private static final int MAX_PERIOD_DAYS = 366;
+    private static final String ERR_INVALID_PERIOD = "조회 시작일은 종료일과 같거나 이전이어야 하며, 최대 " + MAX_PERIOD_DAYS + "일까지 조회할 수 있습니다.";
+
+    // ==============================
+    // Public API
+    // ==============================
+
+    /**
+     * from ~ to (포함) 기간 요약
+     */
+    @Transactional(readOnly = true)
+    public AccountSummaryResponse getSummary(Long accountId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_PERIOD_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ERR_INVALID_PERIOD);
+        }
+
+        List<AccountDailySummaryResponse> days = summaryRepository.findByAccountIdAndPeriod(accountId, from, to).stream()
+                .map(AccountDailySummaryResponse::fromEntity)
+                .toList();
+        return AccountSummaryResponse.builder()
+                .accountId(accountId)
+                .from(from)
+                .to(to)
+                .total(AccountDailySummaryResponse.total(days))
+                .days(days)
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.example.transferservice.service;
+
+import com.example.transferservice.dto.response.transaction.TransactionResponse;
+import com.example.transferservice.entity.Account;
+import com.example.transferservice.exception.AccountNotFoundException;
+import com.example.transferservice.repository.AccountRepository;
+import com.example.transferservice.repository.TransactionRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 거래 내역 NDJSON 내보내기
+ * - forward-only 스트림으로 한 행씩 읽어 바로 응답 스트림에 기록 (행 수와 무관하게 메모리 일정)
+ * - 엔티티가 아닌 DTO 프로젝션을 읽으므로 영속성 컨텍스트가 커지지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService {
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final ObjectMapper objectMapper;
+
+    // ==============================
+    // 상수
+    // ==============================
+    private static final String ERR_ACCOUNT_NOT_FOUND = "계좌를 찾을 수 없습니다.";
+    private static final String ERR_INVALID_PERIOD = "조회 시작 시각은 종료 시각보다 이전이어야 합니다.";
+
+    private static final String NDJSON_SEPARATOR = "\n";
+    private static final int FLUSH_INTERVAL = 500;    // N 행마다 응답 flush
+
+    // ==============================
+    // Public API
+    // ==============================
+
+    /**
+     * 스트리밍 시작 전 요청 검증 (응답 커밋 전에 404/400 을 돌려주기 위함)
+     */
+    @Transactional(readOnly = true)
+    public void validate(Long accountId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ERR_INVALID_PERIOD);
+        }
+        if (accountId != null) {
+            accountRepository.findByIdAndStatus(accountId, Account.AccountStatus.ACTIVE)
+                    .orElseThrow(() -> new AccountNotFoundException(ERR_ACCOUNT_NOT_FOUND));
+        }
+    }
+
+    /**
+     * 기간 내 거래 내역을 NDJSON 으로 기록 (accountId 가 null 이면 전체)
+     *
+     * @return 기록한 행 수
+     */
+    @Transactional(readOnly = true)
+    public long exportNdjson(Long accountId, LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(TransactionResponse.class)
+                .withRootValueSeparator(NDJSON_SEPARATOR)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        long count = 0;
+        try (Stream<TransactionResponse> rows = openStream(accountId, from, to);
+             SequenceWriter sequence = writer.writeValues(out)) {
+
+            Iterator<TransactionResponse> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                sequence.write(iterator.next());
+                count++;
+
+                // 첫 행은 즉시 내보내고, 이후에는 일정 간격으로 flush
+                if (count == 1 || count % FLUSH_INTERVAL == 0) {
+                    sequence.flush();
+                }
+            }
+
+            sequence.flush();
+            if (count > 0) {
+                out.write('\n');
+            }
+        }
+        out.flush();
+        return count;
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    private Stream<TransactionResponse> openStream(Long accountId, LocalDateTime from, LocalDateTime to) {
+        return (accountId != null)
+                ? transactionRepository.streamByAccountBetween(accountId, from, to)
+                : transactionRepository.streamAllBetween(from, to);
+    }
+}
@@ -1,117 +1,464 @@
 package com.example.transferservice.service;
 
+import com.example.transferservice.cache.AccountChangedEvent;
+import com.example.transferservice.coalescing.DepositCoalescer;
+import com.example.transferservice.coalescing.PendingDeposit;
+import com.example.transferservice.concurrency.AccountStripedLock;
+import com.example.transferservice.concurrency.OptimisticLockRetryExecutor;
 import com.example.transferservice.dto.request.transaction.DepositRequest;
 import com.example.transferservice.dto.request.transaction.WithdrawRequest;
+import com.example.transferservice.dto.request.transaction.TransactionCursor;
 import com.example.transferservice.dto.request.transaction.TransferRequest;
+import com.example.transferservice.dto.response.common.CursorSlice;
+import com.example.transferservice.dto.response.transaction.TransactionResponse;
+import com.example.transferservice.dto.response.transaction.TransferBatchItemResponse;
 import com.example.transferservice.entity.Account;
+import com.example.transferservice.entity.LedgerIdempotencyRecord;
 import com.example.transferservice.entity.Transaction;
 import com.example.transferservice.entity.Transaction.TransactionType;
 import com.example.transferservice.exception.AccountNotFoundException;
+import com.example.transferservice.exception.DailyLimitExceededException;
 import com.example.transferservice.exception.InsufficientBalanceException;
+import com.example.transferservice.idempotency.IdempotentRequest;
+import com.example.transferservice.ledger.LedgerEngine;
+import com.example.transferservice.ledger.LedgerOp;
+import com.example.transferservice.metrics.TransferMetrics;
+import com.example.transferservice.outbox.TransactionOutboxWriter;
+import com.example.transferservice.partition.TransactionPartitionProperties;
+import com.example.transferservice.summary.AccountDailySummaryWriter;
+import com.example.transferservice.repository.AccountDailyUsageRepository;
 import com.example.transferservice.repository.AccountRepository;
+import com.example.transferservice.repository.IdempotencyRecordRepository;
+import com.example.transferservice.repository.LedgerIdempotencyRecordRepository;
 import com.example.transferservice.repository.TransactionRepository;
+import com.example.transferservice.service.locking.AccountLockingStrategy;
+import com.example.transferservice.service.locking.AccountLockingStrategy.TransferAccounts;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+import static com.example.transferservice.idempotency.IdempotencyService.ERR_KEY_REUSED;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TransactionService {
 
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
+    private final AccountDailyUsageRepository dailyUsageRepository;
+    private final IdempotencyRecordRepository idempotencyRepository;
+    private final LedgerIdempotencyRecordRepository ledgerIdempotencyRepository;
+    private final TransactionOutboxWriter outboxWriter;
+    private final AccountDailySummaryWriter summaryWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final OptimisticLockRetryExecutor retryExecutor;
+    private final AccountStripedLock accountLock;
+    private final AccountLockingStrategy lockingStrategy;
+    private final LedgerEngine ledgerEngine;
+    private final DepositCoalescer depositCoalescer;
+    private final TransactionPartitionProperties partitionProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransferMetrics metrics;
 
     // ==============================
     // 상수
     // ==============================
     private static final String ERR_ACCOUNT_NOT_FOUND = "계좌를 찾을 수 없습니다.";
-    private static final String ERR_INSUFFICIENT_BALANCE = "잔액이 부족합니다.";
-    private static final String ERR_DAILY_WITHDRAW_LIMIT = "일일 출금 한도를 초과했습니다. (최대 %d원)";
-    private static final String ERR_DAILY_TRANSFER_LIMIT = "일일 이체 한도를 초과했습니다. (최대 %d원)";
+    public static final String ERR_DAILY_WITHDRAW_LIMIT = "일일 출금 한도를 초과했습니다. (최대 %d원)";
+    public static final String ERR_DAILY_TRANSFER_LIMIT = "일일 이체 한도를 초과했습니다. (최대 %d원)";
+
+    private static final String ERR_SAME_ACCOUNT = "출금 계좌와 수취 계좌가 동일합니다.";
+    private static final String ERR_INVALID_BATCH_SIZE = "일괄 이체는 1 ~ %d 건까지 요청할 수 있습니다.";
+    private static final String ERR_BATCH_TEMPORARY_FAILURE = "일시적인 오류로 처리하지 못했습니다. 다시 시도해주세요.";
+
+    private static final String ERR_INVALID_PAGE_LIMIT = "조회 건수는 1 ~ %d 사이여야 합니다.";
+    private static final String ERR_INVALID_CURSOR = "유효하지 않은 커서입니다.";
+
+    // 원장 모드(LedgerEngine)도 같은 한도 적용
+    public static final long DAILY_WITHDRAW_LIMIT = 1_000_000L;
+    public static final long DAILY_TRANSFER_LIMIT = 3_000_000L;
+
+    private static final int MAX_PAGE_LIMIT = 500;
 
-    private static final long DAILY_WITHDRAW_LIMIT = 1_000_000L;
-    private static final long DAILY_TRANSFER_LIMIT = 3_000_000L;
+    private static final int MAX_BATCH_SIZE = 1_000;
+    private static final int BATCH_CHUNK_SIZE = 100;  // 일괄 이체 트랜잭션 1회당 처리 건수
+    private static final int BATCH_CHUNK_MAX_ACCOUNTS = 32;  // 일괄 이체 트랜잭션 1회당 잠그는 계좌 수
+
+    // 재시도 정책 키 (transfer.retry.operations.<key>)
+    public static final String OP_DEPOSIT = "deposit";
+    public static final String OP_WITHDRAW = "withdraw";
+    public static final String OP_TRANSFER = "transfer";
+    public static final String OP_TRANSFER_BATCH = "transfer-batch";
+
+    private static final Comparator<TransactionResponse> NEWEST_FIRST =
+            Comparator.comparing(TransactionResponse::getCreatedAt)
+                    .thenComparing(TransactionResponse::getId)
+                    .reversed();
+
+    // 일괄 이체 적용 순서 : 송금 계좌 → 수취 계좌 → 요청 순서
+    private static final Comparator<BatchItem> BATCH_ORDER =
+            Comparator.comparing((BatchItem item) -> item.request().getSenderId())
+                    .thenComparing(item -> item.request().getReceiverId())
+                    .thenComparingInt(BatchItem::index);
 
     // ==============================
     // Public API
+    // - 처리 시간 계측 → 계좌 스트라이프 락 → 충돌 재시도 → 트랜잭션 순으로 감쌈
+    // - 원장 모드(transfer.ledger.enabled=true)면 잠금/트랜잭션 없이 LedgerEngine 에 위임
     // ==============================
 
     /**
      * 계좌 입금
      */
-    @Transactional
     public Transaction deposit(DepositRequest request) {
-        Account account = findAccountOrThrow(request.getAccountId());
-        account.setBalance(account.getBalance() + request.getAmount());
-        accountRepository.save(account);
-        return createTransaction(null, account, request.getAmount(), 0L, TransactionType.DEPOSIT);
+        return deposit(request, null);
     }
 
     /**
-     * 계좌 출금 (일일 한도 체크 + 낙관적 락)
+     * 계좌 입금 (idempotent 가 있으면 거래와 같은 트랜잭션에서 키 기록)
+     * - transfer.deposit-coalescing.enabled=true 면 같은 계좌 동시 입금을 묶어 한 트랜잭션으로 적용
      */
-    @Transactional
-    public Transaction withdraw(WithdrawRequest request) {
-        Account account = accountRepository.findByIdWithOptimisticLock(request.getAccountId())
-                .orElseThrow(() -> new AccountNotFoundException(ERR_ACCOUNT_NOT_FOUND));
-
-        validateSufficientBalance(account, request.getAmount());
-        validateDailyWithdrawLimit(account, request.getAmount());
+    public Transaction deposit(DepositRequest request, IdempotentRequest idempotent) {
+        if (ledgerEngine.isEnabled()) {
+            return metrics.timeOperation(OP_DEPOSIT, () -> viaLedger(idempotent,
+                    key -> ledgerEngine.deposit(request.getAccountId(), request.getAmount(), key)));
+        }
+        PendingDeposit deposit = new PendingDeposit(request, idempotent);
+        if (depositCoalescer.isEnabled()) {
+            return metrics.timeOperation(OP_DEPOSIT,
+                    () -> depositCoalescer.submit(deposit, this::depositBatch, this::depositOne));
+        }
+        return metrics.timeOperation(OP_DEPOSIT, () -> depositOne(deposit));
+    }
 
-        account.setBalance(account.getBalance() - request.getAmount());
-        accountRepository.save(account);
+    /**
+     * 계좌 출금 (일일 한도 체크, 낙관적 락 충돌 시 재시도)
+     */
+    public Transaction withdraw(WithdrawRequest request) {
+        return withdraw(request, null);
+    }
 
-        return createTransaction(account, null, request.getAmount(), 0L, TransactionType.WITHDRAW);
+    public Transaction withdraw(WithdrawRequest request, IdempotentRequest idempotent) {
+        if (ledgerEngine.isEnabled()) {
+            return metrics.timeOperation(OP_WITHDRAW, () -> viaLedger(idempotent,
+                    key -> ledgerEngine.withdraw(request.getAccountId(), request.getAmount(), key)));
+        }
+        return metrics.timeOperation(OP_WITHDRAW, () -> accountLock.executeLocked(
+                () -> retryExecutor.execute(OP_WITHDRAW,
+                        () -> transactionTemplate.execute(status -> recordIdempotency(idempotent, doWithdraw(request)))),
+                request.getAccountId()));
     }
 
     /**
-     * 계좌 이체 (1% 수수료 + 일일 한도 체크)
+     * 계좌 이체 (1% 수수료 + 일일 한도 체크, 충돌 시 재시도)
      */
-    @Transactional
     public Transaction transfer(TransferRequest request) {
-        if (request.getSenderId().equals(request.getReceiverId())) {
-            throw new IllegalArgumentException("출금 계좌와 수취 계좌가 동일합니다.");
-        }
-
-        Account sender = accountRepository.findByIdWithOptimisticLock(request.getSenderId())
-                .orElseThrow(() -> new AccountNotFoundException("송금자 " + ERR_ACCOUNT_NOT_FOUND));
-
-        Account receiver = findAccountOrThrow(request.getReceiverId());
+        return transfer(request, null);
+    }
 
-        long fee = calculateFee(request.getAmount(), 0.01); // 1% 수수료
-        long totalDebit = request.getAmount() + fee;
+    public Transaction transfer(TransferRequest request, IdempotentRequest idempotent) {
+        return metrics.timeOperation(OP_TRANSFER, () -> {
+            if (request.getSenderId().equals(request.getReceiverId())) {
+                throw new IllegalArgumentException(ERR_SAME_ACCOUNT);
+            }
+            if (ledgerEngine.isEnabled()) {
+                return viaLedger(idempotent, key -> transferViaLedger(request, key));
+            }
+            return accountLock.executeLocked(
+                    () -> retryExecutor.execute(OP_TRANSFER,
+                            () -> transactionTemplate.execute(status -> recordIdempotency(idempotent, doTransfer(request)))),
+                    request.getSenderId(), request.getReceiverId());
+        });
+    }
 
-        validateSufficientBalance(sender, totalDebit);
-        validateDailyTransferLimit(sender, request.getAmount());
+    /**
+     * 일괄 이체 (건별 결과 반환, 실패 건이 있어도 나머지는 처리)
+     * - 송금/수취 계좌 순으로 정렬해 같은 계좌 요청을 모은 뒤
+     *   최대 BATCH_CHUNK_SIZE 건, 계좌 BATCH_CHUNK_MAX_ACCOUNTS 개씩 한 트랜잭션으로 처리
+     * - 같은 송금 계좌의 요청은 요청 순서대로 적용
+     * - chunk 의 계좌 행은 id 오름차순으로 먼저 잠그고, 건별 실패는 세이브포인트로 해당 건만 롤백
+     */
+    public List<TransferBatchItemResponse> transferBatch(List<TransferRequest> requests) {
+        validateBatchSize(requests.size());
+        TransferBatchItemResponse[] results = new TransferBatchItemResponse[requests.size()];
 
-        sender.setBalance(sender.getBalance() - totalDebit);
-        receiver.setBalance(receiver.getBalance() + request.getAmount());
+        List<BatchItem> items = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            TransferRequest request = requests.get(i);
+            if (request.getSenderId().equals(request.getReceiverId())) {
+                results[i] = TransferBatchItemResponse.failure(i, TransferBatchItemResponse.Status.INVALID_REQUEST, ERR_SAME_ACCOUNT);
+            } else {
+                items.add(new BatchItem(i, request));
+            }
+        }
+        items.sort(BATCH_ORDER);
 
-        accountRepository.save(sender);
-        accountRepository.save(receiver);
+        if (ledgerEngine.isEnabled()) {
+            // 원장 엔진이 건별로 검증/적용 (같은 송금 계좌는 정렬 순서대로 제출)
+            for (BatchItem item : items) {
+                results[item.index()] = transferBatchItemViaLedger(item);
+            }
+            return Arrays.asList(results);
+        }
 
-        return createTransaction(sender, receiver, request.getAmount(), fee, TransactionType.TRANSFER);
+        for (List<BatchItem> chunk : splitChunks(items)) {
+            applyChunk(chunk, results);
+        }
+        return Arrays.asList(results);
     }
 
     /**
-     * 특정 계좌 거래 조회
+     * 특정 계좌 거래 조회 (커서 페이지네이션)
+     * - 출금/입금 계좌 인덱스를 각각 limit + 1 건씩 탐색한 뒤 병합
+     * - 보존 기간 이전(archive 로 이동한) 거래는 조회하지 않음
      */
     @Transactional(readOnly = true)
-    public List<Transaction> getTransactions(Long accountId) {
-        Account account = findAccountOrThrow(accountId);
-        return transactionRepository.findBySenderAccountOrReceiverAccountOrderByCreatedAtDesc(account, account);
+    public CursorSlice<TransactionResponse> getTransactions(Long accountId, String after, int limit) {
+        findAccountOrThrow(accountId);
+        validatePageLimit(limit);
+        TransactionCursor cursor = decodeCursor(after);
+        Pageable page = PageRequest.of(0, limit + 1);
+        LocalDateTime since = partitionProperties.lowerBound(LocalDate.now());
+
+        List<TransactionResponse> sent = (cursor == null)
+                ? transactionRepository.findFirstPageBySender(accountId, since, page)
+                : transactionRepository.findPageBySenderAfter(accountId, since, cursor.getCreatedAt(), cursor.getId(), page);
+        List<TransactionResponse> received = (cursor == null)
+                ? transactionRepository.findFirstPageByReceiver(accountId, since, page)
+                : transactionRepository.findPageByReceiverAfter(accountId, since, cursor.getCreatedAt(), cursor.getId(), page);
+
+        return toSlice(mergeNewestFirst(sent, received, limit + 1), limit);
     }
 
     /**
-     * 전체 거래 조회
+     * 전체 거래 조회 (커서 페이지네이션)
      */
     @Transactional(readOnly = true)
-    public List<Transaction> getAllTransactions() {
-        return transactionRepository.findAllByOrderByCreatedAtDesc();
+    public CursorSlice<TransactionResponse> getAllTransactions(String after, int limit) {
+        validatePageLimit(limit);
+        TransactionCursor cursor = decodeCursor(after);
+        Pageable page = PageRequest.of(0, limit + 1);
+        LocalDateTime since = partitionProperties.lowerBound(LocalDate.now());
+
+        List<TransactionResponse> rows = (cursor == null)
+                ? transactionRepository.findFirstPage(since, page)
+                : transactionRepository.findPageAfter(since, cursor.getCreatedAt(), cursor.getId(), page);
+
+        return toSlice(rows, limit);
+    }
+
+    // ==============================
+    // 입금 적용
+    // ==============================
+
+    private Transaction depositOne(PendingDeposit deposit) {
+        DepositRequest request = deposit.request();
+        return accountLock.executeLocked(
+                () -> retryExecutor.execute(OP_DEPOSIT,
+                        () -> transactionTemplate.execute(status -> recordIdempotency(deposit.idempotent(), doDeposit(request)))),
+                request.getAccountId());
+    }
+
+    // 같은 계좌 입금 묶음 : 잔액 가산 1 회 + 거래 INSERT 배치 (결과는 입력 순서)
+    private List<Transaction> depositBatch(List<PendingDeposit> deposits) {
+        Long accountId = deposits.get(0).request().getAccountId();
+        long total = deposits.stream().mapToLong(deposit -> deposit.request().getAmount()).sum();
+
+        return accountLock.executeLocked(
+                () -> retryExecutor.execute(OP_DEPOSIT,
+                        () -> transactionTemplate.execute(status -> {
+                            Account account = lockingStrategy.credit(accountId, total);
+                            List<Transaction> txs = createDeposits(account, deposits);
+                            for (int i = 0; i < txs.size(); i++) {
+                                recordIdempotency(deposits.get(i).idempotent(), txs.get(i));
+                            }
+                            return txs;
+                        })),
+                accountId);
+    }
+
+    // ==============================
+    // 잔액 변경 (트랜잭션 1회 시도 단위)
+    // - 계좌 잠금/검증/변경은 AccountLockingStrategy 가 담당
+    // ==============================
+
+    private Transaction doDeposit(DepositRequest request) {
+        Account account = lockingStrategy.credit(request.getAccountId(), request.getAmount());
+        return createTransaction(null, account, request.getAmount(), 0L, TransactionType.DEPOSIT);
+    }
+
+    // 한도 초과(DailyLimitExceededException)면 차감까지 트랜잭션 롤백
+    private Transaction doWithdraw(WithdrawRequest request) {
+        Account account = lockingStrategy.debit(request.getAccountId(), request.getAmount());
+        addDailyWithdrawWithinLimit(request.getAccountId(), LocalDate.now(), request.getAmount());
+
+        return createTransaction(account, null, request.getAmount(), 0L, TransactionType.WITHDRAW);
+    }
+
+    private Transaction doTransfer(TransferRequest request) {
+        Transaction tx = applyTransfer(request);
+        addDailyTransferWithinLimit(request.getSenderId(), LocalDate.now(), request.getAmount());
+        return tx;
+    }
+
+    // 수수료 계산 → 잔액 변경 → 거래 기록 (한도 누적/검증은 호출자 담당)
+    private Transaction applyTransfer(TransferRequest request) {
+        long fee = calculateFee(request.getAmount(), 0.01); // 1% 수수료
+        long totalDebit = request.getAmount() + fee;
+
+        TransferAccounts accounts = lockingStrategy.transfer(
+                request.getSenderId(), request.getReceiverId(), totalDebit, request.getAmount());
+
+        return createTransaction(accounts.sender(), accounts.receiver(), request.getAmount(), fee, TransactionType.TRANSFER);
+    }
+
+    // ==============================
+    // 일괄 이체
+    // ==============================
+
+    private record BatchItem(int index, TransferRequest request) {
+    }
+
+    // 건수/계좌 수 상한 중 먼저 닿는 쪽에서 chunk 분할 (스트라이프 락/행 잠금 보유 수 제한)
+    private List<List<BatchItem>> splitChunks(List<BatchItem> items) {
+        List<List<BatchItem>> chunks = new ArrayList<>();
+        List<BatchItem> chunk = new ArrayList<>();
+        Set<Long> accountIds = new HashSet<>();
+
+        for (BatchItem item : items) {
+            TransferRequest request = item.request();
+            int added = (accountIds.contains(request.getSenderId()) ? 0 : 1)
+                    + (accountIds.contains(request.getReceiverId()) ? 0 : 1);
+            if (!chunk.isEmpty()
+                    && (chunk.size() >= BATCH_CHUNK_SIZE || accountIds.size() + added > BATCH_CHUNK_MAX_ACCOUNTS)) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                accountIds.clear();
+            }
+            chunk.add(item);
+            accountIds.add(request.getSenderId());
+            accountIds.add(request.getReceiverId());
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private void applyChunk(List<BatchItem> chunk, TransferBatchItemResponse[] results) {
+        Long[] accountIds = accountIdsOf(chunk);
+        List<TransferBatchItemResponse> outcomes;
+        try {
+            outcomes = accountLock.executeLocked(
+                    () -> retryExecutor.execute(OP_TRANSFER_BATCH,
+                            () -> transactionTemplate.execute(status -> doTransferChunk(chunk, accountIds))),
+                    accountIds);
+        } catch (RuntimeException e) {
+            // 재시도 소진, 락 대기 초과 등 → chunk 전체 실패 (재요청 가능)
+            log.warn("일괄 이체 chunk 처리 실패 - {}건", chunk.size(), e);
+            for (BatchItem item : chunk) {
+                results[item.index()] = TransferBatchItemResponse.failure(
+                        item.index(), TransferBatchItemResponse.Status.FAILED, ERR_BATCH_TEMPORARY_FAILURE);
+            }
+            return;
+        }
+
+        for (TransferBatchItemResponse outcome : outcomes) {
+            results[outcome.getIndex()] = outcome;
+        }
+    }
+
+    // chunk 1회 시도 (트랜잭션 내부)
+    // - 계좌 행을 id 오름차순으로 먼저 잠가 잠금 전략과 무관하게 chunk 간 잠금 순서를 통일
+    // - 한도는 건마다 원장에 누적한 뒤 누적값으로 검증 (단건 이체와 같은 방식)
+    // - 건별 실패는 세이브포인트로 되돌리고 다음 건 진행 (세이브포인트는 DB 만 되돌리므로 영속성 컨텍스트는 비움)
+    private List<TransferBatchItemResponse> doTransferChunk(List<BatchItem> items, Long[] accountIds) {
+        accountRepository.lockAllInIdOrder(Arrays.asList(accountIds));
+        LocalDate today = LocalDate.now();
+        List<TransferBatchItemResponse> outcomes = new ArrayList<>(items.size());
+
+        for (BatchItem item : items) {
+            TransferRequest request = item.request();
+            Savepoint savepoint = setSavepoint();
+            try {
+                Transaction tx = applyTransfer(request);
+                addDailyTransferWithinLimit(request.getSenderId(), today, request.getAmount());
+                entityManager.flush();
+                outcomes.add(TransferBatchItemResponse.success(item.index(), tx));
+            } catch (AccountNotFoundException | InsufficientBalanceException e) {
+                rollbackToSavepoint(savepoint);
+                entityManager.clear();
+                outcomes.add(toBatchFailure(item.index(), e));
+            }
+        }
+        return outcomes;
+    }
+
+    private Savepoint setSavepoint() {
+        return entityManager.unwrap(Session.class).doReturningWork(Connection::setSavepoint);
+    }
+
+    private void rollbackToSavepoint(Savepoint savepoint) {
+        entityManager.unwrap(Session.class).doWork(connection -> connection.rollback(savepoint));
+    }
+
+    private TransferBatchItemResponse transferBatchItemViaLedger(BatchItem item) {
+        try {
+            return TransferBatchItemResponse.success(item.index(),
+                    toTransaction(transferViaLedger(item.request(), LedgerOp.Key.NONE)));
+        } catch (AccountNotFoundException | InsufficientBalanceException e) {
+            return toBatchFailure(item.index(), e);
+        } catch (RuntimeException e) {
+            log.warn("일괄 이체 원장 처리 실패 - index={}", item.index(), e);
+            return TransferBatchItemResponse.failure(
+                    item.index(), TransferBatchItemResponse.Status.FAILED, ERR_BATCH_TEMPORARY_FAILURE);
+        }
+    }
+
+    private Long[] accountIdsOf(List<BatchItem> items) {
+        return items.stream()
+                .flatMap(item -> Stream.of(item.request().getSenderId(), item.request().getReceiverId()))
+                .distinct()
+                .sorted()
+                .toArray(Long[]::new);
+    }
+
+    private TransferBatchItemResponse toBatchFailure(int index, RuntimeException e) {
+        TransferBatchItemResponse.Status status;
+        if (e instanceof DailyLimitExceededException) {
+            status = TransferBatchItemResponse.Status.LIMIT_EXCEEDED;
+        } else if (e instanceof InsufficientBalanceException) {
+            status = TransferBatchItemResponse.Status.INSUFFICIENT_BALANCE;
+        } else {
+            status = TransferBatchItemResponse.Status.NOT_FOUND;
+        }
+        return TransferBatchItemResponse.failure(index, status, e.getMessage());
     }
 
     // ==============================
@@ -123,34 +470,164 @@ public class TransactionService {
                 .orElseThrow(() -> new AccountNotFoundException(ERR_ACCOUNT_NOT_FOUND));
     }
 
-    private void validateSufficientBalance(Account account, long requiredAmount) {
-        if (account.getBalance() < requiredAmount) {
-            throw new InsufficientBalanceException(ERR_INSUFFICIENT_BALANCE);
+    // ==============================
+    // 원장 모드
+    // - 거래/잔액의 DB 반영은 LedgerProjector 가 비동기로 처리
+    // ==============================
+
+    private LedgerOp transferViaLedger(TransferRequest request, LedgerOp.Key key) {
+        long fee = calculateFee(request.getAmount(), 0.01); // 1% 수수료
+        return ledgerEngine.transfer(request.getSenderId(), request.getReceiverId(), request.getAmount(), fee, key);
+    }
+
+    // 멱등 키는 작업과 함께 저널에 기록 (DB 반영 전 중복은 LedgerEngine writer 가, 반영 후 중복은 여기서 걸러냄)
+    private Transaction viaLedger(IdempotentRequest idempotent, Function<LedgerOp.Key, LedgerOp> submit) {
+        if (idempotent == null) {
+            return toTransaction(submit.apply(LedgerOp.Key.NONE));
         }
+        LedgerOp.Key key = LedgerOp.Key.of(idempotent);
+        Optional<LedgerIdempotencyRecord> stored = ledgerIdempotencyRepository.findById(key.hashHex());
+        if (stored.isPresent()) {
+            if (!stored.get().getRequestHash().equals(key.requestHex())) {
+                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, ERR_KEY_REUSED);
+            }
+            return toTransaction(stored.get());
+        }
+        return toTransaction(submit.apply(key));
+    }
+
+    // 저장 전 거래 객체 (응답 변환용, 계좌는 id 만 채움)
+    private static Transaction toTransaction(LedgerOp op) {
+        return Transaction.builder()
+                .id(op.transactionId())
+                .senderAccount(op.senderId() == 0 ? null : Account.builder().id(op.senderId()).build())
+                .receiverAccount(op.receiverId() == 0 ? null : Account.builder().id(op.receiverId()).build())
+                .amount(op.amount())
+                .fee(op.fee())
+                .type(op.type())
+                .createdAt(op.createdAt())
+                .build();
+    }
+
+    private static Transaction toTransaction(LedgerIdempotencyRecord record) {
+        return Transaction.builder()
+                .id(record.getTransactionId())
+                .senderAccount(record.getSenderAccountId() == null ? null : Account.builder().id(record.getSenderAccountId()).build())
+                .receiverAccount(record.getReceiverAccountId() == null ? null : Account.builder().id(record.getReceiverAccountId()).build())
+                .amount(record.getAmount())
+                .fee(record.getFee())
+                .type(record.getType())
+                .createdAt(record.getCreatedAt())
+                .build();
     }
 
-    private long calculateFee(long amount, double rate) {
+    // JMH 벤치마크(src/jmh)에서 직접 호출하므로 package-private
+    static long calculateFee(long amount, double rate) {
         return Math.round(amount * rate);
     }
 
-    private void validateDailyWithdrawLimit(Account account, long amount) {
-        LocalDateTime startOfDay = LocalDateTime.now().with(LocalTime.MIN);
-        LocalDateTime endOfDay = LocalDateTime.now().with(LocalTime.MAX);
-        long sumToday = transactionRepository.sumWithdrawalsToday(account, startOfDay, endOfDay);
+    // 일일 한도 검증 (원장에 먼저 누적하고 누적 후 합계로 판단)
+    // - 누적 UPSERT 가 (account_id, usage_date) 행 잠금을 커밋까지 잡으므로 노드/잠금 전략과 무관하게
+    //   같은 계좌의 검증+누적이 직렬화됨, 초과면 예외로 트랜잭션 전체(차감 포함) 롤백
+    private void addDailyWithdrawWithinLimit(Long accountId, LocalDate today, long amount) {
+        long sumToday = metrics.timeLimitQuery(OP_WITHDRAW, () -> {
+            dailyUsageRepository.addWithdrawAmount(accountId, today, amount, LocalDateTime.now());
+            return dailyUsageRepository.findWithdrawAmount(accountId, today);
+        });
+
+        if (sumToday >= DAILY_WITHDRAW_LIMIT) {
+            throw new DailyLimitExceededException(String.format(ERR_DAILY_WITHDRAW_LIMIT, DAILY_WITHDRAW_LIMIT));
+        }
+    }
+
+    private void addDailyTransferWithinLimit(Long accountId, LocalDate today, long amount) {
+        long sumToday = metrics.timeLimitQuery(OP_TRANSFER, () -> {
+            dailyUsageRepository.addTransferAmount(accountId, today, amount, LocalDateTime.now());
+            return dailyUsageRepository.findTransferAmount(accountId, today);
+        });
+
+        if (sumToday >= DAILY_TRANSFER_LIMIT) {
+            throw new DailyLimitExceededException(String.format(ERR_DAILY_TRANSFER_LIMIT, DAILY_TRANSFER_LIMIT));
+        }
+    }
+
+    private void validateBatchSize(int size) {
+        if (size < 1 || size > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, String.format(ERR_INVALID_BATCH_SIZE, MAX_BATCH_SIZE));
+        }
+    }
+
+    private void validatePageLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, String.format(ERR_INVALID_PAGE_LIMIT, MAX_PAGE_LIMIT));
+        }
+    }
+
+    private TransactionCursor decodeCursor(String after) {
+        if (after == null || after.isBlank()) {
+            return null;
+        }
+        try {
+            return TransactionCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ERR_INVALID_CURSOR);
+        }
+    }
 
-        if (sumToday + amount >= DAILY_WITHDRAW_LIMIT) {
-            throw new InsufficientBalanceException(String.format(ERR_DAILY_WITHDRAW_LIMIT, DAILY_WITHDRAW_LIMIT));
+    // (created_at DESC, id DESC) 로 정렬된 두 목록을 최대 maxSize 건까지 병합
+    private List<TransactionResponse> mergeNewestFirst(List<TransactionResponse> left, List<TransactionResponse> right,
+                                                       int maxSize) {
+        List<TransactionResponse> merged = new ArrayList<>(Math.min(maxSize, left.size() + right.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < maxSize && (i < left.size() || j < right.size())) {
+            if (j >= right.size()
+                    || (i < left.size() && NEWEST_FIRST.compare(left.get(i), right.get(j)) <= 0)) {
+                merged.add(left.get(i++));
+            } else {
+                merged.add(right.get(j++));
+            }
         }
+        return merged;
     }
 
-    private void validateDailyTransferLimit(Account account, long amount) {
-        LocalDateTime startOfDay = LocalDateTime.now().with(LocalTime.MIN);
-        LocalDateTime endOfDay = LocalDateTime.now().with(LocalTime.MAX);
-        long sumToday = transactionRepository.sumTransfersToday(account, startOfDay, endOfDay);
+    // limit + 1 건 조회 결과로 다음 커서 존재 여부 판단
+    private CursorSlice<TransactionResponse> toSlice(List<TransactionResponse> rows, int limit) {
+        if (rows.size() <= limit) {
+            return new CursorSlice<>(rows, null);
+        }
+        List<TransactionResponse> content = rows.subList(0, limit);
+        TransactionResponse last = content.get(limit - 1);
+        return new CursorSlice<>(content, TransactionCursor.of(last.getCreatedAt(), last.getId()).encode());
+    }
 
-        if (sumToday + amount >= DAILY_TRANSFER_LIMIT) {
-            throw new InsufficientBalanceException(String.format(ERR_DAILY_TRANSFER_LIMIT, DAILY_TRANSFER_LIMIT));
+    // 중복 키면 DataIntegrityViolationException 으로 거래까지 롤백
+    private Transaction recordIdempotency(IdempotentRequest idempotent, Transaction tx) {
+        if (idempotent != null) {
+            idempotencyRepository.insert(idempotent.key(), idempotent.operation(), idempotent.requestHash(),
+                    tx.getId(), LocalDateTime.now());
         }
+        return tx;
+    }
+
+    // 같은 계좌 입금 여러 건 기록 (INSERT 는 JDBC 배치, 캐시 무효화 이벤트 1 회)
+    private List<Transaction> createDeposits(Account receiver, List<PendingDeposit> deposits) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Transaction> txs = deposits.stream()
+                .map(deposit -> Transaction.builder()
+                        .receiverAccount(receiver)
+                        .amount(deposit.request().getAmount())
+                        .fee(0L)
+                        .type(TransactionType.DEPOSIT)
+                        .createdAt(now)
+                        .build())
+                .toList();
+        List<Transaction> saved = transactionRepository.saveAll(txs);
+        saved.forEach(outboxWriter::append);
+        summaryWriter.appendAll(saved);
+
+        eventPublisher.publishEvent(AccountChangedEvent.of(receiver.getId()));
+        return saved;
     }
 
     private Transaction createTransaction(Account sender, Account receiver,
@@ -163,6 +640,15 @@ public class TransactionService {
                 .type(type)
                 .createdAt(LocalDateTime.now())
                 .build();
-        return transactionRepository.save(tx);
+        Transaction saved = transactionRepository.save(tx);
+        outboxWriter.append(saved);  // 외부 발행은 OutboxRelay 가 비동기로 처리
+        summaryWriter.append(saved); // 계좌별 일일 요약 누적 (같은 트랜잭션)
+
+        // 잔액이 바뀐 계좌의 조회 캐시 무효화 (커밋 후 처리)
+        eventPublisher.publishEvent(new AccountChangedEvent(Stream.of(sender, receiver)
+                .filter(Objects::nonNull)
+                .map(Account::getId)
+                .toList()));
+        return saved;
     }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.example.transferservice.service.locking;
+
+import com.example.transferservice.entity.Account;
+
+/**
+ * 잔액 변경 시 계좌 동시성 제어 전략
+ * - 모든 메서드는 호출자의 트랜잭션 안에서 실행
+ * - 계좌 없음/비활성은 AccountNotFoundException, 잔액 부족은 InsufficientBalanceException
+ */
+public interface AccountLockingStrategy {
+
+    /**
+     * 활성 계좌에 amount 가산
+     *
+     * @return 거래 기록에 연결할 계좌 (엔티티 또는 참조 프록시)
+     */
+    Account credit(Long accountId, long amount);
+
+    /**
+     * 잔액 검증 후 amount 차감
+     */
+    Account debit(Long accountId, long amount);
+
+    /**
+     * 송금 계좌에서 debitAmount 차감, 수취 계좌에 creditAmount 가산
+     */
+    TransferAccounts transfer(Long senderId, Long receiverId, long debitAmount, long creditAmount);
+
+    record TransferAccounts(Account sender, Account receiver) {
+    }
+}
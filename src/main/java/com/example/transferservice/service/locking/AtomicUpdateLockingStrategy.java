@@ -0,0 +1,83 @@
+package com.example.transferservice.service.locking;
+
+import com.example.transferservice.entity.Account;
+import com.example.transferservice.exception.AccountNotFoundException;
+import com.example.transferservice.exception.InsufficientBalanceException;
+import com.example.transferservice.repository.AccountRepository;
+import com.example.transferservice.service.AccountBalanceSlotService;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 단일 UPDATE
+ * - 계좌를 읽지 않으므로 @Version 충돌 없음, 영향 행 수 0 이면 원인 판별 후 예외
+ * - 이체 시 두 계좌를 항상 id 오름차순으로 UPDATE 하여 데드락 방지 (계좌별로 계좌 행 → 슬롯 순)
+ * - 출금은 본 잔액으로 먼저 차감을 시도하고, 실패할 때만 슬롯 잔액 합산 여부 확인
+ * - 입금은 계좌 행을 잠그지 않도록 잠금 없이 슬롯 수를 읽어 슬롯 계좌면 슬롯에 가산
+ */
+@RequiredArgsConstructor
+public class AtomicUpdateLockingStrategy implements AccountLockingStrategy {
+
+    private static final String ERR_ACCOUNT_NOT_FOUND = "계좌를 찾을 수 없습니다.";
+    private static final String ERR_INSUFFICIENT_BALANCE = "잔액이 부족합니다.";
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceSlotService balanceSlotService;
+
+    @Override
+    public Account credit(Long accountId, long amount) {
+        creditOrThrow(accountId, amount);
+        return accountRepository.getReferenceById(accountId);
+    }
+
+    @Override
+    public Account debit(Long accountId, long amount) {
+        debitOrThrow(accountId, amount, ERR_ACCOUNT_NOT_FOUND);
+        return accountRepository.getReferenceById(accountId);
+    }
+
+    @Override
+    public TransferAccounts transfer(Long senderId, Long receiverId, long debitAmount, long creditAmount) {
+        if (senderId < receiverId) {
+            debitOrThrow(senderId, debitAmount, "송금자 " + ERR_ACCOUNT_NOT_FOUND);
+            creditOrThrow(receiverId, creditAmount);
+        } else {
+            creditOrThrow(receiverId, creditAmount);
+            debitOrThrow(senderId, debitAmount, "송금자 " + ERR_ACCOUNT_NOT_FOUND);
+        }
+        return new TransferAccounts(accountRepository.getReferenceById(senderId),
+                accountRepository.getReferenceById(receiverId));
+    }
+
+    private void debitOrThrow(Long accountId, long amount, String notFoundMessage) {
+        LocalDateTime now = LocalDateTime.now();
+        if (accountRepository.debitIfSufficient(accountId, amount, now) == 1) {
+            return;
+        }
+        // 영향 행 0 : 계좌가 없거나(비활성) 잔액 부족, 슬롯 계좌면 슬롯 잔액 합산 후 한 번 더 시도
+        int slotCount = accountRepository.lockBalanceSlotCountIfActive(accountId)
+                .orElseThrow(() -> new AccountNotFoundException(notFoundMessage));
+        if (slotCount > 0) {
+            long drained = balanceSlotService.drainSlots(accountId);
+            if (drained > 0) {
+                accountRepository.creditIfActive(accountId, drained, now);
+                if (accountRepository.debitIfSufficient(accountId, amount, now) == 1) {
+                    return;
+                }
+            }
+        }
+        throw new InsufficientBalanceException(ERR_INSUFFICIENT_BALANCE);
+    }
+
+    private void creditOrThrow(Long accountId, long amount) {
+        int slotCount = balanceSlotService.slotCountOf(accountId);
+        if (slotCount > 0) {
+            balanceSlotService.creditRandomSlot(accountId, slotCount, amount);
+            return;
+        }
+        if (accountRepository.creditIfActive(accountId, amount, LocalDateTime.now()) == 0) {
+            throw new AccountNotFoundException(ERR_ACCOUNT_NOT_FOUND);
+        }
+    }
+}
\ No newline at end of file
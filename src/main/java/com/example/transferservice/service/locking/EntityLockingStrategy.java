@@ -0,0 +1,102 @@
+package com.example.transferservice.service.locking;
+
+import com.example.transferservice.entity.Account;
+import com.example.transferservice.exception.AccountNotFoundException;
+import com.example.transferservice.exception.InsufficientBalanceException;
+import com.example.transferservice.repository.AccountRepository;
+import com.example.transferservice.service.AccountBalanceSlotService;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * 엔티티 조회 → 검증 → 변경 → save 흐름의 공통 구현
+ * - 하위 전략은 계좌를 어떤 락으로 읽을지만 결정
+ * - 잔액 분산 슬롯 여부는 조회한 계좌 행으로 판단 (슬롯 계좌 입금은 슬롯에, 출금은 슬롯 합산 후 차감)
+ * - 이체는 계좌 id 오름차순으로 계좌별 처리 (계좌 행 → 슬롯 순), 모든 전략/작업이 같은 잠금 순서 사용
+ */
+@RequiredArgsConstructor
+abstract class EntityLockingStrategy implements AccountLockingStrategy {
+
+    private static final String ERR_ACCOUNT_NOT_FOUND = "계좌를 찾을 수 없습니다.";
+    private static final String ERR_INSUFFICIENT_BALANCE = "잔액이 부족합니다.";
+
+    protected final AccountRepository accountRepository;
+    protected final AccountBalanceSlotService balanceSlotService;
+
+    // 입금 대상 계좌 조회
+    protected abstract Optional<Account> loadForCredit(Long accountId);
+
+    // 출금 대상 계좌 조회
+    protected abstract Optional<Account> loadForDebit(Long accountId);
+
+    // 이체 대상 두 계좌 조회 (기본: 송금 → 수취 순)
+    protected TransferAccounts loadForTransfer(Long senderId, Long receiverId) {
+        Account sender = loadForDebit(senderId)
+                .orElseThrow(() -> new AccountNotFoundException("송금자 " + ERR_ACCOUNT_NOT_FOUND));
+        Account receiver = loadForCredit(receiverId)
+                .orElseThrow(() -> new AccountNotFoundException(ERR_ACCOUNT_NOT_FOUND));
+        return new TransferAccounts(sender, receiver);
+    }
+
+    @Override
+    public Account credit(Long accountId, long amount) {
+        Account account = loadForCredit(accountId)
+                .orElseThrow(() -> new AccountNotFoundException(ERR_ACCOUNT_NOT_FOUND));
+        applyCredit(account, amount);
+        return account;
+    }
+
+    @Override
+    public Account debit(Long accountId, long amount) {
+        Account account = loadForDebit(accountId)
+                .orElseThrow(() -> new AccountNotFoundException(ERR_ACCOUNT_NOT_FOUND));
+        applyDebit(account, amount);
+        return account;
+    }
+
+    @Override
+    public TransferAccounts transfer(Long senderId, Long receiverId, long debitAmount, long creditAmount) {
+        TransferAccounts accounts = loadForTransfer(senderId, receiverId);
+        if (senderId < receiverId) {
+            applyDebit(accounts.sender(), debitAmount);
+            applyCredit(accounts.receiver(), creditAmount);
+        } else {
+            applyCredit(accounts.receiver(), creditAmount);
+            applyDebit(accounts.sender(), debitAmount);
+        }
+        return accounts;
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    // 슬롯 계좌는 임의 슬롯 1 행에만 가산 (계좌 행은 변경하지 않음)
+    private void applyCredit(Account account, long amount) {
+        if (account.hasBalanceSlots()) {
+            balanceSlotService.creditRandomSlot(account.getId(), account.getBalanceSlotCount(), amount);
+            return;
+        }
+        account.setBalance(account.getBalance() + amount);
+        accountRepository.save(account);
+    }
+
+    // 슬롯 계좌는 계좌 행을 잠근 뒤 슬롯 잔액을 본 잔액으로 합산하고 차감
+    private void applyDebit(Account account, long amount) {
+        if (account.hasBalanceSlots()) {
+            accountRepository.lockBalanceSlotCountIfActive(account.getId())
+                    .orElseThrow(() -> new AccountNotFoundException(ERR_ACCOUNT_NOT_FOUND));
+            account.setBalance(account.getBalance() + balanceSlotService.drainSlots(account.getId()));
+        }
+        validateSufficientBalance(account, amount);
+        account.setBalance(account.getBalance() - amount);
+        accountRepository.save(account);
+    }
+
+    private void validateSufficientBalance(Account account, long requiredAmount) {
+        if (account.getBalance() < requiredAmount) {
+            throw new InsufficientBalanceException(ERR_INSUFFICIENT_BALANCE);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.example.transferservice.service.locking;
+
+import com.example.transferservice.entity.Account;
+import com.example.transferservice.repository.AccountRepository;
+import com.example.transferservice.service.AccountBalanceSlotService;
+
+import java.util.Optional;
+
+/**
+ * 낙관적 락 (@Version)
+ * - 락 없이 읽고 커밋 시 version 으로 충돌 감지, 충돌은 OptimisticLockRetryExecutor 가 재시도
+ */
+public class OptimisticLockingStrategy extends EntityLockingStrategy {
+
+    public OptimisticLockingStrategy(AccountRepository accountRepository, AccountBalanceSlotService balanceSlotService) {
+        super(accountRepository, balanceSlotService);
+    }
+
+    @Override
+    protected Optional<Account> loadForCredit(Long accountId) {
+        return accountRepository.findByIdAndStatus(accountId, Account.AccountStatus.ACTIVE);
+    }
+
+    @Override
+    protected Optional<Account> loadForDebit(Long accountId) {
+        return accountRepository.findByIdWithOptimisticLock(accountId);
+    }
+}
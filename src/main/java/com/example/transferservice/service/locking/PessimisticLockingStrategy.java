@@ -0,0 +1,44 @@
+package com.example.transferservice.service.locking;
+
+import com.example.transferservice.entity.Account;
+import com.example.transferservice.exception.AccountNotFoundException;
+import com.example.transferservice.repository.AccountRepository;
+import com.example.transferservice.service.AccountBalanceSlotService;
+
+import java.util.Optional;
+
+/**
+ * 비관적 락 (SELECT ... FOR UPDATE)
+ * - 이체 시 두 계좌를 항상 id 오름차순으로 잠가 A→B / B→A 동시 이체의 데드락 방지
+ */
+public class PessimisticLockingStrategy extends EntityLockingStrategy {
+
+    private static final String ERR_ACCOUNT_NOT_FOUND = "계좌를 찾을 수 없습니다.";
+
+    public PessimisticLockingStrategy(AccountRepository accountRepository, AccountBalanceSlotService balanceSlotService) {
+        super(accountRepository, balanceSlotService);
+    }
+
+    @Override
+    protected Optional<Account> loadForCredit(Long accountId) {
+        return accountRepository.findByIdForUpdate(accountId);
+    }
+
+    @Override
+    protected Optional<Account> loadForDebit(Long accountId) {
+        return accountRepository.findByIdForUpdate(accountId);
+    }
+
+    @Override
+    protected TransferAccounts loadForTransfer(Long senderId, Long receiverId) {
+        boolean senderFirst = senderId < receiverId;
+        Optional<Account> first = accountRepository.findByIdForUpdate(senderFirst ? senderId : receiverId);
+        Optional<Account> second = accountRepository.findByIdForUpdate(senderFirst ? receiverId : senderId);
+
+        Account sender = (senderFirst ? first : second)
+                .orElseThrow(() -> new AccountNotFoundException("송금자 " + ERR_ACCOUNT_NOT_FOUND));
+        Account receiver = (senderFirst ? second : first)
+                .orElseThrow(() -> new AccountNotFoundException(ERR_ACCOUNT_NOT_FOUND));
+        return new TransferAccounts(sender, receiver);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.transferservice.snapshot;
+
+import com.example.transferservice.ledger.LedgerProjector;
+import com.example.transferservice.repository.AccountBalanceSnapshotRepository;
+import com.example.transferservice.repository.AccountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계좌 잔액 스냅샷 기록
+ * - 기준 시각 S = 실행 시각 - settleLag, 스냅샷 잔액 = 현재 총 잔액(슬롯 포함) - S 이후 생성된 거래 증감
+ *   (같은 트랜잭션의 일관된 읽기라 S 까지의 거래가 정확히 반영된 잔액, 이전 스냅샷에 의존하지 않음)
+ * - 계좌 id 를 chunkSize 구간으로 나눠 구간마다 한 트랜잭션 : 잔액 조회 → 증감 조회 → JDBC 배치 INSERT
+ * - 직전 스냅샷 이후 거래가 있었거나 새로 생긴 계좌만 기록 (변화 없는 계좌는 직전 스냅샷이 그대로 유효)
+ * - 원장 모드에서 반영 지연이 있으면 기준 시각을 마지막 반영 작업 생성 시각 이전으로 제한 (미반영 거래가 S 이전에 남지 않도록)
+ */
+@Slf4j
+@Component
+public class AccountBalanceSnapshotter {
+
+    // 첫 실행 (스냅샷 없음) 이면 모든 계좌 대상
+    private static final LocalDateTime NO_SNAPSHOT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final String SELECT_CHANGED_BALANCES =
+            "SELECT a.id, a.balance + COALESCE((SELECT SUM(s.balance) FROM account_balance_slots s WHERE s.account_id = a.id), 0) " +
+                    "FROM accounts a " +
+                    "WHERE a.id >= ? AND a.id < ? " +
+                    "AND (a.created_at > ? " +
+                    "  OR EXISTS (SELECT 1 FROM transactions t WHERE t.sender_account_id = a.id AND t.created_at > ? AND t.created_at <= ?) " +
+                    "  OR EXISTS (SELECT 1 FROM transactions t WHERE t.receiver_account_id = a.id AND t.created_at > ? AND t.created_at <= ?))";
+
+    // S 이후 생성된 거래의 계좌별 증감 (수취 +amount / 송금 -(amount + fee))
+    private static final String SELECT_CHANGES_AFTER =
+            "SELECT d.account_id, SUM(d.delta) FROM ( " +
+                    "  SELECT t.receiver_account_id AS account_id, t.amount AS delta FROM transactions t " +
+                    "  WHERE t.receiver_account_id >= ? AND t.receiver_account_id < ? AND t.created_at > ? " +
+                    "  UNION ALL " +
+                    "  SELECT t.sender_account_id, -(t.amount + t.fee) FROM transactions t " +
+                    "  WHERE t.sender_account_id >= ? AND t.sender_account_id < ? AND t.created_at > ? " +
+                    ") d GROUP BY d.account_id";
+
+    private static final String INSERT_SNAPSHOT =
+            "INSERT INTO account_balance_snapshots (account_id, snapshot_at, balance, created_at) VALUES (?, ?, ?, ?)";
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceSnapshotRepository snapshotRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LedgerProjector ledgerProjector;
+    private final BalanceSnapshotProperties properties;
+
+    public AccountBalanceSnapshotter(AccountRepository accountRepository,
+                                     AccountBalanceSnapshotRepository snapshotRepository,
+                                     JdbcTemplate jdbcTemplate,
+                                     TransactionTemplate transactionTemplate,
+                                     LedgerProjector ledgerProjector,
+                                     BalanceSnapshotProperties properties) {
+        this.accountRepository = accountRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.ledgerProjector = ledgerProjector;
+        this.properties = properties;
+    }
+
+    // ==============================
+    // Public API
+    // ==============================
+
+    /**
+     * 현재 시각 기준 스냅샷 1 회 기록
+     *
+     * @return 기록한 스냅샷 수
+     */
+    public int snapshot(LocalDateTime now) {
+        LocalDateTime snapshotAt = settledAt(now);
+        LocalDateTime previous = snapshotRepository.findLatestSnapshotAt().orElse(NO_SNAPSHOT);
+        if (!snapshotAt.isAfter(previous)) {
+            return 0;
+        }
+
+        long maxId = accountRepository.findMaxId();
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        int written = 0;
+        for (long start = 1; start <= maxId; start += chunkSize) {
+            long fromId = start;
+            long toId = start + chunkSize;
+            written += transactionTemplate.execute(status -> snapshotChunk(fromId, toId, previous, snapshotAt, now));
+        }
+        log.info("계좌 잔액 스냅샷 기록 완료 - snapshotAt={}, accounts={}", snapshotAt, written);
+        return written;
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    // 기준 시각 S (원장 모드 반영 지연 중이면 마지막 반영 작업의 초 - 1 초 이하, created_at 초 단위 반올림 대비)
+    LocalDateTime settledAt(LocalDateTime now) {
+        LocalDateTime snapshotAt = now.minus(properties.getSettleLag()).truncatedTo(ChronoUnit.SECONDS);
+        return ledgerProjector.projectedUntil()
+                .map(projected -> projected.truncatedTo(ChronoUnit.SECONDS).minusSeconds(1))
+                .filter(bound -> bound.isBefore(snapshotAt))
+                .orElse(snapshotAt);
+    }
+
+    // 계좌 id [fromId, toId) 구간 1 개 (트랜잭션 내부)
+    private int snapshotChunk(long fromId, long toId, LocalDateTime previous, LocalDateTime snapshotAt, LocalDateTime now) {
+        Timestamp prev = Timestamp.valueOf(previous);
+        Timestamp at = Timestamp.valueOf(snapshotAt);
+
+        Map<Long, Long> balances = new HashMap<>();
+        jdbcTemplate.query(SELECT_CHANGED_BALANCES,
+                rs -> {
+                    balances.put(rs.getLong(1), rs.getLong(2));
+                },
+                fromId, toId, prev, prev, at, prev, at);
+        if (balances.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.query(SELECT_CHANGES_AFTER,
+                rs -> {
+                    long change = rs.getLong(2);
+                    balances.computeIfPresent(rs.getLong(1), (id, balance) -> balance - change);
+                },
+                fromId, toId, at, fromId, toId, at);
+
+        Timestamp createdAt = Timestamp.valueOf(now);
+        List<Object[]> rows = balances.entrySet().stream()
+                .map(e -> new Object[]{e.getKey(), at, e.getValue(), createdAt})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SNAPSHOT, rows);
+        return rows.size();
+    }
+}
\ No newline at end of file
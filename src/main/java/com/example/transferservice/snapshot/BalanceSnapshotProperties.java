@@ -0,0 +1,19 @@
+package com.example.transferservice.snapshot;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 계좌 잔액 주기 스냅샷 설정 (transfer.balance-snapshots)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transfer.balance-snapshots")
+public class BalanceSnapshotProperties {
+
+    private int chunkSize = 500;                          // 1 트랜잭션당 계좌 id 구간 크기
+    private Duration settleLag = Duration.ofMinutes(1);   // 기준 시각 = 실행 시각 - settleLag (그 이전 생성 거래는 모두 커밋된 것으로 간주)
+}
\ No newline at end of file
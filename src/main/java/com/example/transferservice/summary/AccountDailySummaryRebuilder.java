@@ -0,0 +1,122 @@
+package com.example.transferservice.summary;
+
+import com.example.transferservice.partition.TransactionPartitionProperties;
+import com.example.transferservice.repository.AccountDailySummaryRepository;
+import com.example.transferservice.repository.AccountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 계좌별 일일 요약을 transactions 기준으로 재계산 (백필/정합성 보정)
+ * - 계좌 id 를 rebuildChunkSize 구간으로 나눠 rebuildParallelism 개 스레드가 병렬 처리
+ * - 구간마다 한 트랜잭션 : 기존 요약 DELETE → transactions 집계 INSERT ... SELECT
+ * - 보존 기간 이전(archive 로 이동한) 일자는 transactions 에 없으므로 재계산하지 않고 기존 요약 유지 (archive 미사용 시 제한 없음)
+ * - 구간 트랜잭션은 READ_COMMITTED : InnoDB 가 DELETE 범위와 INSERT ... SELECT 원본 스캔에 gap/next-key 잠금을 걸지 않아
+ *   (binlog_format=ROW 전제) 병렬 구간이 오늘 거래 INSERT 와 addActivity upsert 를 막지 않음.
+ *   REPEATABLE READ 로 돌리면 구간마다 created_at/(account_id, summary_date) 범위가 잠겨 재계산 동안 쓰기가 멈춤
+ */
+@Slf4j
+@Component
+public class AccountDailySummaryRebuilder {
+
+    private final AccountRepository accountRepository;
+    private final AccountDailySummaryRepository summaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DailySummaryProperties properties;
+    private final TransactionPartitionProperties partitionProperties;
+
+    public AccountDailySummaryRebuilder(AccountRepository accountRepository,
+                                        AccountDailySummaryRepository summaryRepository,
+                                        TransactionTemplate transactionTemplate,
+                                        DailySummaryProperties properties,
+                                        TransactionPartitionProperties partitionProperties) {
+        this.accountRepository = accountRepository;
+        this.summaryRepository = summaryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.properties = properties;
+        this.partitionProperties = partitionProperties;
+    }
+
+    // ==============================
+    // Public API
+    // ==============================
+
+    /**
+     * from ~ to (포함) 일자의 요약을 다시 계산
+     *
+     * @return 기록한 요약 행 수
+     */
+    public long rebuild(LocalDate from, LocalDate to) {
+        LocalDate retained = partitionProperties.lowerBound(LocalDate.now()).toLocalDate();
+        LocalDate start = from.isBefore(retained) ? retained : from;
+        if (start.isAfter(to)) {
+            return 0;
+        }
+
+        long maxId = accountRepository.findMaxId();
+        int chunkSize = Math.max(1, properties.getRebuildChunkSize());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.getRebuildParallelism()),
+                Thread.ofPlatform().name("daily-summary-rebuild-", 0).factory());
+        try {
+            List<Future<Integer>> chunks = new ArrayList<>();
+            for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+                long chunkFrom = fromId;
+                long chunkTo = fromId + chunkSize;
+                chunks.add(executor.submit(() -> rebuildChunk(chunkFrom, chunkTo, start, to)));
+            }
+            return awaitAll(chunks, start, to);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    // 계좌 id [fromId, toId) 구간 1 개 재계산 (한 READ_COMMITTED 트랜잭션, 잠금 전제는 클래스 주석 참고)
+    private int rebuildChunk(long fromId, long toId, LocalDate from, LocalDate to) {
+        return transactionTemplate.execute(status -> {
+            summaryRepository.deleteRange(fromId, toId, from, to);
+            return summaryRepository.insertFromTransactions(fromId, toId,
+                    from.atStartOfDay(), to.plusDays(1).atStartOfDay(), LocalDateTime.now());
+        });
+    }
+
+    // 실패한 구간이 있어도 나머지는 끝까지 처리한 뒤 첫 실패를 전파
+    private long awaitAll(List<Future<Integer>> chunks, LocalDate from, LocalDate to) {
+        long rows = 0;
+        int failed = 0;
+        RuntimeException failure = null;
+        for (Future<Integer> chunk : chunks) {
+            try {
+                rows += chunk.get();
+            } catch (ExecutionException e) {
+                failed++;
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+        log.info("일일 요약 재계산 완료 - {} ~ {}, chunks={}, failed={}, rows={}", from, to, chunks.size(), failed, rows);
+        if (failure != null) {
+            throw failure;
+        }
+        return rows;
+    }
+}
\ No newline at end of file
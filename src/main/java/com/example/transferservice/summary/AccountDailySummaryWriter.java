@@ -0,0 +1,132 @@
+package com.example.transferservice.summary;
+
+import com.example.transferservice.entity.AccountDailySummary;
+import com.example.transferservice.entity.Transaction;
+import com.example.transferservice.entity.Transaction.TransactionType;
+import com.example.transferservice.repository.AccountDailySummaryRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 거래 생성 시 계좌별 일일 요약 누적 (호출자의 DB 트랜잭션 안에서 실행)
+ * - 같은 (계좌, 일자) 는 한 번의 upsert 로 합산, 계좌 id 오름차순으로 기록해 교차 이체 간 교착 방지
+ * - transfer.daily-summary.enabled=false 면 기록하지 않음
+ */
+@Component
+public class AccountDailySummaryWriter {
+
+    private static final Comparator<AccountDailySummary.Key> KEY_ORDER =
+            Comparator.comparing(AccountDailySummary.Key::getAccountId)
+                    .thenComparing(AccountDailySummary.Key::getSummaryDate);
+
+    private final AccountDailySummaryRepository summaryRepository;
+    private final boolean enabled;
+
+    public AccountDailySummaryWriter(AccountDailySummaryRepository summaryRepository, DailySummaryProperties properties) {
+        this.summaryRepository = summaryRepository;
+        this.enabled = properties.isEnabled();
+    }
+
+    // ==============================
+    // Public API
+    // ==============================
+
+    public void append(Transaction tx) {
+        batch().add(tx).write();
+    }
+
+    public void appendAll(Collection<Transaction> txs) {
+        Batch batch = batch();
+        txs.forEach(batch::add);
+        batch.write();
+    }
+
+    /**
+     * 여러 거래를 모아 한 번에 기록 (원장 반영 등 엔티티가 없는 경로용)
+     */
+    public Batch batch() {
+        return new Batch();
+    }
+
+    public final class Batch {
+
+        private final Map<AccountDailySummary.Key, Activity> activities = new TreeMap<>(KEY_ORDER);
+
+        private Batch() {
+        }
+
+        public Batch add(Transaction tx) {
+            return add(tx.getSenderAccount() != null ? tx.getSenderAccount().getId() : null,
+                    tx.getReceiverAccount() != null ? tx.getReceiverAccount().getId() : null,
+                    tx.getAmount(), tx.getFee(), tx.getType(), tx.getCreatedAt());
+        }
+
+        public Batch add(Long senderId, Long receiverId, long amount, long fee,
+                         TransactionType type, LocalDateTime createdAt) {
+            if (!enabled) {
+                return this;
+            }
+            if (senderId != null) {
+                Activity sender = activity(senderId, createdAt);
+                if (type == TransactionType.WITHDRAW) {
+                    sender.withdrawAmount += amount;
+                    sender.withdrawCount++;
+                } else if (type == TransactionType.TRANSFER) {
+                    sender.transferOutAmount += amount;
+                    sender.transferOutCount++;
+                }
+                sender.feeAmount += fee;
+            }
+            if (receiverId != null) {
+                Activity receiver = activity(receiverId, createdAt);
+                if (type == TransactionType.DEPOSIT) {
+                    receiver.depositAmount += amount;
+                    receiver.depositCount++;
+                } else if (type == TransactionType.TRANSFER) {
+                    receiver.transferInAmount += amount;
+                    receiver.transferInCount++;
+                }
+            }
+            return this;
+        }
+
+        public void write() {
+            if (activities.isEmpty()) {
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            activities.forEach((key, a) -> summaryRepository.addActivity(key.getAccountId(), key.getSummaryDate(),
+                    a.depositAmount, a.depositCount, a.withdrawAmount, a.withdrawCount,
+                    a.transferInAmount, a.transferInCount, a.transferOutAmount, a.transferOutCount,
+                    a.feeAmount, now));
+            activities.clear();
+        }
+
+        private Activity activity(Long accountId, LocalDateTime createdAt) {
+            return activities.computeIfAbsent(AccountDailySummary.Key.of(accountId, createdAt.toLocalDate()),
+                    key -> new Activity());
+        }
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    // (계좌, 일자) 1 건의 누적 증가분
+    private static final class Activity {
+        private long depositAmount;
+        private long depositCount;
+        private long withdrawAmount;
+        private long withdrawCount;
+        private long transferInAmount;
+        private long transferInCount;
+        private long transferOutAmount;
+        private long transferOutCount;
+        private long feeAmount;
+    }
+}
\ No newline at end of file
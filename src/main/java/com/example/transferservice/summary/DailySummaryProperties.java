@@ -0,0 +1,19 @@
+package com.example.transferservice.summary;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 계좌별 일일 거래 요약 설정 (transfer.daily-summary)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transfer.daily-summary")
+public class DailySummaryProperties {
+
+    private boolean enabled = true;           // false 면 거래 생성 시 요약을 누적하지 않음
+    private int rebuildChunkSize = 1_000;     // 재계산 1 트랜잭션당 계좌 id 구간 크기
+    private int rebuildParallelism = 4;       // 재계산 동시 구간 수
+    private int rebuildDays = 1;              // 주기 재계산 대상 : 어제부터 N 일 전까지 (확정된 일자)
+}
\ No newline at end of file
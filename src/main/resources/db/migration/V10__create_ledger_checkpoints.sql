@@ -0,0 +1,8 @@
+-- V10__create_ledger_checkpoints.sql
+-- 메모리 원장 저널의 DB 반영 위치 (LedgerProjector 가 반영 배치와 같은 트랜잭션에서 갱신)
+CREATE TABLE ledger_checkpoints (
+                                    name VARCHAR(64) NOT NULL PRIMARY KEY,      -- 반영 대상
+                                    last_seq BIGINT NOT NULL                    -- 마지막으로 DB 에 반영한 저널 순번
+);
+
+INSERT INTO ledger_checkpoints (name, last_seq) VALUES ('projection', 0);
\ No newline at end of file
@@ -0,0 +1,19 @@
+-- V12__create_account_daily_summary.sql
+-- 계좌별 일일 거래 요약 (거래 생성과 같은 트랜잭션에서 누적, DailySummaryRebuildJob 이 transactions 기준 재계산)
+CREATE TABLE account_daily_summary (
+                                       account_id BIGINT NOT NULL,                      -- 계좌 ID
+                                       summary_date DATE NOT NULL,                      -- 거래 일자
+                                       deposit_amount BIGINT NOT NULL DEFAULT 0,        -- 입금 합계
+                                       deposit_count BIGINT NOT NULL DEFAULT 0,         -- 입금 건수
+                                       withdraw_amount BIGINT NOT NULL DEFAULT 0,       -- 출금 합계 (금액)
+                                       withdraw_count BIGINT NOT NULL DEFAULT 0,        -- 출금 건수
+                                       transfer_in_amount BIGINT NOT NULL DEFAULT 0,    -- 이체 수취 합계
+                                       transfer_in_count BIGINT NOT NULL DEFAULT 0,     -- 이체 수취 건수
+                                       transfer_out_amount BIGINT NOT NULL DEFAULT 0,   -- 이체 송금 합계 (금액)
+                                       transfer_out_count BIGINT NOT NULL DEFAULT 0,    -- 이체 송금 건수
+                                       fee_amount BIGINT NOT NULL DEFAULT 0,            -- 부담한 수수료 합계
+                                       updated_at DATETIME NOT NULL,                    -- 수정일
+                                       PRIMARY KEY (account_id, summary_date),
+                                       CONSTRAINT fk_daily_summary_account FOREIGN KEY (account_id)
+                                           REFERENCES accounts(id)
+);
\ No newline at end of file
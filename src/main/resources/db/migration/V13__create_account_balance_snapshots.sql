@@ -0,0 +1,10 @@
+-- V13__create_account_balance_snapshots.sql
+-- 계좌 잔액 주기 스냅샷 (snapshot_at 시각까지 생성된 거래가 모두 반영된 잔액, BalanceSnapshotJob 이 기록)
+-- 특정 시각 잔액 = 직전 스냅샷 잔액 + (snapshot_at, T] 거래 증감
+CREATE TABLE account_balance_snapshots (
+                                           account_id BIGINT NOT NULL,                  -- 계좌 ID
+                                           snapshot_at DATETIME NOT NULL,               -- 기준 시각 (이 시각까지의 거래 반영)
+                                           balance BIGINT NOT NULL,                     -- 기준 시각 잔액 (슬롯 잔액 포함)
+                                           created_at DATETIME NOT NULL,                -- 기록 시각
+                                           PRIMARY KEY (account_id, snapshot_at)
+);
\ No newline at end of file
@@ -0,0 +1,4 @@
+-- V14__add_transaction_outbox_claim.sql
+-- outbox 선점 표시 (선점 커밋 후 트랜잭션 밖에서 발행, 만료 전까지 다른 relay 가 가져가지 않음)
+ALTER TABLE transaction_outbox ADD COLUMN claim_token VARCHAR(36) NULL;     -- 선점한 relay 배치 토큰
+ALTER TABLE transaction_outbox ADD COLUMN claimed_until DATETIME(3) NULL;   -- 선점 만료 시각 (지나면 재선점 가능)
\ No newline at end of file
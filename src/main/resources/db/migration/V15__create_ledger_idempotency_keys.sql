@@ -0,0 +1,16 @@
+-- V15__create_ledger_idempotency_keys.sql
+-- 원장 모드 멱등 키 (LedgerProjector 가 거래 반영과 같은 트랜잭션에서 기록, 응답에 필요한 값을 함께 저장)
+CREATE TABLE ledger_idempotency_keys (
+                                         key_hash CHAR(32) NOT NULL PRIMARY KEY,        -- Idempotency-Key SHA-256 앞 128 비트 (hex)
+                                         request_hash CHAR(32) NOT NULL,                -- 요청 본문 해시 앞 128 비트 (같은 키 다른 요청 검출)
+                                         transaction_id BIGINT NOT NULL,                -- 처리 결과 거래 ID (FK 없음)
+                                         type VARCHAR(20) NOT NULL,                     -- 거래 타입 (DEPOSIT, WITHDRAW, TRANSFER)
+                                         sender_account_id BIGINT NULL,                 -- 출금 계좌
+                                         receiver_account_id BIGINT NULL,               -- 입금 계좌
+                                         amount BIGINT NOT NULL,                        -- 거래 금액
+                                         fee BIGINT NOT NULL,                           -- 수수료
+                                         created_at DATETIME(3) NOT NULL                -- 거래 생성 시각 (보존 기간 정리 기준)
+);
+
+CREATE INDEX idx_ledger_idempotency_keys_created
+    ON ledger_idempotency_keys (created_at);
\ No newline at end of file
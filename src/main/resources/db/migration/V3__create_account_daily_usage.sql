@@ -0,0 +1,15 @@
+-- V3__create_account_daily_usage.sql
+CREATE TABLE account_daily_usage (
+                                     account_id BIGINT NOT NULL,                      -- 계좌 ID
+                                     usage_date DATE NOT NULL,                        -- 사용 일자
+                                     withdraw_amount BIGINT NOT NULL DEFAULT 0,       -- 당일 출금 합계 (금액 + 수수료)
+                                     transfer_amount BIGINT NOT NULL DEFAULT 0,       -- 당일 이체 합계 (금액)
+                                     updated_at DATETIME NOT NULL,                    -- 수정일
+                                     PRIMARY KEY (account_id, usage_date),
+                                     CONSTRAINT fk_daily_usage_account FOREIGN KEY (account_id)
+                                         REFERENCES accounts(id)
+);
+
+-- 한도 집계/재계산 쿼리용 인덱스
+CREATE INDEX idx_transactions_sender_type_created
+    ON transactions (sender_account_id, type, created_at);
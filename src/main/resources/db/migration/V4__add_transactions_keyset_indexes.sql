@@ -0,0 +1,10 @@
+-- V4__add_transactions_keyset_indexes.sql
+-- 거래 내역 커서 페이지네이션 (created_at DESC, id DESC) 용 복합 인덱스
+CREATE INDEX idx_transactions_created_id
+    ON transactions (created_at, id);
+
+CREATE INDEX idx_transactions_sender_created_id
+    ON transactions (sender_account_id, created_at, id);
+
+CREATE INDEX idx_transactions_receiver_created_id
+    ON transactions (receiver_account_id, created_at, id);
@@ -0,0 +1,13 @@
+-- V5__create_account_balance_slots.sql
+ALTER TABLE accounts
+    ADD COLUMN balance_slot_count INT NOT NULL DEFAULT 0;      -- 잔액 분산 슬롯 수 (0 = 미사용)
+
+CREATE TABLE account_balance_slots (
+                                       account_id BIGINT NOT NULL,                  -- 계좌 ID
+                                       slot_no INT NOT NULL,                        -- 슬롯 번호 (0 ~ N-1)
+                                       balance BIGINT NOT NULL DEFAULT 0,           -- 슬롯에 적립된 입금액
+                                       updated_at DATETIME NOT NULL,                -- 수정일
+                                       PRIMARY KEY (account_id, slot_no),
+                                       CONSTRAINT fk_balance_slot_account FOREIGN KEY (account_id)
+                                           REFERENCES accounts(id)
+);
\ No newline at end of file
@@ -0,0 +1,13 @@
+-- V6__create_id_allocations.sql
+-- transactions.id 를 IDENTITY 대신 테이블 기반 pooled 할당으로 전환 (Hibernate JDBC INSERT 배치용)
+CREATE TABLE id_allocations (
+                                name VARCHAR(64) NOT NULL PRIMARY KEY,      -- 할당 대상 (테이블 이름)
+                                next_val BIGINT NOT NULL                    -- 다음 할당 블록 기준 값
+);
+
+-- 기존 id 와 겹치지 않도록 할당 크기(100)보다 넉넉히 띄워서 시작
+INSERT INTO id_allocations (name, next_val)
+SELECT 'transactions', COALESCE(MAX(id), 0) + 1000 FROM transactions;
+
+ALTER TABLE transactions
+    MODIFY id BIGINT NOT NULL;
\ No newline at end of file
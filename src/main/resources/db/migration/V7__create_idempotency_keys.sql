@@ -0,0 +1,11 @@
+-- V7__create_idempotency_keys.sql
+CREATE TABLE idempotency_keys (
+                                  idempotency_key VARCHAR(100) NOT NULL PRIMARY KEY,   -- 클라이언트 Idempotency-Key
+                                  operation VARCHAR(20) NOT NULL,                      -- 작업 (deposit, withdraw, transfer)
+                                  request_hash CHAR(64) NOT NULL,                      -- 요청 본문 SHA-256 (같은 키 다른 요청 검출)
+                                  transaction_id BIGINT NOT NULL,                      -- 처리 결과 거래 ID (FK 없음)
+                                  created_at DATETIME NOT NULL                         -- 생성일 (보존 기간 정리 기준)
+);
+
+CREATE INDEX idx_idempotency_keys_created
+    ON idempotency_keys (created_at);
\ No newline at end of file
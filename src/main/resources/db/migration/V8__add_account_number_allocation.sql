@@ -0,0 +1,4 @@
+-- V8__add_account_number_allocation.sql
+-- 계좌번호 블록 할당 카운터 (FeistelPermutation 입력 값, 0 부터 블록 단위로 증가)
+INSERT INTO id_allocations (name, next_val)
+VALUES ('account_numbers', 0);
\ No newline at end of file
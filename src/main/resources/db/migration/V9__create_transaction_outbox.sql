@@ -0,0 +1,14 @@
+-- V9__create_transaction_outbox.sql
+-- 거래 생성 이벤트 outbox (거래와 같은 트랜잭션에서 기록, OutboxRelay 가 배치로 발행 후 삭제)
+CREATE TABLE transaction_outbox (
+                                    transaction_id BIGINT NOT NULL PRIMARY KEY,      -- 거래 ID (FK 없음)
+                                    type VARCHAR(20) NOT NULL,                       -- 거래 타입 (DEPOSIT, WITHDRAW, TRANSFER)
+                                    sender_account_id BIGINT NULL,                   -- 출금 계좌
+                                    receiver_account_id BIGINT NULL,                 -- 입금 계좌
+                                    amount BIGINT NOT NULL,                          -- 거래 금액
+                                    fee BIGINT NOT NULL,                             -- 수수료
+                                    created_at DATETIME(3) NOT NULL                  -- 거래 생성 시각 (발행 지연 측정 기준)
+);
+
+CREATE INDEX idx_transaction_outbox_created
+    ON transaction_outbox (created_at);
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.example.transferservice.accountnumber;
+
+import com.example.transferservice.repository.IdAllocationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AccountNumberAllocatorTest {
+
+    @Test
+    void permutation_isBijectiveOverConsecutiveSequences() {
+        FeistelPermutation permutation = new FeistelPermutation(42L);
+        Set<Long> outputs = new HashSet<>();
+
+        for (long i = 0; i < 200_000; i++) {
+            long permuted = permutation.permute(i);
+            assertThat(permuted).isBetween(0L, FeistelPermutation.DOMAIN - 1);
+            assertThat(permutation.inverse(permuted)).isEqualTo(i);
+            outputs.add(permuted);
+        }
+
+        System.out.println("테스트: 연속 순번 200,000 개 치환 결과 중복 없음");
+        assertThat(outputs).hasSize(200_000);
+        assertThat(permutation.permute(FeistelPermutation.DOMAIN - 1)).isBetween(0L, FeistelPermutation.DOMAIN - 1);
+        System.out.println("✅ 전단사 치환 확인 완료");
+    }
+
+    @Test
+    void allocator_reservesOneBlockPerBlockSize() {
+        IdAllocationRepository repository = mock(IdAllocationRepository.class);
+        when(repository.findNextVal("account_numbers")).thenReturn(100L, 200L);
+        AccountNumberProperties properties = new AccountNumberProperties();
+        properties.setBlockSize(100);
+        AccountNumberAllocator allocator =
+                new AccountNumberAllocator(properties, repository, mock(PlatformTransactionManager.class));
+
+        Set<String> numbers = new HashSet<>();
+        for (int i = 0; i < 150; i++) {
+            numbers.add(allocator.nextAccountNumber());
+        }
+
+        System.out.println("테스트: 150 건 발급 시 블록 예약 2회");
+        verify(repository, times(2)).advance("account_numbers", 100);
+        assertThat(numbers).hasSize(150)
+                .allMatch(number -> number.matches("\\d{3}-\\d{3}-\\d{4}"));
+        System.out.println("✅ 블록 단위 예약 및 형식 확인 완료");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,162 @@
+package com.example.transferservice.benchmark;
+
+import com.example.transferservice.dto.request.account.AccountRequest;
+import com.example.transferservice.dto.request.transaction.DepositRequest;
+import com.example.transferservice.service.AccountService;
+import com.example.transferservice.service.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 요청 처리 스레드 모델별 /api/transactions/* 부하 비교 (./gradlew benchmarkTest)
+ * - 하위 클래스가 @SpringBootTest(properties = ...) 로 플랫폼/가상 스레드 지정
+ * - 동시 클라이언트 CLIENTS 개가 입금/출금/이체를 섞어서 호출, 처리량과 지연 백분위 출력
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+abstract class AbstractRequestThreadLoadTest {
+
+    private static final int ACCOUNTS = 200;
+    private static final int CLIENTS = 1_000;
+    private static final int REQUESTS_PER_CLIENT = 10;
+    private static final long INITIAL_BALANCE = 10_000_000L;
+    private static final long AMOUNT = 1_000L;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    private final List<Long> accountIds = new ArrayList<>();
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    protected abstract String label();
+
+    @BeforeEach
+    void setUp() {
+        long phoneBase = ThreadLocalRandom.current().nextLong(10_000_000L) * 1_000;
+        for (int i = 0; i < ACCOUNTS; i++) {
+            String phoneNumber = String.format("019%011d", phoneBase + i);
+            Long id = accountService.createAccount(AccountRequest.builder()
+                    .ownerName("부하테스트")
+                    .phoneNumber(phoneNumber)
+                    .build()).getId();
+            transactionService.deposit(new DepositRequest(id, INITIAL_BALANCE));
+            accountIds.add(id);
+        }
+    }
+
+    @Test
+    void transactionEndpointsUnderLoad() throws Exception {
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger conflict = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+
+        long startedAt = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(CLIENTS);
+            for (int c = 0; c < CLIENTS; c++) {
+                final int clientNo = c;
+                futures.add(clients.submit(() -> {
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        long sentAt = System.nanoTime();
+                        int status = send(nextRequest(clientNo + r));
+                        latencies[clientNo * REQUESTS_PER_CLIENT + r] = System.nanoTime() - sentAt;
+                        if (status == 200) {
+                            success.incrementAndGet();
+                        } else if (status == 409) {
+                            conflict.incrementAndGet();
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        Arrays.sort(latencies);
+        System.out.printf("[%s] %,d 요청, %,.0f req/s%n", label(), latencies.length, latencies.length / (elapsedNanos / 1e9));
+        System.out.printf("[%s] p50 %.1fms, p99 %.1fms, max %.1fms%n", label(),
+                percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99), latencies[latencies.length - 1] / 1e6);
+        System.out.printf("[%s] 성공 %d, 409 %d, 기타 실패 %d%n", label(), success.get(), conflict.get(), failed.get());
+
+        assertThat(success.get()).isPositive();
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    // 입금 / 출금 / 이체 순환
+    private HttpRequest nextRequest(int seq) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long from = accountIds.get(random.nextInt(ACCOUNTS));
+        Long to = accountIds.get(random.nextInt(ACCOUNTS));
+        return switch (seq % 3) {
+            case 0 -> post("/deposit", "{\"accountId\":" + from + ",\"amount\":" + AMOUNT + "}");
+            case 1 -> post("/withdraw", "{\"accountId\":" + from + ",\"amount\":" + AMOUNT + "}");
+            default -> post("/transfer", "{\"senderId\":" + from + ",\"receiverId\":" + (from.equals(to) ? nextOf(to) : to)
+                    + ",\"amount\":" + AMOUNT + "}");
+        };
+    }
+
+    private Long nextOf(Long accountId) {
+        return accountIds.get((accountIds.indexOf(accountId) + 1) % ACCOUNTS);
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/transactions" + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private static double percentileMillis(long[] sorted, double p) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
\ No newline at end of file
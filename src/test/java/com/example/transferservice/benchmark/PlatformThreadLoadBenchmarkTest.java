@@ -0,0 +1,16 @@
+package com.example.transferservice.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 부하 비교 - 플랫폼 스레드 (Tomcat 기본 스레드 풀)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadLoadBenchmarkTest extends AbstractRequestThreadLoadTest {
+
+    @Override
+    protected String label() {
+        return "platform";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.example.transferservice.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 부하 비교 - 가상 스레드 + 커넥션 획득 동시 수 제한 (virtual-threads 프로필과 동일 설정)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.threads.virtual.enabled=true", "transfer.connection-admission.enabled=true"})
+class VirtualThreadLoadBenchmarkTest extends AbstractRequestThreadLoadTest {
+
+    @Override
+    protected String label() {
+        return "virtual";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.example.transferservice.cache;
+
+import com.example.transferservice.dto.response.account.AccountResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountResponseCacheTest {
+
+    private static AccountResponse response(long balance) {
+        return AccountResponse.builder().id(1L).phoneNumber("01011112222").balance(balance).build();
+    }
+
+    @Test
+    void invalidatedDuringLoad_notCached() {
+        AccountResponseCache cache = new AccountResponseCache(new AccountCacheProperties());
+        AtomicInteger loads = new AtomicInteger();
+
+        // 조회 도중 같은 계좌 변경이 커밋된 경우 → 읽은 값은 응답만 하고 캐시에 남기지 않음
+        AccountResponse first = cache.get("01011112222", () -> {
+            loads.incrementAndGet();
+            cache.onAccountChanged(AccountChangedEvent.of(1L));
+            return response(1_000L);
+        });
+        AccountResponse second = cache.get("01011112222", () -> {
+            loads.incrementAndGet();
+            return response(2_000L);
+        });
+
+        System.out.println("테스트: 조회 중 무효화된 값은 캐시하지 않음, 로드 횟수 = " + loads.get());
+        assertThat(first.getBalance()).isEqualTo(1_000L);
+        assertThat(second.getBalance()).isEqualTo(2_000L);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void changedAfterLoad_reloadsOnNextGet() {
+        AccountResponseCache cache = new AccountResponseCache(new AccountCacheProperties());
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("01011112222", () -> response(loads.incrementAndGet()));
+        cache.get("01011112222", () -> response(loads.incrementAndGet()));
+        cache.onAccountChanged(AccountChangedEvent.of(1L));
+        AccountResponse afterChange = cache.get("01011112222", () -> response(loads.incrementAndGet()));
+
+        System.out.println("테스트: 변경 커밋 후 다음 조회는 다시 로드, 로드 횟수 = " + loads.get());
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(afterChange.getBalance()).isEqualTo(2L);
+    }
+
+    @Test
+    void disabled_alwaysLoads() {
+        AccountCacheProperties properties = new AccountCacheProperties();
+        properties.setEnabled(false);
+        AccountResponseCache cache = new AccountResponseCache(properties);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("01011112222", () -> response(loads.incrementAndGet()));
+        cache.get("01011112222", () -> response(loads.incrementAndGet()));
+
+        System.out.println("테스트: 캐시 비활성화 시 매번 조회");
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+}
\ No newline at end of file
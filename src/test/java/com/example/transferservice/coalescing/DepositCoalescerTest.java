@@ -0,0 +1,224 @@
+package com.example.transferservice.coalescing;
+
+import com.example.transferservice.dto.request.transaction.DepositRequest;
+import com.example.transferservice.entity.Transaction;
+import com.example.transferservice.entity.Transaction.TransactionType;
+import com.example.transferservice.exception.AccountNotFoundException;
+import com.example.transferservice.replica.PrimaryStickiness;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DepositCoalescerTest {
+
+    private final AtomicLong ids = new AtomicLong();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    private DepositCoalescer newCoalescer(Duration window, int maxBatchSize) {
+        return newCoalescer(window, maxBatchSize, Duration.ofSeconds(30));
+    }
+
+    private DepositCoalescer newCoalescer(Duration window, int maxBatchSize, Duration followerTimeout) {
+        return newCoalescer(window, maxBatchSize, followerTimeout, new StaticListableBeanFactory());
+    }
+
+    private DepositCoalescer newCoalescer(Duration window, int maxBatchSize, Duration followerTimeout,
+                                          StaticListableBeanFactory beans) {
+        DepositCoalescingProperties properties = new DepositCoalescingProperties();
+        properties.setEnabled(true);
+        properties.setWindow(window);
+        properties.setMaxBatchSize(maxBatchSize);
+        properties.setFollowerTimeout(followerTimeout);
+        return new DepositCoalescer(properties, new SimpleMeterRegistry(), beans.getBeanProvider(PrimaryStickiness.class));
+    }
+
+    // 같은 계좌 입금 1 건을 적용 중인 상태로 붙잡아 둠 (이후 요청은 경합으로 보고 모음), 반환 latch 로 해제
+    private CountDownLatch occupyAccount(DepositCoalescer coalescer) throws InterruptedException {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread.ofPlatform().daemon().start(() -> coalescer.submit(new PendingDeposit(new DepositRequest(1L, 1L), null),
+                this::applyBatch,
+                deposit -> {
+                    entered.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return toTransaction(deposit);
+                }));
+        entered.await();
+        return release;
+    }
+
+    private Transaction toTransaction(PendingDeposit deposit) {
+        return Transaction.builder()
+                .id(ids.incrementAndGet())
+                .amount(deposit.request().getAmount())
+                .type(TransactionType.DEPOSIT)
+                .build();
+    }
+
+    private List<Transaction> applyBatch(List<PendingDeposit> deposits) {
+        batchSizes.add(deposits.size());
+        return deposits.stream().map(this::toTransaction).toList();
+    }
+
+    private List<Transaction> submitConcurrently(DepositCoalescer coalescer, int count,
+                                                 Function<List<PendingDeposit>, List<Transaction>> batchApplier,
+                                                 Function<PendingDeposit, Transaction> singleApplier) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        try {
+            List<Future<Transaction>> futures = new ArrayList<>();
+            for (int i = 1; i <= count; i++) {
+                DepositRequest request = new DepositRequest(1L, i * 1_000L);
+                futures.add(executor.submit(() -> coalescer.submit(new PendingDeposit(request, null), batchApplier, singleApplier)));
+            }
+            List<Transaction> results = new ArrayList<>();
+            for (Future<Transaction> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (Exception e) {
+                    results.add(null);
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void concurrentDeposits_appliedAsOneBatch_eachCallerGetsOwnTransaction() throws Exception {
+        DepositCoalescer coalescer = newCoalescer(Duration.ofSeconds(5), 8);
+        CountDownLatch release = occupyAccount(coalescer);
+
+        List<Transaction> results = submitConcurrently(coalescer, 8, this::applyBatch, this::toTransaction);
+        release.countDown();
+
+        System.out.println("테스트: 동시 입금 8 건 → 적용 묶음 크기 " + batchSizes);
+        assertThat(batchSizes).containsExactly(8);
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).getAmount()).isEqualTo((i + 1) * 1_000L);
+        }
+        assertThat(results).extracting(Transaction::getId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void coalescedFollowers_arePinnedToPrimary() throws Exception {
+        PrimaryStickiness stickiness = new PrimaryStickiness(Duration.ofSeconds(2));
+        DepositCoalescer coalescer = newCoalescer(Duration.ofSeconds(5), 4, Duration.ofSeconds(30),
+                new StaticListableBeanFactory(Map.of("primaryStickiness", stickiness)));
+        CountDownLatch release = occupyAccount(coalescer);
+
+        // 요청마다 PrimaryStickinessFilter 처럼 begin/end 로 감싸고, 입금 후 고정 여부와 쿠키 전달(onWrite) 기록
+        List<Boolean> pinned = new CopyOnWriteArrayList<>();
+        List<Long> written = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 1; i <= 4; i++) {
+                DepositRequest request = new DepositRequest(1L, i * 1_000L);
+                futures.add(executor.submit(() -> {
+                    stickiness.begin(0L, written::add);
+                    try {
+                        coalescer.submit(new PendingDeposit(request, null), this::applyBatch, this::toTransaction);
+                        pinned.add(stickiness.isPinned());
+                    } finally {
+                        stickiness.end();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            release.countDown();
+        }
+
+        System.out.println("테스트: 묶음 크기 " + batchSizes + ", primary 고정 = " + pinned);
+        assertThat(batchSizes).containsExactly(4);
+        assertThat(pinned).hasSize(4).containsOnly(true);
+        assertThat(written).hasSize(4);
+    }
+
+    @Test
+    void batchFailure_fallsBackToSingleApply() throws Exception {
+        DepositCoalescer coalescer = newCoalescer(Duration.ofSeconds(5), 4);
+        CountDownLatch release = occupyAccount(coalescer);
+
+        List<Transaction> results = submitConcurrently(coalescer, 4,
+                deposits -> {
+                    throw new IllegalStateException("묶음 롤백");
+                },
+                deposit -> {
+                    if (deposit.request().getAmount() == 3_000L) {
+                        throw new AccountNotFoundException("계좌를 찾을 수 없습니다.");
+                    }
+                    return toTransaction(deposit);
+                });
+        release.countDown();
+
+        System.out.println("테스트: 묶음 실패 후 건별 적용 결과 = " + results.stream().map(tx -> tx == null ? "실패" : "성공").toList());
+        assertThat(results.get(2)).isNull();
+        assertThat(results).filteredOn(tx -> tx != null).hasSize(3);
+    }
+
+    @Test
+    void uncontendedDeposit_appliedWithoutWaitingWindow() {
+        DepositCoalescer coalescer = newCoalescer(Duration.ofSeconds(5), 100);
+
+        long start = System.nanoTime();
+        Transaction tx = coalescer.submit(new PendingDeposit(new DepositRequest(1L, 5_000L), null),
+                this::applyBatch, this::toTransaction);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        System.out.println("테스트: 경합 없는 단건 입금 → window 대기 없이 적용 (" + elapsedMillis + "ms)");
+        assertThat(tx.getAmount()).isEqualTo(5_000L);
+        assertThat(batchSizes).isEmpty();
+        assertThat(elapsedMillis).isLessThan(1_000L);
+    }
+
+    @Test
+    void followerTimeout_appliesOwnDepositOutsideBatch() throws Exception {
+        DepositCoalescer coalescer = newCoalescer(Duration.ofSeconds(2), 100, Duration.ofMillis(100));
+        CountDownLatch release = occupyAccount(coalescer);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // leader 는 window(2초) 동안 대기, follower 는 100ms 후 묶음에서 빠져 직접 적용
+            Future<Transaction> leader = executor.submit(() -> coalescer.submit(
+                    new PendingDeposit(new DepositRequest(1L, 1_000L), null), this::applyBatch, this::toTransaction));
+            Thread.sleep(50);
+            long start = System.nanoTime();
+            Transaction follower = executor.submit(() -> coalescer.submit(
+                    new PendingDeposit(new DepositRequest(1L, 2_000L), null), this::applyBatch, this::toTransaction)).get();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            System.out.println("테스트: follower 대기 시간 초과 → 직접 적용 (" + elapsedMillis + "ms)");
+            assertThat(follower.getAmount()).isEqualTo(2_000L);
+            assertThat(elapsedMillis).isLessThan(1_500L);
+            assertThat(leader.get().getAmount()).isEqualTo(1_000L);
+            // follower 가 빠져 leader 는 단건 적용
+            assertThat(batchSizes).isEmpty();
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.example.transferservice.concurrency;
+
+import com.example.transferservice.exception.AccountBusyException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AccountStripedLockTest {
+
+    @Test
+    void sameAccount_waitsBeyondTimeout_throwsBusy() throws Exception {
+        StripedLockProperties properties = new StripedLockProperties();
+        properties.setWaitTimeout(Duration.ofMillis(50));
+        AccountStripedLock lock = new AccountStripedLock(properties);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Object> holder = executor.submit(() -> lock.executeLocked(() -> {
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }, 1L));
+
+        locked.await();
+        System.out.println("테스트: 다른 스레드가 같은 계좌 락 보유 중");
+        assertThatThrownBy(() -> lock.executeLocked(() -> "x", 1L))
+                .isInstanceOf(AccountBusyException.class);
+        assertThat(lock.getStats().getTimeouts().sum()).isEqualTo(1);
+
+        release.countDown();
+        holder.get();
+        executor.shutdown();
+
+        assertThat(lock.executeLocked(() -> "ok", 1L)).isEqualTo("ok");
+        System.out.println("✅ 대기 시간 초과 및 해제 후 재획득 확인 완료");
+    }
+
+    @Test
+    void twoAccounts_onSameStripe_lockedOnce() {
+        AccountStripedLock lock = new AccountStripedLock(new StripedLockProperties());
+
+        // 기본 스트라이프 수에서 1 번 계좌와 같은 스트라이프로 가는 다른 계좌 선택
+        long other = 2L;
+        while (lock.stripeIndex(other) != lock.stripeIndex(1L)) {
+            other++;
+        }
+        Long sameStripe = other;
+        System.out.println("테스트: 계좌 1, " + sameStripe + " → 스트라이프 " + lock.stripeIndex(1L));
+
+        // 같은 스트라이프는 재진입 없이 한 번만 획득 (hold count 1)
+        int holdCount = lock.executeLocked(() -> lock.holdCount(1L), 1L, sameStripe);
+        assertThat(holdCount).isEqualTo(1);
+        assertThat(lock.holdCount(sameStripe)).isZero();
+        assertThat(lock.getStats().getAcquisitions().sum()).isEqualTo(1);
+    }
+}
\ No newline at end of file
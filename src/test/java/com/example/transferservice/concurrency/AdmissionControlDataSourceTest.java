@@ -0,0 +1,74 @@
+package com.example.transferservice.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AdmissionControlDataSourceTest {
+
+    @Test
+    void permitsExhausted_waitsThenTimesOut_releasedOnClose() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection physical = mock(Connection.class);
+        when(target.getConnection()).thenReturn(physical);
+        AdmissionControlDataSource dataSource =
+                new AdmissionControlDataSource(target, 1, TimeUnit.MILLISECONDS.toNanos(50));
+
+        Connection first = dataSource.getConnection();
+        System.out.println("테스트: 퍼밋 1 개 사용 중 추가 획득 시도");
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(dataSource.getStats().getTimeouts().sum()).isEqualTo(1);
+
+        // 중복 close 는 퍼밋을 한 번만 반납
+        first.close();
+        first.close();
+        assertThat(dataSource.getInUse()).isZero();
+        verify(physical, times(2)).close();
+
+        Connection second = dataSource.getConnection();
+        assertThat(dataSource.getInUse()).isEqualTo(1);
+        second.close();
+    }
+
+    @Test
+    void nestedAcquire_onPermitHoldingThread_skipsAdmission() throws Exception {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(inv -> mock(Connection.class));
+        AdmissionControlDataSource dataSource =
+                new AdmissionControlDataSource(target, 1, TimeUnit.MILLISECONDS.toNanos(50));
+
+        // REQUIRES_NEW / id 블록 할당처럼 커넥션을 쥔 채 두 번째 커넥션 획득
+        Connection outer = dataSource.getConnection();
+        Connection nested = dataSource.getConnection();
+
+        System.out.println("테스트: 퍼밋 보유 스레드의 중첩 획득은 대기 없이 통과");
+        assertThat(dataSource.getInUse()).isEqualTo(1);
+        assertThat(dataSource.getStats().getNestedAcquisitions().sum()).isEqualTo(1);
+        assertThat(dataSource.getStats().getTimeouts().sum()).isZero();
+
+        nested.close();
+        assertThat(dataSource.getInUse()).isEqualTo(1);
+        outer.close();
+        assertThat(dataSource.getInUse()).isZero();
+    }
+
+    @Test
+    void targetFailure_releasesPermit() throws Exception {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLTransientConnectionException("pool timeout"));
+        AdmissionControlDataSource dataSource =
+                new AdmissionControlDataSource(target, 1, TimeUnit.MILLISECONDS.toNanos(50));
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool timeout");
+
+        System.out.println("테스트: 실제 커넥션 획득 실패 시 퍼밋 반납");
+        assertThat(dataSource.getInUse()).isZero();
+        assertThat(dataSource.getStats().getTimeouts().sum()).isZero();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.example.transferservice.concurrency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OptimisticLockRetryExecutorTest {
+
+    private RetryProperties properties;
+    private OptimisticLockRetryExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RetryProperties();
+        properties.getDefaults().setInitialBackoff(Duration.ofMillis(1));
+        properties.getDefaults().setMaxBackoff(Duration.ofMillis(2));
+        executor = new OptimisticLockRetryExecutor(properties);
+    }
+
+    @Test
+    void retriesUntilSuccess() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = executor.execute("withdraw", () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Account", 1L);
+            }
+            return "ok";
+        });
+
+        System.out.println("테스트: 충돌 2회 후 성공, 호출 횟수 = " + calls.get());
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls.get()).isEqualTo(3);
+        OptimisticLockRetryExecutor.Stats stats = executor.statsFor("withdraw");
+        assertThat(stats.getConflicts().sum()).isEqualTo(2);
+        assertThat(stats.getRetries().sum()).isEqualTo(2);
+        assertThat(stats.getExhausted().sum()).isZero();
+    }
+
+    @Test
+    void exhaustedAttempts_rethrows() {
+        RetryProperties.Policy policy = new RetryProperties.Policy();
+        policy.setMaxAttempts(2);
+        policy.setInitialBackoff(Duration.ZERO);
+        properties.getOperations().put("transfer", policy);
+        AtomicInteger calls = new AtomicInteger();
+
+        System.out.println("테스트: 작업별 최대 시도 횟수 초과");
+        assertThatThrownBy(() -> executor.execute("transfer", () -> {
+            calls.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("Account", 1L);
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(executor.statsFor("transfer").getExhausted().sum()).isEqualTo(1);
+        System.out.println("✅ 예외 발생 확인 완료");
+    }
+
+    @Test
+    void partialOverride_inheritsDefaults() {
+        RetryProperties.Policy override = new RetryProperties.Policy();
+        override.setMaxAttempts(8);
+        properties.getOperations().put("withdraw", override);
+
+        RetryProperties.Policy policy = properties.policyFor("withdraw");
+
+        System.out.println("테스트: 작업별 일부 override, maxAttempts = " + policy.getMaxAttempts()
+                + ", maxBackoff = " + policy.getMaxBackoff());
+
+        assertThat(policy.getMaxAttempts()).isEqualTo(8);
+        assertThat(policy.getInitialBackoff()).isEqualTo(Duration.ofMillis(1));
+        assertThat(policy.getMaxBackoff()).isEqualTo(Duration.ofMillis(2));
+        assertThat(policy.getMultiplier()).isEqualTo(2.0);
+        assertThat(properties.policyFor("deposit")).isSameAs(properties.getDefaults());
+    }
+
+    @Test
+    void otherExceptions_areNotRetried() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute("deposit", () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(calls.get()).isEqualTo(1);
+    }
+}
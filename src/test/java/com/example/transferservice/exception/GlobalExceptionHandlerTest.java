@@ -0,0 +1,48 @@
+package com.example.transferservice.exception;
+
+import com.example.transferservice.metrics.TransferMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(new TransferMetrics(new SimpleMeterRegistry()));
+
+    @Test
+    void dataIntegrityViolation_onAccountUniqueKey_isRetryableConflict() {
+        DataIntegrityViolationException ex = violation("accounts.account_number");
+
+        System.out.println("테스트: 계좌번호 유니크 충돌은 409");
+        assertThat(handler.handleDataIntegrityViolation(ex).getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    void dataIntegrityViolation_withoutConstraintName_usesDriverMessage() {
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Duplicate entry '01012345678' for key 'accounts.phone_number'", "23000", 1062));
+
+        System.out.println("테스트: 제약 이름이 없으면 드라이버 메시지로 판단");
+        assertThat(handler.handleDataIntegrityViolation(ex).getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    void dataIntegrityViolation_onOtherConstraint_isServerError() {
+        DataIntegrityViolationException ex = violation("fk_transactions_sender_account");
+
+        System.out.println("테스트: 그 외 제약 위반은 500");
+        assertThat(handler.handleDataIntegrityViolation(ex).getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(handler.handleDataIntegrityViolation(ex).getBody()).containsEntry("message", "요청을 처리하지 못했습니다.");
+    }
+
+    private static DataIntegrityViolationException violation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("constraint violation", new SQLException("violation"), constraintName));
+    }
+}
\ No newline at end of file
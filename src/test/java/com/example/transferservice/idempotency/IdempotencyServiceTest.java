@@ -0,0 +1,150 @@
+package com.example.transferservice.idempotency;
+
+import com.example.transferservice.dto.request.transaction.DepositRequest;
+import com.example.transferservice.dto.response.transaction.TransactionResponse;
+import com.example.transferservice.entity.IdempotencyRecord;
+import com.example.transferservice.entity.Transaction;
+import com.example.transferservice.entity.Transaction.TransactionType;
+import com.example.transferservice.repository.IdempotencyRecordRepository;
+import com.example.transferservice.repository.TransactionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class IdempotencyServiceTest {
+
+    private IdempotencyRecordRepository recordRepository;
+    private TransactionRepository transactionRepository;
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        recordRepository = mock(IdempotencyRecordRepository.class);
+        transactionRepository = mock(TransactionRepository.class);
+        idempotencyService = new IdempotencyService(new IdempotencyProperties(),
+                recordRepository, transactionRepository, new ObjectMapper());
+    }
+
+    @Test
+    void replay_servedFromCache_actionRunsOnce() {
+        DepositRequest request = new DepositRequest(1L, 1_000L);
+        AtomicInteger runs = new AtomicInteger();
+
+        TransactionResponse first = idempotencyService.execute("key-1", "deposit", request,
+                idempotent -> deposit(runs, 10L));
+        TransactionResponse second = idempotencyService.execute("key-1", "deposit", request,
+                idempotent -> deposit(runs, 11L));
+
+        System.out.println("테스트: 같은 키 재요청은 캐시 결과로 응답");
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(second.getId()).isEqualTo(first.getId()).isEqualTo(10L);
+        verify(recordRepository, times(1)).findById("key-1");
+        System.out.println("✅ 재요청 시 실행/DB 조회 없음 확인 완료");
+    }
+
+    @Test
+    void sameKey_differentBody_rejected() {
+        idempotencyService.execute("key-1", "deposit", new DepositRequest(1L, 1_000L),
+                idempotent -> deposit(new AtomicInteger(), 10L));
+
+        assertThatThrownBy(() -> idempotencyService.execute("key-1", "deposit", new DepositRequest(1L, 2_000L),
+                idempotent -> deposit(new AtomicInteger(), 11L)))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("다른 요청");
+    }
+
+    @Test
+    void storedRecord_afterRestart_repliesWithoutRunning() {
+        DepositRequest request = new DepositRequest(1L, 1_000L);
+        AtomicInteger runs = new AtomicInteger();
+        AtomicReference<String> requestHash = new AtomicReference<>();
+        idempotencyService.execute("key-0", "deposit", request, idempotent -> {
+            requestHash.set(idempotent.requestHash());
+            return deposit(runs, 9L);
+        });
+
+        // 새 인스턴스(재기동) : 메모리 캐시는 비어 있고 DB 에 key-1 처리 기록만 존재
+        when(recordRepository.findById("key-1")).thenReturn(Optional.of(IdempotencyRecord.builder()
+                .idempotencyKey("key-1")
+                .operation("deposit")
+                .requestHash(requestHash.get())
+                .transactionId(10L)
+                .createdAt(LocalDateTime.now())
+                .build()));
+        when(transactionRepository.findResponseById(eq(10L), any(), any())).thenReturn(Optional.of(
+                new TransactionResponse(10L, null, 1L, 1_000L, 0L, TransactionType.DEPOSIT, LocalDateTime.now())));
+        idempotencyService = new IdempotencyService(new IdempotencyProperties(),
+                recordRepository, transactionRepository, new ObjectMapper());
+
+        TransactionResponse replayed = idempotencyService.execute("key-1", "deposit", request,
+                idempotent -> deposit(runs, 11L));
+
+        System.out.println("테스트: 재기동 후 DB 기록으로 재응답");
+        assertThat(replayed.getId()).isEqualTo(10L);
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentDuplicates_waitForFirstResult() throws Exception {
+        DepositRequest request = new DepositRequest(1L, 1_000L);
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<TransactionResponse> first = executor.submit(() -> idempotencyService.execute("key-1", "deposit", request,
+                idempotent -> {
+                    started.countDown();
+                    await(release);
+                    return deposit(runs, 10L);
+                }));
+        started.await();
+        Future<TransactionResponse> second = executor.submit(() -> idempotencyService.execute("key-1", "deposit", request,
+                idempotent -> deposit(runs, 11L)));
+
+        // 두 번째 요청은 첫 요청 완료 전까지 대기
+        Thread.sleep(100);
+        assertThat(second.isDone()).isFalse();
+        release.countDown();
+
+        System.out.println("테스트: 동시에 들어온 같은 키 요청은 한 번만 실행");
+        assertThat(first.get(5, TimeUnit.SECONDS).getId()).isEqualTo(10L);
+        assertThat(second.get(5, TimeUnit.SECONDS).getId()).isEqualTo(10L);
+        assertThat(runs.get()).isEqualTo(1);
+        executor.shutdown();
+        System.out.println("✅ 처리 중 중복 요청 대기 후 같은 결과 확인 완료");
+    }
+
+    private Transaction deposit(AtomicInteger runs, Long id) {
+        runs.incrementAndGet();
+        return Transaction.builder()
+                .id(id)
+                .amount(1_000L)
+                .fee(0L)
+                .type(TransactionType.DEPOSIT)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,199 @@
+package com.example.transferservice.ledger;
+
+import com.example.transferservice.entity.Account;
+import com.example.transferservice.entity.Transaction.TransactionType;
+import com.example.transferservice.exception.AccountNotFoundException;
+import com.example.transferservice.exception.DailyLimitExceededException;
+import com.example.transferservice.exception.InsufficientBalanceException;
+import com.example.transferservice.idempotency.IdempotentRequest;
+import com.example.transferservice.repository.AccountDailyUsageRepository;
+import com.example.transferservice.repository.AccountRepository;
+import com.example.transferservice.repository.LedgerCheckpointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LedgerEngineTest {
+
+    @TempDir
+    Path directory;
+
+    private AccountRepository accountRepository;
+    private AccountDailyUsageRepository dailyUsageRepository;
+    private LedgerCheckpointRepository checkpointRepository;
+    private LedgerProperties properties;
+    private LedgerEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository = mock(AccountRepository.class);
+        dailyUsageRepository = mock(AccountDailyUsageRepository.class);
+        checkpointRepository = mock(LedgerCheckpointRepository.class);
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(account(1L, 10_000L)));
+        when(accountRepository.findById(2L)).thenReturn(Optional.of(account(2L, 0L)));
+        when(dailyUsageRepository.findById(any())).thenReturn(Optional.empty());
+        when(checkpointRepository.findLastSeq(LedgerEngine.PROJECTION_CHECKPOINT)).thenReturn(0L);
+
+        properties = new LedgerProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory);
+        properties.setSegmentSize(LedgerOp.RECORD_SIZE * 2L);  // 세그먼트 교체까지 확인
+        engine = startEngine();
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.stop();
+    }
+
+    private LedgerEngine startEngine() {
+        LedgerEngine started = new LedgerEngine(properties, accountRepository, dailyUsageRepository,
+                checkpointRepository, new SimpleMeterRegistry());
+        started.start();
+        return started;
+    }
+
+    private static Account account(long id, long balance) {
+        return Account.builder()
+                .id(id)
+                .balance(balance)
+                .status(Account.AccountStatus.ACTIVE)
+                .balanceSlotCount(0)
+                .build();
+    }
+
+    private static LedgerOp.Key key(String idempotencyKey, String requestHash) {
+        return LedgerOp.Key.of(new IdempotentRequest(idempotencyKey, "deposit", requestHash.repeat(64)));
+    }
+
+    @Test
+    void depositWithdrawTransfer_appliedInMemoryInOrder() {
+        LedgerOp deposit = engine.deposit(1L, 5_000L);
+        LedgerOp withdraw = engine.withdraw(1L, 3_000L);
+        LedgerOp transfer = engine.transfer(1L, 2L, 10_000L, 100L);
+
+        System.out.println("테스트: 입금 → 출금 → 이체 후 잔액 = " + transfer.senderBalanceAfter()
+                + ", 수취 = " + transfer.receiverBalanceAfter());
+        assertThat(List.of(deposit.seq(), withdraw.seq(), transfer.seq())).containsExactly(1L, 2L, 3L);
+        assertThat(deposit.transactionId()).isEqualTo(LedgerOp.ID_BASE + 1);
+        assertThat(transfer.type()).isEqualTo(TransactionType.TRANSFER);
+        assertThat(transfer.senderBalanceAfter()).isEqualTo(1_900L);
+        assertThat(transfer.receiverBalanceAfter()).isEqualTo(10_000L);
+        // 첫 요청에서만 DB 적재
+        verify(accountRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void rejectedRequests_doNotConsumeSequence() {
+        assertThatThrownBy(() -> engine.withdraw(1L, 20_000L))
+                .isInstanceOf(InsufficientBalanceException.class)
+                .hasMessageContaining("잔액이 부족합니다.");
+        assertThatThrownBy(() -> engine.transfer(1L, 2L, 10_000L, 100L))
+                .isInstanceOf(InsufficientBalanceException.class);
+        assertThatThrownBy(() -> engine.deposit(99L, 1_000L))
+                .isInstanceOf(AccountNotFoundException.class);
+
+        LedgerOp op = engine.deposit(1L, 1_000L);
+
+        System.out.println("테스트: 실패 3 건 뒤 첫 성공 순번 = " + op.seq());
+        assertThat(op.seq()).isEqualTo(1L);
+        assertThat(op.receiverBalanceAfter()).isEqualTo(11_000L);
+    }
+
+    @Test
+    void withdraw_dailyLimitCountsEarlierWithdrawals() {
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(account(1L, 5_000_000L)));
+
+        engine.withdraw(1L, 600_000L);
+
+        System.out.println("테스트: 당일 60만원 출금 후 40만원 추가 출금 → 한도 초과");
+        assertThatThrownBy(() -> engine.withdraw(1L, 400_000L))
+                .isInstanceOf(DailyLimitExceededException.class)
+                .hasMessageContaining("일일 출금 한도를 초과했습니다.");
+    }
+
+    @Test
+    void restart_replaysJournalOverDatabaseState() throws Exception {
+        engine.deposit(1L, 5_000L);
+        engine.transfer(1L, 2L, 1_000L, 10L);
+        engine.withdraw(2L, 500L);
+        engine.stop();
+
+        // 스냅샷 없이 DB(미반영) 상태 + 저널 재생만으로 복구
+        Files.deleteIfExists(directory.resolve("snapshot.bin"));
+        engine = startEngine();
+        LedgerOp next = engine.transfer(2L, 1L, 100L, 1L);
+
+        System.out.println("테스트: 재기동 후 다음 순번 = " + next.seq() + ", 잔액 = "
+                + next.senderBalanceAfter() + " / " + next.receiverBalanceAfter());
+        assertThat(next.seq()).isEqualTo(4L);
+        assertThat(next.senderBalanceAfter()).isEqualTo(1_000L - 500L - 101L);
+        assertThat(next.receiverBalanceAfter()).isEqualTo(10_000L + 5_000L - 1_010L + 100L);
+    }
+
+    @Test
+    void restart_fromSnapshotSkipsProjectedJournal() {
+        engine.deposit(1L, 5_000L);
+        engine.deposit(1L, 5_000L);
+        engine.stop();
+
+        // DB 는 1 건까지 반영된 상태 (DB 잔액 15,000), 스냅샷(순번 2) 우선
+        when(checkpointRepository.findLastSeq(LedgerEngine.PROJECTION_CHECKPOINT)).thenReturn(1L);
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(account(1L, 15_000L)));
+        engine = startEngine();
+        LedgerOp next = engine.withdraw(1L, 1_000L);
+
+        System.out.println("테스트: 스냅샷 복구 후 잔액 = " + next.senderBalanceAfter());
+        assertThat(next.seq()).isEqualTo(3L);
+        assertThat(next.senderBalanceAfter()).isEqualTo(19_000L);
+    }
+
+    @Test
+    void sameKey_returnsAppliedOpWithoutNewSequence() {
+        LedgerOp first = engine.deposit(1L, 5_000L, key("key-1", "a"));
+        LedgerOp retry = engine.deposit(1L, 5_000L, key("key-1", "a"));
+        LedgerOp next = engine.deposit(1L, 1_000L);
+
+        System.out.println("테스트: 같은 멱등 키 재요청 → 순번 " + retry.seq() + ", 다음 순번 " + next.seq());
+        assertThat(retry).isEqualTo(first);
+        assertThat(next.seq()).isEqualTo(2L);
+        assertThat(next.receiverBalanceAfter()).isEqualTo(16_000L);
+    }
+
+    @Test
+    void sameKey_differentRequest_rejected() {
+        engine.deposit(1L, 5_000L, key("key-1", "a"));
+
+        System.out.println("테스트: 같은 멱등 키로 다른 요청 → 422");
+        assertThatThrownBy(() -> engine.deposit(1L, 7_000L, key("key-1", "b")))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode())
+                        .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY));
+    }
+
+    @Test
+    void restart_keepsUnprojectedKeysFromJournal() {
+        LedgerOp first = engine.deposit(1L, 5_000L, key("key-1", "a"));
+        engine.stop();
+
+        // 저널에만 있고 DB(ledger_idempotency_keys)에 반영되지 않은 키도 재기동 후 중복으로 걸러짐
+        engine = startEngine();
+        LedgerOp retry = engine.deposit(1L, 5_000L, key("key-1", "a"));
+
+        System.out.println("테스트: 재기동 후 같은 멱등 키 재요청 → 순번 " + retry.seq());
+        assertThat(retry).isEqualTo(first);
+        assertThat(engine.deposit(1L, 1_000L).seq()).isEqualTo(2L);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.example.transferservice.metrics;
+
+import com.example.transferservice.exception.DailyLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TransferMetricsTest {
+
+    @Test
+    void timeOperation_tagsOperationAndOutcome() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TransferMetrics metrics = new TransferMetrics(registry);
+
+        metrics.timeOperation("withdraw", () -> "ok");
+        assertThatThrownBy(() -> metrics.timeOperation("withdraw", () -> {
+            throw new DailyLimitExceededException("limit");
+        })).isInstanceOf(DailyLimitExceededException.class);
+
+        System.out.println("테스트: 처리 결과별 타이머 분리");
+        assertThat(registry.get(TransferMetrics.OPERATION_TIMER)
+                .tags("operation", "withdraw", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get(TransferMetrics.OPERATION_TIMER)
+                .tags("operation", "withdraw", "outcome", "limit_exceeded").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void countHandledException_tagsClassAndStatus() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TransferMetrics metrics = new TransferMetrics(registry);
+
+        metrics.countHandledException(new IllegalStateException("x"), HttpStatus.INTERNAL_SERVER_ERROR);
+
+        System.out.println("테스트: 예외 클래스/상태 코드 태그");
+        assertThat(registry.get(TransferMetrics.ERROR_COUNTER)
+                .tags("exception", "IllegalStateException", "status", "500").counter().count()).isEqualTo(1.0);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.example.transferservice.outbox;
+
+import com.example.transferservice.entity.TransactionOutbox;
+import com.example.transferservice.repository.TransactionOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private TransactionOutboxRepository outboxRepository;
+    private SimpleMeterRegistry registry;
+    private OutboxProperties properties;
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(TransactionOutboxRepository.class);
+        registry = new SimpleMeterRegistry();
+        properties = new OutboxProperties();
+        properties.setBatchSize(2);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    private OutboxRelay newRelay(OutboxEventSink sink) {
+        return new OutboxRelay(outboxRepository, sink, new TransactionTemplate(transactionManager), properties, registry);
+    }
+
+    private static TransactionOutbox row(long transactionId) {
+        return TransactionOutbox.builder()
+                .transactionId(transactionId)
+                .type("DEPOSIT")
+                .receiverAccountId(1L)
+                .amount(1_000L)
+                .fee(0L)
+                .createdAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+
+    @Test
+    void relayPending_publishesBatchesUntilDrained() {
+        List<TransactionEvent> published = new ArrayList<>();
+        when(outboxRepository.claimBatch(eq(2), any()))
+                .thenReturn(List.of(row(1L), row(2L)))
+                .thenReturn(List.of(row(3L)));
+
+        int count = newRelay(published::addAll).relayPending();
+
+        System.out.println("테스트: 가득 찬 배치 뒤 다음 배치까지 발행, 발행 건수 = " + count);
+        assertThat(count).isEqualTo(3);
+        assertThat(published).extracting(TransactionEvent::transactionId).containsExactly(1L, 2L, 3L);
+        verify(outboxRepository).deleteClaimed(eq(List.of(1L, 2L)), anyString());
+        verify(outboxRepository).deleteClaimed(eq(List.of(3L)), anyString());
+        assertThat(registry.get("transfer.outbox.lag").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void relayPending_publishesOutsideTransaction_betweenClaimAndDelete() {
+        OutboxEventSink sink = mock(OutboxEventSink.class);
+        when(outboxRepository.claimBatch(eq(2), any())).thenReturn(List.of(row(1L)));
+
+        newRelay(sink).relayPending();
+
+        System.out.println("테스트: 선점 커밋 → 발행 → 삭제 커밋 순서");
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        InOrder inOrder = inOrder(outboxRepository, transactionManager, sink);
+        inOrder.verify(outboxRepository).markClaimed(eq(List.of(1L)), token.capture(), any());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(sink).publish(any());
+        inOrder.verify(outboxRepository).deleteClaimed(List.of(1L), token.getValue());
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void relayPending_sinkFailure_keepsRows() {
+        when(outboxRepository.claimBatch(eq(2), any())).thenReturn(List.of(row(1L)));
+
+        int count = newRelay(events -> {
+            throw new IllegalStateException("sink down");
+        }).relayPending();
+
+        System.out.println("테스트: 발행 실패 시 삭제하지 않고 선점 해제 (다음 주기 재발행)");
+        assertThat(count).isZero();
+        verify(outboxRepository, never()).deleteClaimed(any(), any());
+        verify(outboxRepository).releaseClaim(eq(List.of(1L)), anyString());
+        assertThat(registry.get("transfer.outbox.failures").counter().count()).isEqualTo(1.0);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.example.transferservice.partition;
+
+import com.example.transferservice.partition.TransactionPartitionManager.Partition;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TransactionPartitionManagerTest {
+
+    private static final List<Partition> PARTITIONS = List.of(
+            new Partition("p_before", LocalDateTime.of(2026, 10, 1, 0, 0)),
+            new Partition("p202610", LocalDateTime.of(2026, 11, 1, 0, 0)),
+            new Partition("p202611", LocalDateTime.of(2026, 12, 1, 0, 0)),
+            new Partition("p_future", null));
+
+    @Test
+    void upcomingDefinitions_startAfterHighestMonthlyPartition() {
+        List<String> definitions = TransactionPartitionManager.upcomingDefinitions(PARTITIONS, YearMonth.of(2027, 1));
+
+        System.out.println("테스트: 2027-01 까지 추가 파티션 = " + definitions);
+        assertThat(definitions).containsExactly(
+                "PARTITION p202612 VALUES LESS THAN ('2027-01-01 00:00:00')",
+                "PARTITION p202701 VALUES LESS THAN ('2027-02-01 00:00:00')");
+        assertThat(TransactionPartitionManager.upcomingDefinitions(PARTITIONS, YearMonth.of(2026, 11))).isEmpty();
+    }
+
+    @Test
+    void expiredPartitions_onlyWhollyBeforeCutoff() {
+        TransactionPartitionProperties properties = new TransactionPartitionProperties();
+        properties.setRetentionMonths(1);
+        LocalDateTime cutoff = properties.retentionStart(LocalDate.of(2026, 12, 15));
+
+        List<Partition> expired = TransactionPartitionManager.expiredPartitions(PARTITIONS, cutoff);
+
+        System.out.println("테스트: 보존 시작 " + cutoff + " 이전 파티션 = " + expired);
+        assertThat(cutoff).isEqualTo(LocalDateTime.of(2026, 11, 1, 0, 0));
+        assertThat(expired).extracting(Partition::name).containsExactly("p_before", "p202610");
+    }
+
+    @Test
+    void lowerBound_onlyWhenArchiveEnabled() {
+        TransactionPartitionProperties properties = new TransactionPartitionProperties();
+        properties.setRetentionMonths(1);
+        LocalDate today = LocalDate.of(2026, 12, 15);
+
+        LocalDateTime archived = properties.lowerBound(today);
+        properties.setArchiveEnabled(false);
+        LocalDateTime kept = properties.lowerBound(today);
+
+        System.out.println("테스트: 조회 하한 archive 사용 = " + archived + ", 미사용 = " + kept);
+        assertThat(archived).isEqualTo(LocalDateTime.of(2026, 11, 1, 0, 0));
+        assertThat(kept).isEqualTo(TransactionPartitionProperties.NO_LOWER_BOUND);
+    }
+
+    @Test
+    void parseBound_readsPartitionDescription() {
+        assertThat(TransactionPartitionManager.parseBound("'2026-11-01 00:00:00'"))
+                .isEqualTo(LocalDateTime.of(2026, 11, 1, 0, 0));
+        assertThat(TransactionPartitionManager.parseBound("MAXVALUE")).isNull();
+    }
+}
\ No newline at end of file
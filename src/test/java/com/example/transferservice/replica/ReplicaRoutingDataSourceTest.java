@@ -0,0 +1,190 @@
+package com.example.transferservice.replica;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 내장 H2 두 개(primary / replica)로 readOnly 트랜잭션 분산 확인
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final PrimaryStickiness stickiness = new PrimaryStickiness(Duration.ofMinutes(1));
+    private ReplicaPool pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    @Test
+    void readOnlyTransaction_readsReplica_writeTransaction_readsPrimary() {
+        DataSource primary = database("primary");
+        Routing routing = routing(primary, Map.of("replica-0", database("replica")));
+
+        String read = routing.readOnly().execute(status -> routing.jdbc().queryForObject("SELECT name FROM node", String.class));
+        String write = routing.readWrite().execute(status -> routing.jdbc().queryForObject("SELECT name FROM node", String.class));
+
+        System.out.println("테스트: readOnly → " + read + ", 읽기/쓰기 → " + write);
+        assertThat(read).isEqualTo("replica");
+        assertThat(write).isEqualTo("primary");
+        assertThat(pool.getStats().getServed().sum()).isEqualTo(1);
+    }
+
+    @Test
+    void readAfterWriteCommit_staysOnPrimary() {
+        DataSource primary = database("primary");
+        Routing routing = routing(primary, Map.of("replica-0", database("replica")));
+
+        routing.readWrite().executeWithoutResult(status -> routing.jdbc().update("UPDATE node SET name = 'primary-updated'"));
+        String read = routing.readOnly().execute(status -> routing.jdbc().queryForObject("SELECT name FROM node", String.class));
+
+        System.out.println("테스트: 쓰기 커밋 직후 readOnly → " + read);
+        assertThat(stickiness.isPinned()).isTrue();
+        assertThat(read).isEqualTo("primary-updated");
+    }
+
+    @Test
+    void pinnedUntilFromPreviousRequest_readsPrimaryOnAnotherThread() throws Exception {
+        DataSource primary = database("primary");
+        Routing routing = routing(primary, Map.of("replica-0", database("replica")));
+        AtomicLong issued = new AtomicLong();
+
+        // 첫 요청 : 쓰기 커밋 → 만료 시각을 클라이언트로 전달 (PrimaryStickinessFilter 쿠키)
+        stickiness.begin(0, issued::set);
+        try {
+            routing.readWrite().executeWithoutResult(status -> routing.jdbc().update("UPDATE node SET name = 'primary-updated'"));
+        } finally {
+            stickiness.end();
+        }
+
+        // 다음 요청은 다른 스레드 : 전달받은 만료 시각이 있으면 primary, 없으면 replica
+        Callable<String> read = () -> routing.readOnly().execute(
+                status -> routing.jdbc().queryForObject("SELECT name FROM node", String.class));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            String withCookie = executor.submit(() -> inRequest(issued.get(), read)).get();
+            String withoutCookie = executor.submit(() -> inRequest(0, read)).get();
+
+            System.out.println("테스트: 다음 요청 readOnly → 쿠키 있음 " + withCookie + ", 없음 " + withoutCookie);
+            assertThat(issued.get()).isGreaterThan(System.currentTimeMillis());
+            assertThat(withCookie).isEqualTo("primary-updated");
+            assertThat(withoutCookie).isEqualTo("replica");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void primaryReadTransaction_readsPrimary() {
+        DataSource primary = database("primary");
+        Routing routing = routing(primary, Map.of("replica-0", database("replica")));
+        TransactionTemplate cacheFill = new TransactionTemplate(routing.readOnly().getTransactionManager());
+        cacheFill.setReadOnly(true);
+        cacheFill.setName(ReplicaRoutingDataSource.PRIMARY_READ_PREFIX + "cacheFill");
+
+        String read = cacheFill.execute(status -> routing.jdbc().queryForObject("SELECT name FROM node", String.class));
+
+        System.out.println("테스트: 캐시 적재용 readOnly → " + read);
+        assertThat(read).isEqualTo("primary");
+        assertThat(pool.getStats().getServed().sum()).isZero();
+    }
+
+    @Test
+    void unhealthyReplica_fallsBackToPrimary() throws SQLException {
+        DataSource down = mock(DataSource.class);
+        when(down.getConnection()).thenThrow(new SQLException("replica down"));
+        DataSource primary = database("primary");
+        Routing routing = routing(primary, Map.of("replica-0", down));
+
+        String read = routing.readOnly().execute(status -> routing.jdbc().queryForObject("SELECT name FROM node", String.class));
+
+        System.out.println("테스트: replica 장애 시 readOnly → " + read + ", 상태 = " + pool.status());
+        assertThat(read).isEqualTo("primary");
+        assertThat(pool.status()).containsEntry("replica-0", false);
+        assertThat(pool.getStats().getUnavailable().sum()).isEqualTo(1);
+    }
+
+    @Test
+    void roundRobin_skipsReplicaMarkedDownByHealthCheck() throws SQLException {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", database("replica-0"));
+        DataSource replica1 = spy(database("replica-1"));
+        replicas.put("replica-1", replica1);
+        Routing routing = routing(database("primary"), replicas);
+
+        String first = routing.readOnly().execute(status -> routing.jdbc().queryForObject("SELECT name FROM node", String.class));
+        String second = routing.readOnly().execute(status -> routing.jdbc().queryForObject("SELECT name FROM node", String.class));
+        assertThat(first).isNotEqualTo(second);
+
+        // replica-1 중단 → health check 로 제외, 이후 replica-0 만 사용
+        doThrow(new SQLException("replica down")).when(replica1).getConnection();
+        pool.checkHealth();
+        String third = routing.readOnly().execute(status -> routing.jdbc().queryForObject("SELECT name FROM node", String.class));
+        String fourth = routing.readOnly().execute(status -> routing.jdbc().queryForObject("SELECT name FROM node", String.class));
+
+        System.out.println("테스트: round-robin " + first + ", " + second + " / replica-1 제외 후 " + third + ", " + fourth);
+        assertThat(pool.status()).containsEntry("replica-0", true).containsEntry("replica-1", false);
+        assertThat(third).isEqualTo("replica-0");
+        assertThat(fourth).isEqualTo("replica-0");
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    private record Routing(JdbcTemplate jdbc, TransactionTemplate readOnly, TransactionTemplate readWrite) {
+    }
+
+    private String inRequest(long pinnedUntil, Callable<String> read) throws Exception {
+        stickiness.begin(pinnedUntil, until -> {
+        });
+        try {
+            return read.call();
+        } finally {
+            stickiness.end();
+        }
+    }
+
+    private Routing routing(DataSource primary, Map<String, DataSource> replicas) {
+        pool = new ReplicaPool(replicas, Duration.ZERO, Duration.ofSeconds(1));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, pool, stickiness));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(stickiness);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return new Routing(new JdbcTemplate(dataSource), readOnly, new TransactionTemplate(transactionManager));
+    }
+
+    // 이름을 한 행으로 가진 내장 H2 (테스트마다 새 DB)
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(64))");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.example.transferservice.service;
+
+import com.example.transferservice.dto.response.account.AccountBalanceAtResponse;
+import com.example.transferservice.entity.Account;
+import com.example.transferservice.entity.AccountBalanceSnapshot;
+import com.example.transferservice.partition.TransactionPartitionProperties;
+import com.example.transferservice.repository.AccountBalanceSnapshotRepository;
+import com.example.transferservice.repository.AccountRepository;
+import com.example.transferservice.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AccountBalanceHistoryServiceTest {
+
+    private AccountRepository accountRepository;
+    private AccountBalanceSlotService balanceSlotService;
+    private AccountBalanceSnapshotRepository snapshotRepository;
+    private TransactionRepository transactionRepository;
+    private AccountBalanceHistoryService historyService;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository = mock(AccountRepository.class);
+        balanceSlotService = mock(AccountBalanceSlotService.class);
+        snapshotRepository = mock(AccountBalanceSnapshotRepository.class);
+        transactionRepository = mock(TransactionRepository.class);
+        historyService = new AccountBalanceHistoryService(accountRepository, balanceSlotService, snapshotRepository,
+                transactionRepository, new TransactionPartitionProperties());
+
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(Account.builder()
+                .id(1L)
+                .balance(50_000L)
+                .status(Account.AccountStatus.ACTIVE)
+                .build()));
+        when(snapshotRepository.findFirstByIdAccountIdAndIdSnapshotAtLessThanEqualOrderByIdSnapshotAtDesc(eq(1L), any()))
+                .thenReturn(Optional.empty());
+        when(snapshotRepository.findFirstByIdAccountIdAndIdSnapshotAtGreaterThanOrderByIdSnapshotAtAsc(eq(1L), any()))
+                .thenReturn(Optional.empty());
+    }
+
+    private static AccountBalanceSnapshot snapshot(LocalDateTime snapshotAt, long balance) {
+        return AccountBalanceSnapshot.builder()
+                .id(AccountBalanceSnapshot.Key.of(1L, snapshotAt))
+                .balance(balance)
+                .createdAt(snapshotAt)
+                .build();
+    }
+
+    @Test
+    void earlierSnapshot_replaysOnlyTransactionsAfterIt() {
+        LocalDateTime snapshotAt = LocalDateTime.now().minusHours(2);
+        LocalDateTime at = snapshotAt.plusMinutes(30);
+        when(snapshotRepository.findFirstByIdAccountIdAndIdSnapshotAtLessThanEqualOrderByIdSnapshotAtDesc(1L, at))
+                .thenReturn(Optional.of(snapshot(snapshotAt, 10_000L)));
+        when(transactionRepository.sumBalanceChange(1L, snapshotAt, at)).thenReturn(-3_000L);
+
+        AccountBalanceAtResponse response = historyService.getBalanceAt(1L, at);
+
+        System.out.println("테스트: 스냅샷 10,000 + 이후 증감 -3,000 = " + response.getBalance());
+        assertThat(response.getBalance()).isEqualTo(7_000L);
+        assertThat(response.getSnapshotAt()).isEqualTo(snapshotAt);
+        verify(transactionRepository, never()).sumArchivedBalanceChange(any(), any(), any());
+    }
+
+    @Test
+    void noEarlierSnapshot_replaysBackwardFromNextSnapshot() {
+        LocalDateTime at = LocalDateTime.now().minusHours(2);
+        LocalDateTime snapshotAt = at.plusHours(1);
+        when(snapshotRepository.findFirstByIdAccountIdAndIdSnapshotAtGreaterThanOrderByIdSnapshotAtAsc(1L, at))
+                .thenReturn(Optional.of(snapshot(snapshotAt, 10_000L)));
+        when(transactionRepository.sumBalanceChange(1L, at, snapshotAt)).thenReturn(4_000L);
+
+        AccountBalanceAtResponse response = historyService.getBalanceAt(1L, at);
+
+        System.out.println("테스트: 다음 스냅샷 10,000 - 사이 증감 4,000 = " + response.getBalance());
+        assertThat(response.getBalance()).isEqualTo(6_000L);
+    }
+
+    @Test
+    void noSnapshot_derivesFromCurrentBalance() {
+        LocalDateTime at = LocalDateTime.now().minusMinutes(10);
+        when(balanceSlotService.totalBalance(any())).thenReturn(50_000L);
+        when(transactionRepository.sumBalanceChange(eq(1L), eq(at), any())).thenReturn(20_000L);
+
+        AccountBalanceAtResponse response = historyService.getBalanceAt(1L, at);
+
+        System.out.println("테스트: 스냅샷 없음 → 현재 잔액 50,000 - 이후 증감 20,000 = " + response.getBalance());
+        assertThat(response.getBalance()).isEqualTo(30_000L);
+        assertThat(response.getSnapshotAt()).isNull();
+    }
+
+    @Test
+    void futureTime_rejected() {
+        System.out.println("테스트: 미래 시각 조회 → 400");
+        assertThatThrownBy(() -> historyService.getBalanceAt(1L, LocalDateTime.now().plusDays(1)))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("현재 이후 시각의 잔액은 조회할 수 없습니다.");
+    }
+}
\ No newline at end of file
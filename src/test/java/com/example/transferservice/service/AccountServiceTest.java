@@ -1,5 +1,9 @@
 package com.example.transferservice.service;
 
+import com.example.transferservice.accountnumber.AccountNumberAllocator;
+import com.example.transferservice.cache.AccountCacheProperties;
+import com.example.transferservice.cache.AccountChangedEvent;
+import com.example.transferservice.cache.AccountResponseCache;
 import com.example.transferservice.dto.request.account.AccountRequest;
 import com.example.transferservice.dto.response.account.AccountResponse;
 import com.example.transferservice.entity.Account;
@@ -8,6 +12,10 @@ import com.example.transferservice.repository.AccountRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Optional;
@@ -18,12 +26,21 @@ import static org.mockito.Mockito.*;
 class AccountServiceTest {
 
     private AccountRepository accountRepository;
+    private AccountNumberAllocator accountNumberAllocator;
+    private AccountResponseCache accountCache;
+    private ApplicationEventPublisher eventPublisher;
     private AccountService accountService;
 
     @BeforeEach
     void setUp() {
         accountRepository = mock(AccountRepository.class);
-        accountService = new AccountService(accountRepository);
+        accountNumberAllocator = mock(AccountNumberAllocator.class);
+        accountCache = new AccountResponseCache(new AccountCacheProperties());
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        accountService = new AccountService(accountRepository, mock(AccountBalanceSlotService.class), accountNumberAllocator,
+                accountCache, new TransactionTemplate(transactionManager), eventPublisher);
         System.out.println("===== AccountServiceTest 시작 =====");
     }
 
@@ -37,7 +54,7 @@ class AccountServiceTest {
                 .build();
 
         when(accountRepository.findByPhoneNumber(req.getPhoneNumber())).thenReturn(Optional.empty());
-        when(accountRepository.existsByAccountNumber(anyString())).thenReturn(false);
+        when(accountNumberAllocator.nextAccountNumber()).thenReturn("123-123-1234");
 
         Account saved = Account.builder()
                 .id(1L)
@@ -60,6 +77,10 @@ class AccountServiceTest {
         assertThat(resp.getId()).isEqualTo(1L);
         assertThat(resp.getPhoneNumber()).isEqualTo("01011112222");
 
+        ArgumentCaptor<Account> captor = ArgumentCaptor.forClass(Account.class);
+        verify(accountRepository).save(captor.capture());
+        assertThat(captor.getValue().getAccountNumber()).isEqualTo("123-123-1234");
+
         System.out.println("[TEST] createAccount_success 완료 ✅");
     }
 
@@ -111,4 +132,33 @@ class AccountServiceTest {
 
         System.out.println("[TEST] deleteAccount_alreadyDeleted_throws 완료 ✅");
     }
+
+    @Test
+    void getAccountByPhoneNumber_cachedUntilChanged() {
+        System.out.println("[TEST] getAccountByPhoneNumber_cachedUntilChanged 시작");
+
+        Account acc = Account.builder()
+                .id(3L)
+                .phoneNumber("01033334444")
+                .balance(1_000L)
+                .status(AccountStatus.ACTIVE)
+                .build();
+        when(accountRepository.findByPhoneNumber("01033334444")).thenReturn(Optional.of(acc));
+
+        accountService.getAccountByPhoneNumber("01033334444");
+        accountService.getAccountByPhoneNumber("01033334444");
+        verify(accountRepository, times(1)).findByPhoneNumber("01033334444");
+
+        // 잔액 변경 커밋 후 이벤트 → 다음 조회는 DB 에서 다시 읽음
+        acc.setBalance(2_000L);
+        accountCache.onAccountChanged(AccountChangedEvent.of(3L));
+        AccountResponse resp = accountService.getAccountByPhoneNumber("01033334444");
+
+        System.out.println("캐시 적중: " + accountCache.stats().hitCount() + ", 미스: " + accountCache.stats().missCount());
+
+        assertThat(resp.getBalance()).isEqualTo(2_000L);
+        verify(accountRepository, times(2)).findByPhoneNumber("01033334444");
+
+        System.out.println("[TEST] getAccountByPhoneNumber_cachedUntilChanged 완료 ✅");
+    }
 }
\ No newline at end of file
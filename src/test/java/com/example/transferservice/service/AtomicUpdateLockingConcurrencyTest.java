@@ -0,0 +1,10 @@
+package com.example.transferservice.service;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 동시성 테스트 - 조건부 단일 UPDATE
+ */
+@SpringBootTest(properties = "transfer.locking.strategy=atomic")
+class AtomicUpdateLockingConcurrencyTest extends AbstractTransactionServiceConcurrencyTest {
+}
@@ -0,0 +1,10 @@
+package com.example.transferservice.service;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 동시성 테스트 - 비관적 락 (SELECT ... FOR UPDATE)
+ */
+@SpringBootTest(properties = "transfer.locking.strategy=pessimistic")
+class PessimisticLockingConcurrencyTest extends AbstractTransactionServiceConcurrencyTest {
+}
@@ -0,0 +1,146 @@
+package com.example.transferservice.service;
+
+import com.example.transferservice.dto.response.transaction.TransactionResponse;
+import com.example.transferservice.entity.Account;
+import com.example.transferservice.exception.AccountNotFoundException;
+import com.example.transferservice.repository.AccountRepository;
+import com.example.transferservice.repository.TransactionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TransactionExportServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 10, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2026, 10, 2, 0, 0);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private AccountRepository accountRepository;
+    private TransactionRepository transactionRepository;
+    private TransactionExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository = mock(AccountRepository.class);
+        transactionRepository = mock(TransactionRepository.class);
+        exportService = new TransactionExportService(accountRepository, transactionRepository, objectMapper);
+    }
+
+    @Test
+    void export_writesOneJsonObjectPerLine() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(transactionRepository.streamByAccountBetween(1L, FROM, TO))
+                .thenReturn(rows(3).onClose(() -> closed.set(true)));
+        RecordingOutputStream out = new RecordingOutputStream();
+
+        long count = exportService.exportNdjson(1L, FROM, TO, out);
+
+        String body = out.toString(StandardCharsets.UTF_8);
+        System.out.println("테스트: NDJSON 본문 =\n" + body);
+        assertThat(count).isEqualTo(3);
+        assertThat(body).endsWith("\n");
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(3);
+        for (int i = 0; i < lines.length; i++) {
+            JsonNode node = objectMapper.readTree(lines[i]);
+            assertThat(node.get("id").asLong()).isEqualTo(i + 1);
+            assertThat(node.get("type").asText()).isEqualTo("DEPOSIT");
+            assertThat(node.get("createdAt").asText()).isEqualTo("2026-10-01T09:00:00");
+        }
+        assertThat(closed).isTrue();
+        verify(transactionRepository, never()).streamAllBetween(any(), any());
+    }
+
+    @Test
+    void export_flushesFirstRowBeforeReadingTheRest() throws Exception {
+        RecordingOutputStream out = new RecordingOutputStream();
+        List<Integer> flushedBeforeRow = new ArrayList<>();
+        // 두 번째 행을 읽는 시점에 이미 첫 행이 응답으로 내보내졌는지 기록
+        Stream<TransactionResponse> rows = rows(1_200).peek(row -> flushedBeforeRow.add(out.flushedBytes));
+        when(transactionRepository.streamAllBetween(FROM, TO)).thenReturn(rows);
+
+        long count = exportService.exportNdjson(null, FROM, TO, out);
+
+        String firstLine = out.toString(StandardCharsets.UTF_8).split("\n")[0];
+        System.out.println("테스트: 행 수 = " + count + ", flush 횟수 = " + out.flushes);
+        assertThat(count).isEqualTo(1_200);
+        assertThat(flushedBeforeRow.get(0)).isZero();
+        assertThat(flushedBeforeRow.get(1)).isGreaterThanOrEqualTo(firstLine.length());
+        // 첫 행 + 500 행 간격 2 회 + 마지막
+        assertThat(out.flushes).isGreaterThanOrEqualTo(4);
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).hasSize(1_200);
+    }
+
+    @Test
+    void export_emptyResult_writesNothing() throws Exception {
+        when(transactionRepository.streamByAccountBetween(1L, FROM, TO)).thenReturn(Stream.empty());
+        RecordingOutputStream out = new RecordingOutputStream();
+
+        long count = exportService.exportNdjson(1L, FROM, TO, out);
+
+        System.out.println("테스트: 빈 결과 행 수 = " + count + ", 본문 길이 = " + out.size());
+        assertThat(count).isZero();
+        assertThat(out.size()).isZero();
+    }
+
+    @Test
+    void validate_rejectsInvalidPeriodAndUnknownAccount() {
+        when(accountRepository.findByIdAndStatus(2L, Account.AccountStatus.ACTIVE)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> exportService.validate(null, TO, FROM))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> exportService.validate(2L, FROM, TO))
+                .isInstanceOf(AccountNotFoundException.class);
+        assertThatCode(() -> exportService.validate(null, FROM, TO)).doesNotThrowAnyException();
+    }
+
+    // ==============================
+    // Utility Methods
+    // ==============================
+
+    private static Stream<TransactionResponse> rows(int size) {
+        return LongStream.rangeClosed(1, size)
+                .mapToObj(id -> TransactionResponse.builder()
+                        .id(id)
+                        .receiverAccountId(1L)
+                        .amount(1_000L)
+                        .fee(0L)
+                        .type("DEPOSIT")
+                        .createdAt(LocalDateTime.of(2026, 10, 1, 9, 0))
+                        .build());
+    }
+
+    // flush 시점까지 기록된 바이트 수를 남기는 응답 스트림
+    private static class RecordingOutputStream extends ByteArrayOutputStream {
+
+        private int flushes;
+        private int flushedBytes;
+
+        @Override
+        public void flush() {
+            flushes++;
+            flushedBytes = size();
+        }
+    }
+}
\ No newline at end of file
@@ -1,19 +1,59 @@
 package com.example.transferservice.service;
 
+import com.example.transferservice.coalescing.DepositCoalescer;
+import com.example.transferservice.coalescing.DepositCoalescingProperties;
+import com.example.transferservice.concurrency.AccountStripedLock;
+import com.example.transferservice.concurrency.OptimisticLockRetryExecutor;
+import com.example.transferservice.concurrency.RetryProperties;
+import com.example.transferservice.concurrency.StripedLockProperties;
+import com.example.transferservice.dto.request.transaction.DepositRequest;
+import com.example.transferservice.dto.request.transaction.TransactionCursor;
 import com.example.transferservice.dto.request.transaction.TransferRequest;
 import com.example.transferservice.dto.request.transaction.WithdrawRequest;
+import com.example.transferservice.dto.response.common.CursorSlice;
+import com.example.transferservice.dto.response.transaction.TransactionResponse;
+import com.example.transferservice.dto.response.transaction.TransferBatchItemResponse;
+import com.example.transferservice.dto.response.transaction.TransferBatchItemResponse.Status;
 import com.example.transferservice.entity.Account;
 import com.example.transferservice.entity.Transaction;
 import com.example.transferservice.entity.Transaction.TransactionType;
 import com.example.transferservice.exception.AccountNotFoundException;
 import com.example.transferservice.exception.InsufficientBalanceException;
+import com.example.transferservice.ledger.LedgerEngine;
+import com.example.transferservice.metrics.TransferMetrics;
+import com.example.transferservice.outbox.TransactionOutboxWriter;
+import com.example.transferservice.partition.TransactionPartitionProperties;
+import com.example.transferservice.replica.PrimaryStickiness;
+import com.example.transferservice.summary.AccountDailySummaryWriter;
+import com.example.transferservice.repository.AccountBalanceSlotRepository;
+import com.example.transferservice.repository.AccountDailyUsageRepository;
 import com.example.transferservice.repository.AccountRepository;
+import com.example.transferservice.repository.IdempotencyRecordRepository;
+import com.example.transferservice.repository.LedgerIdempotencyRecordRepository;
 import com.example.transferservice.repository.TransactionRepository;
+import com.example.transferservice.service.locking.AccountLockingStrategy;
+import com.example.transferservice.service.locking.AtomicUpdateLockingStrategy;
+import com.example.transferservice.service.locking.OptimisticLockingStrategy;
+import com.example.transferservice.service.locking.PessimisticLockingStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -23,13 +63,44 @@ class TransactionServiceUnitTest {
 
     private AccountRepository accountRepository;
     private TransactionRepository transactionRepository;
+    private AccountDailyUsageRepository dailyUsageRepository;
+    private AccountBalanceSlotRepository slotRepository;
+    private AccountBalanceSlotService balanceSlotService;
+    private Session session;
     private TransactionService transactionService;
 
     @BeforeEach
     void setUp() {
         accountRepository = mock(AccountRepository.class);
         transactionRepository = mock(TransactionRepository.class);
-        transactionService = new TransactionService(accountRepository, transactionRepository);
+        dailyUsageRepository = mock(AccountDailyUsageRepository.class);
+        slotRepository = mock(AccountBalanceSlotRepository.class);
+        balanceSlotService = new AccountBalanceSlotService(accountRepository, slotRepository);
+        session = mock(Session.class);
+        transactionService = newService(new OptimisticLockingStrategy(accountRepository, balanceSlotService));
+    }
+
+    private TransactionService newService(AccountLockingStrategy lockingStrategy) {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        return new TransactionService(accountRepository, transactionRepository, dailyUsageRepository,
+                mock(IdempotencyRecordRepository.class),
+                mock(LedgerIdempotencyRecordRepository.class),
+                mock(TransactionOutboxWriter.class),
+                mock(AccountDailySummaryWriter.class),
+                new TransactionTemplate(transactionManager),
+                entityManager,
+                new OptimisticLockRetryExecutor(new RetryProperties()),
+                new AccountStripedLock(new StripedLockProperties()),
+                lockingStrategy,
+                mock(LedgerEngine.class),
+                new DepositCoalescer(new DepositCoalescingProperties(), new SimpleMeterRegistry(),
+                        new StaticListableBeanFactory().getBeanProvider(PrimaryStickiness.class)),
+                new TransactionPartitionProperties(),
+                mock(ApplicationEventPublisher.class),
+                new TransferMetrics(new SimpleMeterRegistry()));
     }
 
     @Test
@@ -78,6 +149,28 @@ class TransactionServiceUnitTest {
         assertThat(account.getBalance()).isEqualTo(500L);
     }
 
+    @Test
+    void withdraw_dailyLimitExceeded_checksAccumulatedLedger() {
+        Account account = Account.builder()
+                .id(1L)
+                .balance(5_000_000L)
+                .status(Account.AccountStatus.ACTIVE)
+                .build();
+        when(accountRepository.findByIdWithOptimisticLock(1L)).thenReturn(Optional.of(account));
+        // 기존 900,000 + 이번 200,000 누적 결과
+        when(dailyUsageRepository.findWithdrawAmount(1L, LocalDate.now())).thenReturn(1_100_000L);
+
+        System.out.println("테스트: 원장 누적 후 일일 출금 한도 초과 → 예외 (트랜잭션 롤백)");
+        assertThatThrownBy(() -> transactionService.withdraw(new WithdrawRequest(1L, 200_000L)))
+                .isInstanceOf(InsufficientBalanceException.class)
+                .hasMessageContaining("일일 출금 한도를 초과했습니다.");
+        InOrder inOrder = inOrder(dailyUsageRepository);
+        inOrder.verify(dailyUsageRepository).addWithdrawAmount(eq(1L), eq(LocalDate.now()), eq(200_000L), any());
+        inOrder.verify(dailyUsageRepository).findWithdrawAmount(1L, LocalDate.now());
+        verify(transactionRepository, never()).save(any(Transaction.class));
+        System.out.println("✅ 예외 발생 확인 완료");
+    }
+
     @Test
     void transfer_feeAndLimits_andBalances() {
         Account sender = Account.builder().id(1L).balance(1_000_000L).status(Account.AccountStatus.ACTIVE).build();
@@ -105,6 +198,7 @@ class TransactionServiceUnitTest {
         assertThat(receiver.getBalance()).isEqualTo(100_000L);
         verify(accountRepository).save(sender);
         verify(accountRepository).save(receiver);
+        verify(dailyUsageRepository).addTransferAmount(eq(1L), eq(LocalDate.now()), eq(100_000L), any());
     }
 
     @Test
@@ -117,4 +211,227 @@ class TransactionServiceUnitTest {
                 .isInstanceOf(AccountNotFoundException.class);
         System.out.println("✅ 예외 발생 확인 완료");
     }
+
+    @Test
+    void getTransactions_mergesSentAndReceived_withNextCursor() {
+        Account account = Account.builder().id(1L).balance(0L).status(Account.AccountStatus.ACTIVE).build();
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0);
+        TransactionResponse sent1 = TransactionResponse.builder().id(5L).createdAt(base.plusMinutes(5)).build();
+        TransactionResponse sent2 = TransactionResponse.builder().id(2L).createdAt(base.plusMinutes(2)).build();
+        TransactionResponse received1 = TransactionResponse.builder().id(4L).createdAt(base.plusMinutes(4)).build();
+        TransactionResponse received2 = TransactionResponse.builder().id(1L).createdAt(base.plusMinutes(1)).build();
+
+        when(accountRepository.findByIdAndStatus(1L, Account.AccountStatus.ACTIVE)).thenReturn(Optional.of(account));
+        when(transactionRepository.findFirstPageBySender(eq(1L), any(), any())).thenReturn(List.of(sent1, sent2));
+        when(transactionRepository.findFirstPageByReceiver(eq(1L), any(), any())).thenReturn(List.of(received1, received2));
+
+        CursorSlice<TransactionResponse> slice = transactionService.getTransactions(1L, null, 3);
+
+        System.out.println("테스트: 출금/입금 내역 병합 + 다음 커서");
+        System.out.println("조회 ID: " + slice.getContent().stream().map(TransactionResponse::getId).toList());
+        System.out.println("다음 커서: " + slice.getNextCursor());
+
+        assertThat(slice.getContent()).extracting(TransactionResponse::getId).containsExactly(5L, 4L, 2L);
+        TransactionCursor next = TransactionCursor.decode(slice.getNextCursor());
+        assertThat(next.getId()).isEqualTo(2L);
+        assertThat(next.getCreatedAt()).isEqualTo(base.plusMinutes(2));
+    }
+
+    @Test
+    void getAllTransactions_invalidCursor_throws() {
+        System.out.println("테스트: 잘못된 커서");
+        assertThatThrownBy(() -> transactionService.getAllTransactions("not-a-cursor", 10))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("유효하지 않은 커서입니다.");
+        System.out.println("✅ 예외 발생 확인 완료");
+    }
+
+    @Test
+    void atomicWithdraw_noRowsUpdated_activeAccount_throwsInsufficientBalance() {
+        transactionService = newService(new AtomicUpdateLockingStrategy(accountRepository, balanceSlotService));
+        when(accountRepository.debitIfSufficient(eq(1L), eq(500L), any())).thenReturn(0);
+        when(accountRepository.lockBalanceSlotCountIfActive(1L)).thenReturn(Optional.of(0));
+
+        System.out.println("테스트: ATOMIC 모드 잔액 부족 (영향 행 0)");
+        assertThatThrownBy(() -> transactionService.withdraw(new WithdrawRequest(1L, 500L)))
+                .isInstanceOf(InsufficientBalanceException.class)
+                .hasMessageContaining("잔액이 부족합니다.");
+        verify(accountRepository, never()).findByIdWithOptimisticLock(any());
+        verify(slotRepository, never()).sumBalanceForUpdate(any());
+        verify(dailyUsageRepository, never()).addWithdrawAmount(anyLong(), any(), anyLong(), any());
+        System.out.println("✅ 예외 발생 확인 완료");
+    }
+
+    @Test
+    void atomicTransfer_updatesInAscendingIdOrder() {
+        transactionService = newService(new AtomicUpdateLockingStrategy(accountRepository, balanceSlotService));
+        when(accountRepository.debitIfSufficient(eq(2L), anyLong(), any())).thenReturn(1);
+        when(accountRepository.creditIfActive(eq(1L), anyLong(), any())).thenReturn(1);
+        when(transactionRepository.save(any(Transaction.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        Transaction tx = transactionService.transfer(new TransferRequest(2L, 1L, 10_000L));
+
+        System.out.println("테스트: ATOMIC 모드 이체 (수취 계좌 id 가 더 작음)");
+        InOrder inOrder = inOrder(accountRepository);
+        inOrder.verify(accountRepository).creditIfActive(eq(1L), eq(10_000L), any());
+        inOrder.verify(accountRepository).debitIfSufficient(eq(2L), eq(10_100L), any());
+        verify(dailyUsageRepository).addTransferAmount(eq(2L), any(), eq(10_000L), any());
+        assertThat(tx.getFee()).isEqualTo(100L);
+    }
+
+    @Test
+    void pessimisticTransfer_locksAccountsInAscendingIdOrder() {
+        transactionService = newService(new PessimisticLockingStrategy(accountRepository, balanceSlotService));
+        Account sender = Account.builder().id(2L).balance(100_000L).status(Account.AccountStatus.ACTIVE).build();
+        Account receiver = Account.builder().id(1L).balance(0L).status(Account.AccountStatus.ACTIVE).build();
+        when(accountRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(sender));
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(receiver));
+        when(transactionRepository.save(any(Transaction.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        transactionService.transfer(new TransferRequest(2L, 1L, 10_000L));
+
+        System.out.println("테스트: PESSIMISTIC 모드 이체 잠금 순서");
+        InOrder inOrder = inOrder(accountRepository);
+        inOrder.verify(accountRepository).findByIdForUpdate(1L);
+        inOrder.verify(accountRepository).findByIdForUpdate(2L);
+        assertThat(sender.getBalance()).isEqualTo(100_000L - 10_000L - 100L);
+        assertThat(receiver.getBalance()).isEqualTo(10_000L);
+    }
+
+    @Test
+    void deposit_toSlottedAccount_creditsSlotOnly() {
+        Account account = Account.builder().id(1L).balance(0L).balanceSlotCount(8)
+                .status(Account.AccountStatus.ACTIVE).build();
+        when(accountRepository.findByIdAndStatus(1L, Account.AccountStatus.ACTIVE)).thenReturn(Optional.of(account));
+        when(slotRepository.addToSlot(eq(1L), anyInt(), eq(500L), any())).thenReturn(1);
+
+        transactionService.deposit(new DepositRequest(1L, 500L));
+
+        System.out.println("테스트: 잔액 분산 계좌 입금은 슬롯 행에만 가산 (조회한 계좌 행으로 판단)");
+        verify(slotRepository).addToSlot(eq(1L), intThat(slot -> slot >= 0 && slot < 8), eq(500L), any());
+        verify(accountRepository, never()).save(any(Account.class));
+        verify(accountRepository, never()).findBalanceSlotCountIfActive(any());
+        assertThat(account.getBalance()).isZero();
+    }
+
+    @Test
+    void deposit_toUnslottedAccount_noSlotQuery() {
+        Account account = Account.builder().id(1L).balance(0L).balanceSlotCount(0)
+                .status(Account.AccountStatus.ACTIVE).build();
+        when(accountRepository.findByIdAndStatus(1L, Account.AccountStatus.ACTIVE)).thenReturn(Optional.of(account));
+
+        transactionService.deposit(new DepositRequest(1L, 500L));
+
+        System.out.println("테스트: 슬롯 미사용 계좌 입금은 슬롯 관련 조회 없음");
+        verify(accountRepository, never()).findBalanceSlotCountIfActive(any());
+        verifyNoInteractions(slotRepository);
+        assertThat(account.getBalance()).isEqualTo(500L);
+    }
+
+    @Test
+    void withdraw_fromSlottedAccount_locksRowThenDrainsSlots() {
+        Account account = Account.builder().id(1L).balance(1_000L).balanceSlotCount(4)
+                .status(Account.AccountStatus.ACTIVE).build();
+        when(accountRepository.findByIdWithOptimisticLock(1L)).thenReturn(Optional.of(account));
+        when(accountRepository.lockBalanceSlotCountIfActive(1L)).thenReturn(Optional.of(4));
+        when(slotRepository.sumBalanceForUpdate(1L)).thenReturn(700L);
+
+        transactionService.withdraw(new WithdrawRequest(1L, 900L));
+
+        System.out.println("테스트: 잔액 분산 계좌 출금 시 계좌 행 잠금 → 슬롯 합산 → 차감");
+        InOrder inOrder = inOrder(slotRepository, accountRepository);
+        inOrder.verify(accountRepository).findByIdWithOptimisticLock(1L);
+        inOrder.verify(accountRepository).lockBalanceSlotCountIfActive(1L);
+        inOrder.verify(slotRepository).sumBalanceForUpdate(1L);
+        inOrder.verify(slotRepository).clearBalances(eq(1L), any());
+        inOrder.verify(accountRepository).save(account);
+        assertThat(account.getBalance()).isEqualTo(800L);
+    }
+
+    @Test
+    void transfer_betweenSlottedAccounts_locksInAscendingAccountOrder() {
+        transactionService = newService(new PessimisticLockingStrategy(accountRepository, balanceSlotService));
+        Account sender = Account.builder().id(2L).balance(0L).balanceSlotCount(4)
+                .status(Account.AccountStatus.ACTIVE).build();
+        Account receiver = Account.builder().id(1L).balance(0L).balanceSlotCount(4)
+                .status(Account.AccountStatus.ACTIVE).build();
+        when(accountRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(sender));
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(receiver));
+        when(accountRepository.lockBalanceSlotCountIfActive(2L)).thenReturn(Optional.of(4));
+        when(slotRepository.sumBalanceForUpdate(2L)).thenReturn(50_000L);
+        when(slotRepository.addToSlot(eq(1L), anyInt(), eq(10_000L), any())).thenReturn(1);
+        when(transactionRepository.save(any(Transaction.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        transactionService.transfer(new TransferRequest(2L, 1L, 10_000L));
+
+        System.out.println("테스트: 슬롯 계좌 간 이체 잠금 순서 (계좌 행 오름차순 → 작은 id 계좌 슬롯 → 큰 id 계좌 슬롯)");
+        InOrder inOrder = inOrder(accountRepository, slotRepository);
+        inOrder.verify(accountRepository).findByIdForUpdate(1L);
+        inOrder.verify(accountRepository).findByIdForUpdate(2L);
+        inOrder.verify(slotRepository).addToSlot(eq(1L), anyInt(), eq(10_000L), any());
+        inOrder.verify(accountRepository).lockBalanceSlotCountIfActive(2L);
+        inOrder.verify(slotRepository).sumBalanceForUpdate(2L);
+        assertThat(sender.getBalance()).isEqualTo(50_000L - 10_000L - 100L);
+        assertThat(receiver.getBalance()).isZero();
+    }
+
+    @Test
+    void transferBatch_returnsPerItemResults_andRollsBackOnlyFailedItems() {
+        Account receiver = Account.builder().id(1L).balance(0L).status(Account.AccountStatus.ACTIVE).build();
+        Account payer = Account.builder().id(2L).balance(100_000L).status(Account.AccountStatus.ACTIVE).build();
+        Account poor = Account.builder().id(3L).balance(100L).status(Account.AccountStatus.ACTIVE).build();
+        Account limited = Account.builder().id(4L).balance(100_000L).status(Account.AccountStatus.ACTIVE).build();
+        when(accountRepository.findByIdAndStatus(1L, Account.AccountStatus.ACTIVE)).thenReturn(Optional.of(receiver));
+        when(accountRepository.findByIdWithOptimisticLock(2L)).thenReturn(Optional.of(payer));
+        when(accountRepository.findByIdWithOptimisticLock(3L)).thenReturn(Optional.of(poor));
+        when(accountRepository.findByIdWithOptimisticLock(4L)).thenReturn(Optional.of(limited));
+        // 기존 2,990,000 + 이번 20,000 누적 결과
+        when(dailyUsageRepository.findTransferAmount(4L, LocalDate.now())).thenReturn(3_010_000L);
+        when(transactionRepository.save(any(Transaction.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        List<TransferBatchItemResponse> results = transactionService.transferBatch(List.of(
+                new TransferRequest(2L, 1L, 10_000L),
+                new TransferRequest(3L, 1L, 50_000L),
+                new TransferRequest(2L, 1L, 5_000L),
+                new TransferRequest(4L, 1L, 20_000L),
+                new TransferRequest(1L, 1L, 1_000L)));
+
+        System.out.println("테스트: 일괄 이체 건별 결과");
+        results.forEach(r -> System.out.println(r.getIndex() + " → " + r.getStatus()));
+        assertThat(results).extracting(TransferBatchItemResponse::getStatus).containsExactly(
+                Status.SUCCESS, Status.INSUFFICIENT_BALANCE, Status.SUCCESS, Status.LIMIT_EXCEEDED, Status.INVALID_REQUEST);
+        assertThat(results.get(0).getTransaction().getFee()).isEqualTo(100L);
+
+        // chunk 계좌 행은 id 오름차순으로 한 번에 잠금
+        verify(accountRepository).lockAllInIdOrder(List.of(1L, 2L, 3L, 4L));
+        // 실패 건만 세이브포인트로 롤백, chunk 재적용 없이 건마다 한 번씩 누적
+        verify(session, times(4)).doReturningWork(any());
+        verify(session, times(2)).doWork(any());
+        verify(dailyUsageRepository, times(1)).addTransferAmount(eq(2L), any(), eq(10_000L), any());
+        verify(dailyUsageRepository, times(1)).addTransferAmount(eq(2L), any(), eq(5_000L), any());
+        verify(dailyUsageRepository, times(1)).addTransferAmount(eq(4L), any(), eq(20_000L), any());
+        verify(dailyUsageRepository, never()).addTransferAmount(eq(3L), any(), anyLong(), any());
+        System.out.println("✅ 실패 건만 롤백하고 나머지 이체 처리 확인 완료");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void transferBatch_splitsChunksByAccountCount() {
+        List<TransferRequest> requests = new ArrayList<>();
+        for (long senderId = 10; senderId < 50; senderId++) {
+            requests.add(new TransferRequest(senderId, 1L, 1_000L));
+        }
+
+        List<TransferBatchItemResponse> results = transactionService.transferBatch(requests);
+
+        System.out.println("테스트: 일괄 이체 chunk 당 잠금 계좌 수 제한");
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(accountRepository, times(2)).lockAllInIdOrder(captor.capture());
+        captor.getAllValues().forEach(ids -> {
+            System.out.println("chunk 계좌 수 → " + ids.size());
+            assertThat(new ArrayList<>(ids)).hasSizeLessThanOrEqualTo(32).isSorted();
+        });
+        assertThat(results).hasSize(40).extracting(TransferBatchItemResponse::getStatus).containsOnly(Status.NOT_FOUND);
+        System.out.println("✅ 계좌 수 상한으로 chunk 분할 확인 완료");
+    }
 }
\ No newline at end of file
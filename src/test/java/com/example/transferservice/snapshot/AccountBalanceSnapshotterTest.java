@@ -0,0 +1,132 @@
+package com.example.transferservice.snapshot;
+
+import com.example.transferservice.ledger.LedgerProjector;
+import com.example.transferservice.repository.AccountBalanceSnapshotRepository;
+import com.example.transferservice.repository.AccountRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * H2(MySQL 모드) + 마이그레이션 스키마에서 스냅샷 쿼리와 잔액 역산 확인
+ */
+class AccountBalanceSnapshotterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 17, 12, 0, 0);
+
+    private JdbcTemplate jdbcTemplate;
+    private LedgerProjector ledgerProjector;
+    private AccountBalanceSnapshotter snapshotter;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:snapshot_" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        AccountRepository accountRepository = mock(AccountRepository.class);
+        when(accountRepository.findMaxId()).thenReturn(3L);
+        AccountBalanceSnapshotRepository snapshotRepository = mock(AccountBalanceSnapshotRepository.class);
+        when(snapshotRepository.findLatestSnapshotAt()).thenAnswer(invocation -> Optional.ofNullable(
+                jdbcTemplate.queryForObject("SELECT MAX(snapshot_at) FROM account_balance_snapshots", LocalDateTime.class)));
+        ledgerProjector = mock(LedgerProjector.class);
+        when(ledgerProjector.projectedUntil()).thenReturn(Optional.empty());
+
+        BalanceSnapshotProperties properties = new BalanceSnapshotProperties();
+        properties.setChunkSize(2);   // 구간 2 개로 나눠 처리
+        properties.setSettleLag(Duration.ofMinutes(1));
+        snapshotter = new AccountBalanceSnapshotter(accountRepository, snapshotRepository, jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)), ledgerProjector, properties);
+
+        // 현재 잔액 : 1 번 10,000 + 슬롯 500, 2 번 5,000, 3 번 7,000 (거래 없음)
+        insertAccount(1L, 10_000L, NOW.minusHours(2));
+        insertAccount(2L, 5_000L, NOW.minusHours(3));
+        insertAccount(3L, 7_000L, NOW.minusHours(3));
+        jdbcTemplate.update("INSERT INTO account_balance_slots (account_id, slot_no, balance, updated_at) VALUES (1, 0, 500, ?)",
+                Timestamp.valueOf(NOW));
+
+        insertTransaction(null, 1L, 3_000L, 0L, "DEPOSIT", NOW.minusHours(1));
+        insertTransaction(null, 1L, 200L, 0L, "DEPOSIT", NOW.minusSeconds(61));
+        insertTransaction(1L, 2L, 1_000L, 10L, "TRANSFER", NOW.minusSeconds(30));   // 기준 시각 이후
+    }
+
+    private void insertAccount(long id, long balance, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO accounts (id, phone_number, account_number, owner_name, balance, status, " +
+                        "created_at, updated_at, version, balance_slot_count) VALUES (?, ?, ?, ?, ?, 'ACTIVE', ?, ?, 0, 0)",
+                id, "0100000000" + id, "100-000-000" + id, "사용자" + id, balance,
+                Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt));
+    }
+
+    private void insertTransaction(Long senderId, Long receiverId, long amount, long fee, String type, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO transactions (sender_account_id, receiver_account_id, amount, fee, type, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", senderId, receiverId, amount, fee, type, Timestamp.valueOf(createdAt));
+    }
+
+    private Map<Long, Long> snapshotsAt(LocalDateTime snapshotAt) {
+        return jdbcTemplate.queryForList("SELECT account_id, balance FROM account_balance_snapshots WHERE snapshot_at = ?",
+                        Timestamp.valueOf(snapshotAt)).stream()
+                .collect(Collectors.toMap(row -> ((Number) row.get("account_id")).longValue(),
+                        row -> ((Number) row.get("balance")).longValue()));
+    }
+
+    @Test
+    void snapshot_derivesBalanceAtSettledTime() {
+        int written = snapshotter.snapshot(NOW);
+
+        Map<Long, Long> balances = snapshotsAt(NOW.minusMinutes(1));
+        System.out.println("테스트: 기준 시각 " + NOW.minusMinutes(1) + " 잔액 = " + balances);
+        assertThat(written).isEqualTo(3);
+        // 슬롯 포함 현재 잔액에서 기준 시각 이후 이체(-1,010 / +1,000)만 되돌림
+        assertThat(balances).containsEntry(1L, 10_500L + 1_010L)
+                .containsEntry(2L, 5_000L - 1_000L)
+                .containsEntry(3L, 7_000L);
+    }
+
+    @Test
+    void snapshot_onlyChangedAccountsAfterPreviousSnapshot() {
+        snapshotter.snapshot(NOW);
+
+        int written = snapshotter.snapshot(NOW.plusMinutes(10));
+
+        Map<Long, Long> balances = snapshotsAt(NOW.plusMinutes(9));
+        System.out.println("테스트: 두 번째 스냅샷 대상 = " + balances);
+        assertThat(written).isEqualTo(2);
+        assertThat(balances).containsOnlyKeys(1L, 2L)
+                .containsEntry(1L, 10_500L)
+                .containsEntry(2L, 5_000L);
+    }
+
+    @Test
+    void snapshot_ledgerProjectionLag_clampsToProjectedTime() {
+        // 원장 모드에서 11:30:00.4 생성 작업까지만 DB 에 반영된 상태
+        when(ledgerProjector.projectedUntil()).thenReturn(Optional.of(NOW.minusMinutes(30).plusNanos(400_000_000)));
+
+        snapshotter.snapshot(NOW);
+
+        LocalDateTime clamped = NOW.minusMinutes(30).minusSeconds(1);
+        Map<Long, Long> balances = snapshotsAt(clamped);
+        System.out.println("테스트: 반영 지연 중 기준 시각 = " + clamped + ", 잔액 = " + balances);
+        assertThat(snapshotsAt(NOW.minusMinutes(1))).isEmpty();
+        assertThat(balances).containsEntry(1L, 10_500L - 200L + 1_010L);
+    }
+}
\ No newline at end of file
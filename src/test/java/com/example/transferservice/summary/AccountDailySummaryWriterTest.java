@@ -0,0 +1,80 @@
+package com.example.transferservice.summary;
+
+import com.example.transferservice.entity.Account;
+import com.example.transferservice.entity.Transaction;
+import com.example.transferservice.entity.Transaction.TransactionType;
+import com.example.transferservice.repository.AccountDailySummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+class AccountDailySummaryWriterTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2026, 10, 17, 12, 0);
+
+    private AccountDailySummaryRepository summaryRepository;
+    private DailySummaryProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        summaryRepository = mock(AccountDailySummaryRepository.class);
+        properties = new DailySummaryProperties();
+    }
+
+    private static Transaction tx(Long senderId, Long receiverId, long amount, long fee, TransactionType type) {
+        return Transaction.builder()
+                .senderAccount(senderId != null ? Account.builder().id(senderId).build() : null)
+                .receiverAccount(receiverId != null ? Account.builder().id(receiverId).build() : null)
+                .amount(amount)
+                .fee(fee)
+                .type(type)
+                .createdAt(NOON)
+                .build();
+    }
+
+    @Test
+    void transfer_addsOutAndFeeToSender_inToReceiver_inAccountIdOrder() {
+        AccountDailySummaryWriter writer = new AccountDailySummaryWriter(summaryRepository, properties);
+
+        writer.append(tx(2L, 1L, 10_000L, 100L, TransactionType.TRANSFER));
+
+        System.out.println("테스트: 2 → 1 이체는 계좌 1(수취), 2(송금) 순으로 누적");
+        InOrder order = inOrder(summaryRepository);
+        order.verify(summaryRepository).addActivity(eq(1L), eq(NOON.toLocalDate()),
+                eq(0L), eq(0L), eq(0L), eq(0L), eq(10_000L), eq(1L), eq(0L), eq(0L), eq(0L), any());
+        order.verify(summaryRepository).addActivity(eq(2L), eq(NOON.toLocalDate()),
+                eq(0L), eq(0L), eq(0L), eq(0L), eq(0L), eq(0L), eq(10_000L), eq(1L), eq(100L), any());
+    }
+
+    @Test
+    void sameAccountAndDay_mergedIntoOneUpsert() {
+        AccountDailySummaryWriter writer = new AccountDailySummaryWriter(summaryRepository, properties);
+
+        writer.appendAll(List.of(
+                tx(null, 1L, 1_000L, 0L, TransactionType.DEPOSIT),
+                tx(null, 1L, 2_000L, 0L, TransactionType.DEPOSIT),
+                tx(1L, null, 500L, 0L, TransactionType.WITHDRAW)));
+
+        System.out.println("테스트: 같은 계좌/일자 거래 3 건 → upsert 1 회");
+        verify(summaryRepository, times(1)).addActivity(eq(1L), eq(LocalDate.of(2026, 10, 17)),
+                eq(3_000L), eq(2L), eq(500L), eq(1L), eq(0L), eq(0L), eq(0L), eq(0L), eq(0L), any());
+        verifyNoMoreInteractions(summaryRepository);
+    }
+
+    @Test
+    void disabled_writesNothing() {
+        properties.setEnabled(false);
+        AccountDailySummaryWriter writer = new AccountDailySummaryWriter(summaryRepository, properties);
+
+        writer.append(tx(null, 1L, 1_000L, 0L, TransactionType.DEPOSIT));
+
+        System.out.println("테스트: transfer.daily-summary.enabled=false 면 기록 없음");
+        verifyNoInteractions(summaryRepository);
+    }
+}
\ No newline at end of file